@@ -15,12 +15,16 @@
  */
 package retrofit2.adapter.guava;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
 import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Nullable;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
@@ -50,13 +54,31 @@ import retrofit2.Retrofit;
  *   <li>Response wrapped body (e.g., {@code ListenableFuture<Response<User>>}) returns a {@link
  *       Response} object for all HTTP responses and sets {@link IOException} for network errors
  * </ul>
+ *
+ * <p>Futures are completed directly on the thread which delivers the response, so listeners added
+ * with {@link com.google.common.util.concurrent.MoreExecutors#directExecutor() directExecutor()}
+ * run without a thread hop. Use {@link #createWithExecutor(Executor)} to complete them on another
+ * executor instead. Canceling a future cancels its call, and a call which is canceled (such as by
+ * {@link okhttp3.Dispatcher#cancelAll()}) cancels its future.
  */
 public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance which completes futures on the thread which delivers the response. */
   public static GuavaCallAdapterFactory create() {
-    return new GuavaCallAdapterFactory();
+    return new GuavaCallAdapterFactory(directExecutor());
   }
 
-  private GuavaCallAdapterFactory() {}
+  /** Create an instance which completes futures on {@code executor}. */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static GuavaCallAdapterFactory createWithExecutor(Executor executor) {
+    if (executor == null) throw new NullPointerException("executor == null");
+    return new GuavaCallAdapterFactory(executor);
+  }
+
+  private final Executor executor;
+
+  private GuavaCallAdapterFactory(Executor executor) {
+    this.executor = executor;
+  }
 
   @Override
   public @Nullable CallAdapter<?, ?> get(
@@ -73,7 +95,7 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
 
     if (getRawType(innerType) != Response.class) {
       // Generic type is not Response<T>. Use it for body-only adapter.
-      return new BodyCallAdapter<>(innerType);
+      return new BodyCallAdapter<>(innerType, executor);
     }
 
     // Generic type is Response<T>. Extract T and create the Response version of the adapter.
@@ -82,14 +104,16 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
           "Response must be parameterized" + " as Response<Foo> or Response<? extends Foo>");
     }
     Type responseType = getParameterUpperBound(0, (ParameterizedType) innerType);
-    return new ResponseCallAdapter<>(responseType);
+    return new ResponseCallAdapter<>(responseType, executor);
   }
 
   private static final class BodyCallAdapter<R> implements CallAdapter<R, ListenableFuture<R>> {
     private final Type responseType;
+    private final Executor executor;
 
-    BodyCallAdapter(Type responseType) {
+    BodyCallAdapter(Type responseType, Executor executor) {
       this.responseType = responseType;
+      this.executor = executor;
     }
 
     @Override
@@ -99,22 +123,22 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
 
     @Override
     public ListenableFuture<R> adapt(final Call<R> call) {
-      CallCancelListenableFuture<R> future = new CallCancelListenableFuture<>(call);
+      CallCancelListenableFuture<R> future = new CallCancelListenableFuture<>(call, executor);
 
       call.enqueue(
           new Callback<R>() {
             @Override
             public void onResponse(Call<R> call, Response<R> response) {
               if (response.isSuccessful()) {
-                future.set(response.body());
+                future.complete(response.body());
               } else {
-                future.setException(new HttpException(response));
+                future.fail(new HttpException(response));
               }
             }
 
             @Override
             public void onFailure(Call<R> call, Throwable t) {
-              future.setException(t);
+              future.fail(t);
             }
           });
 
@@ -125,9 +149,11 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
   private static final class ResponseCallAdapter<R>
       implements CallAdapter<R, ListenableFuture<Response<R>>> {
     private final Type responseType;
+    private final Executor executor;
 
-    ResponseCallAdapter(Type responseType) {
+    ResponseCallAdapter(Type responseType, Executor executor) {
       this.responseType = responseType;
+      this.executor = executor;
     }
 
     @Override
@@ -137,18 +163,19 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
 
     @Override
     public ListenableFuture<Response<R>> adapt(final Call<R> call) {
-      CallCancelListenableFuture<Response<R>> future = new CallCancelListenableFuture<>(call);
+      CallCancelListenableFuture<Response<R>> future =
+          new CallCancelListenableFuture<>(call, executor);
 
       call.enqueue(
           new Callback<R>() {
             @Override
             public void onResponse(Call<R> call, Response<R> response) {
-              future.set(response);
+              future.complete(response);
             }
 
             @Override
             public void onFailure(Call<R> call, Throwable t) {
-              future.setException(t);
+              future.fail(t);
             }
           });
 
@@ -158,24 +185,38 @@ public final class GuavaCallAdapterFactory extends CallAdapter.Factory {
 
   private static final class CallCancelListenableFuture<T> extends AbstractFuture<T> {
     private final Call<?> call;
+    private final Executor executor;
 
-    CallCancelListenableFuture(Call<?> call) {
+    CallCancelListenableFuture(Call<?> call, Executor executor) {
       this.call = call;
+      this.executor = executor;
     }
 
-    @Override
-    public boolean set(T value) {
-      return super.set(value);
+    void complete(@Nullable T value) {
+      execute(() -> set(value));
     }
 
-    @Override
-    public boolean setException(Throwable throwable) {
-      return super.setException(throwable);
+    void fail(Throwable throwable) {
+      if (call.isCanceled()) {
+        cancel(false);
+      } else {
+        execute(() -> setException(throwable));
+      }
+    }
+
+    private void execute(Runnable completion) {
+      try {
+        executor.execute(completion);
+      } catch (RejectedExecutionException e) {
+        setException(e);
+      }
     }
 
     @Override
-    protected void interruptTask() {
-      call.cancel();
+    protected void afterDone() {
+      if (isCancelled()) {
+        call.cancel();
+      }
     }
   }
 }
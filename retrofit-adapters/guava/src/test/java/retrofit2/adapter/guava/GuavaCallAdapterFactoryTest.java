@@ -49,6 +49,16 @@ public final class GuavaCallAdapterFactoryTest {
             .build();
   }
 
+  @Test
+  public void nullExecutorThrows() {
+    try {
+      GuavaCallAdapterFactory.createWithExecutor(null);
+      fail();
+    } catch (NullPointerException e) {
+      assertThat(e).hasMessageThat().isEqualTo("executor == null");
+    }
+  }
+
   @Test
   public void responseType() {
     Type bodyClass = new TypeToken<ListenableFuture<String>>() {}.getType();
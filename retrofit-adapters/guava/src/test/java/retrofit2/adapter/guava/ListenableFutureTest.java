@@ -16,12 +16,20 @@
 package retrofit2.adapter.guava;
 
 import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
+import static okhttp3.mockwebserver.SocketPolicy.NO_RESPONSE;
 import static org.junit.Assert.fail;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Before;
@@ -42,6 +50,7 @@ public final class ListenableFutureTest {
     ListenableFuture<Response<String>> response();
   }
 
+  private final OkHttpClient client = new OkHttpClient();
   private Service service;
 
   @Before
@@ -49,6 +58,7 @@ public final class ListenableFutureTest {
     Retrofit retrofit =
         new Retrofit.Builder()
             .baseUrl(server.url("/"))
+            .client(client)
             .addConverterFactory(new StringConverterFactory())
             .addCallAdapterFactory(GuavaCallAdapterFactory.create())
             .build();
@@ -124,4 +134,74 @@ public final class ListenableFutureTest {
       assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
     }
   }
+
+  @Test
+  public void cancelFutureCancelsCall() throws Exception {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    ListenableFuture<String> future = service.body();
+    server.takeRequest();
+    assertThat(future.cancel(false)).isTrue();
+
+    long deadline = System.nanoTime() + SECONDS.toNanos(10);
+    while (client.dispatcher().runningCallsCount() > 0) {
+      if (System.nanoTime() > deadline) throw new AssertionError("Call was not canceled");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void cancelCallCancelsFuture() throws Exception {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    ListenableFuture<Response<String>> future = service.response();
+    server.takeRequest();
+    client.dispatcher().cancelAll();
+
+    try {
+      future.get(10, SECONDS);
+      fail();
+    } catch (CancellationException expected) {
+    }
+    assertThat(future.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void completesOnDeliveringThread() throws Exception {
+    ListenableFuture<String> thread =
+        Futures.transform(
+            service.body(),
+            body -> Thread.currentThread().getName(),
+            MoreExecutors.directExecutor());
+    // Enqueued after the transform is added so that it runs when the future is completed.
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    assertThat(thread.get(10, SECONDS)).startsWith("OkHttp ");
+  }
+
+  @Test
+  public void completesOnExecutor() throws Exception {
+    ExecutorService executor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion"));
+    try {
+      Retrofit retrofit =
+          new Retrofit.Builder()
+              .baseUrl(server.url("/"))
+              .addConverterFactory(new StringConverterFactory())
+              .addCallAdapterFactory(GuavaCallAdapterFactory.createWithExecutor(executor))
+              .build();
+      Service service = retrofit.create(Service.class);
+
+      ListenableFuture<String> thread =
+          Futures.transform(
+              service.body(),
+              body -> Thread.currentThread().getName(),
+              MoreExecutors.directExecutor());
+      server.enqueue(new MockResponse().setBody("Hi"));
+
+      assertThat(thread.get(10, SECONDS)).isEqualTo("completion");
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
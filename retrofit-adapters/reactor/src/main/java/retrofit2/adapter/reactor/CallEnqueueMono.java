@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/** Enqueues a clone of the call for each subscriber so no thread is blocked awaiting a response. */
+final class CallEnqueueMono<T> extends Mono<Response<T>> {
+  private final Call<T> originalCall;
+
+  CallEnqueueMono(Call<T> originalCall) {
+    this.originalCall = originalCall;
+  }
+
+  @Override
+  public void subscribe(CoreSubscriber<? super Response<T>> actual) {
+    // Since Call is a one-shot type, clone it for each new subscriber.
+    Call<T> call = originalCall.clone();
+    CallSubscription<T> subscription = new CallSubscription<>(call, actual);
+    actual.onSubscribe(subscription);
+    if (!subscription.isCancelled()) {
+      call.enqueue(subscription);
+    }
+  }
+
+  /** Holds the response until it is requested, as {@link Operators.MonoSubscriber} does. */
+  private static final class CallSubscription<T>
+      extends Operators.MonoSubscriber<Response<T>, Response<T>> implements Callback<T> {
+    private final Call<?> call;
+
+    CallSubscription(Call<?> call, CoreSubscriber<? super Response<T>> actual) {
+      super(actual);
+      this.call = call;
+    }
+
+    @Override
+    public void onResponse(Call<T> call, Response<T> response) {
+      complete(response);
+    }
+
+    @Override
+    public void onFailure(Call<T> call, Throwable t) {
+      if (isCancelled()) {
+        Operators.onErrorDropped(t, actual.currentContext());
+        return;
+      }
+      actual.onError(t);
+    }
+
+    @Override
+    public void cancel() {
+      super.cancel();
+      call.cancel();
+    }
+  }
+}
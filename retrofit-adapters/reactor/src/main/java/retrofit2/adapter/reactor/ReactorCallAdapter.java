@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+final class ReactorCallAdapter<R> implements CallAdapter<R, Object> {
+  private final Type responseType;
+  private final Scheduler scheduler;
+  private final boolean isBody;
+  private final boolean isFlux;
+
+  ReactorCallAdapter(Type responseType, Scheduler scheduler, boolean isBody, boolean isFlux) {
+    this.responseType = responseType;
+    this.scheduler = scheduler;
+    this.isBody = isBody;
+    this.isFlux = isFlux;
+  }
+
+  @Override
+  public Type responseType() {
+    return responseType;
+  }
+
+  @Override
+  public Object adapt(Call<R> call) {
+    Mono<Response<R>> responseMono = new CallEnqueueMono<>(call);
+    if (!isBody) {
+      return isFlux ? responseMono.flux() : responseMono;
+    }
+    if (!isFlux) {
+      return responseMono.handle(ReactorCallAdapter::body);
+    }
+    return responseMono.flatMapMany(this::elements);
+  }
+
+  private static <R> void body(Response<R> response, SynchronousSink<R> sink) {
+    if (!response.isSuccessful()) {
+      sink.error(new HttpException(response));
+      return;
+    }
+    R body = response.body();
+    if (body != null) {
+      sink.next(body);
+    }
+  }
+
+  /**
+   * Emits each element of the {@code Iterator<T>} body as it is requested. Advancing the iterator
+   * may block reading the response body so it happens on {@link #scheduler}.
+   */
+  private Flux<Object> elements(Response<R> response) {
+    if (!response.isSuccessful()) {
+      return Flux.error(new HttpException(response));
+    }
+    Iterator<?> iterator = (Iterator<?>) response.body();
+    if (iterator == null) {
+      return Flux.empty();
+    }
+    return Flux.generate(
+            () -> iterator,
+            (Iterator<?> state, SynchronousSink<Object> sink) -> {
+              if (state.hasNext()) {
+                sink.next(state.next());
+              } else {
+                sink.complete();
+              }
+              return state;
+            },
+            ReactorCallAdapter::close)
+        .subscribeOn(scheduler);
+  }
+
+  /** Closes the body of an iterator which is canceled or fails before it is exhausted. */
+  private static void close(Iterator<?> iterator) {
+    if (iterator instanceof Closeable) {
+      try {
+        ((Closeable) iterator).close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+}
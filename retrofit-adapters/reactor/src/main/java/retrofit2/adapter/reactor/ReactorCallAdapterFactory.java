@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import retrofit2.CallAdapter;
+import retrofit2.HttpException;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter} which creates Project Reactor publishers.
+ *
+ * <p>Adding this class to {@link Retrofit} allows you to return a {@link Mono} or {@link Flux} from
+ * service methods.
+ *
+ * <pre><code>
+ * interface MyService {
+ *   &#64;GET("user/me")
+ *   Mono&lt;User&gt; getUser()
+ * }
+ * </code></pre>
+ *
+ * The request is sent when the publisher is subscribed to, using {@link retrofit2.Call#enqueue}
+ * so that no thread is blocked waiting for the response. Canceling the subscription cancels the
+ * HTTP call. There are four configurations supported:
+ *
+ * <ul>
+ *   <li>Direct body (e.g., {@code Mono<User>}) emits the deserialized body for 2XX responses and
+ *       signals {@link HttpException} for non-2XX responses and {@link IOException} for network
+ *       errors. A null body completes the {@code Mono} empty.
+ *   <li>Response wrapped body (e.g., {@code Mono<Response<User>>} or {@code
+ *       Flux<Response<User>>}) emits a {@link Response} object for all HTTP responses and signals
+ *       {@link IOException} for network errors.
+ *   <li>Streamed body (e.g., {@code Flux<User>}) emits the elements of the body as they are
+ *       requested. The body is converted with a {@linkplain retrofit2.Converter converter} for
+ *       {@code Iterator<User>}, such as one which decodes newline-delimited JSON, and is read on a
+ *       scheduler which permits blocking. Errors are signaled as for a direct body.
+ * </ul>
+ */
+public final class ReactorCallAdapterFactory extends CallAdapter.Factory {
+  /**
+   * Returns an instance which reads streamed bodies on {@link Schedulers#boundedElastic()}. Calls
+   * are always asynchronous and applying {@code subscribeOn(..)} has no effect on them.
+   */
+  public static ReactorCallAdapterFactory create() {
+    return new ReactorCallAdapterFactory(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Returns an instance which reads streamed bodies on {@code scheduler}. Reading may block so this
+   * should not be a scheduler of non-blocking threads such as {@link Schedulers#parallel()}.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static ReactorCallAdapterFactory createWithScheduler(Scheduler scheduler) {
+    if (scheduler == null) throw new NullPointerException("scheduler == null");
+    return new ReactorCallAdapterFactory(scheduler);
+  }
+
+  private final Scheduler scheduler;
+
+  private ReactorCallAdapterFactory(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public @Nullable CallAdapter<?, ?> get(
+      Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    Class<?> rawType = getRawType(returnType);
+    boolean isFlux = rawType == Flux.class;
+    if (rawType != Mono.class && !isFlux) {
+      return null;
+    }
+
+    String name = isFlux ? "Flux" : "Mono";
+    if (!(returnType instanceof ParameterizedType)) {
+      throw new IllegalStateException(
+          name
+              + " return type must be parameterized"
+              + " as "
+              + name
+              + "<Foo> or "
+              + name
+              + "<? extends Foo>");
+    }
+
+    Type publisherType = getParameterUpperBound(0, (ParameterizedType) returnType);
+    if (getRawType(publisherType) == Response.class) {
+      if (!(publisherType instanceof ParameterizedType)) {
+        throw new IllegalStateException(
+            "Response must be parameterized" + " as Response<Foo> or Response<? extends Foo>");
+      }
+      Type responseType = getParameterUpperBound(0, (ParameterizedType) publisherType);
+      return new ReactorCallAdapter<>(responseType, scheduler, false, isFlux);
+    }
+
+    // Flux elements are streamed from an iterator which decodes the body incrementally.
+    Type responseType =
+        isFlux ? new SingleParameterizedType(Iterator.class, publisherType) : publisherType;
+    return new ReactorCallAdapter<>(responseType, scheduler, true, isFlux);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+}
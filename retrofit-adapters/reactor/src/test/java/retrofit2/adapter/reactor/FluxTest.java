@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import retrofit2.HttpException;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+
+public final class FluxTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Flux<String> lines();
+
+    @GET("/")
+    Flux<Response<String>> response();
+  }
+
+  private final OkHttpClient client = new OkHttpClient();
+  private final LinesConverterFactory linesConverterFactory = new LinesConverterFactory();
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(linesConverterFactory)
+            .addConverterFactory(new StringConverterFactory())
+            .addCallAdapterFactory(ReactorCallAdapterFactory.create())
+            .callFactory(client)
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void bodyElements() {
+    server.enqueue(new MockResponse().setBody("one\ntwo\nthree\n"));
+
+    List<String> lines = service.lines().collectList().block();
+    assertThat(lines).containsExactly("one", "two", "three").inOrder();
+    assertThat(linesConverterFactory.closed.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void bodyEmpty() {
+    server.enqueue(new MockResponse());
+
+    assertThat(service.lines().collectList().block()).isEmpty();
+  }
+
+  @Test
+  public void body404() {
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    try {
+      service.lines().blockLast();
+      fail();
+    } catch (HttpException e) {
+      assertThat(e).hasMessageThat().isEqualTo("HTTP 404 Client Error");
+    }
+  }
+
+  @Test
+  public void bodyTruncated() {
+    server.enqueue(new MockResponse().setBody("one\ntw"));
+
+    try {
+      service.lines().blockLast();
+      fail();
+    } catch (UncheckedIOException expected) {
+    }
+  }
+
+  @Test
+  public void elementsAreEmittedOnDemand() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody("one\ntwo\nthree\n"));
+
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    service.lines().subscribe(subscriber);
+
+    subscriber.request(1);
+    assertThat(subscriber.events.poll(5, TimeUnit.SECONDS)).isEqualTo("one");
+    assertThat(subscriber.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+    subscriber.request(2);
+    assertThat(subscriber.events.poll(5, TimeUnit.SECONDS)).isEqualTo("two");
+    assertThat(subscriber.events.poll(5, TimeUnit.SECONDS)).isEqualTo("three");
+
+    subscriber.request(1);
+    assertThat(subscriber.events.poll(5, TimeUnit.SECONDS)).isEqualTo("complete");
+  }
+
+  @Test
+  public void cancelClosesBody() throws InterruptedException {
+    server.enqueue(
+        new MockResponse().setBody("one\ntwo\n").setSocketPolicy(SocketPolicy.KEEP_OPEN));
+
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    service.lines().subscribe(subscriber);
+    subscriber.request(1);
+    assertThat(subscriber.events.poll(5, TimeUnit.SECONDS)).isEqualTo("one");
+
+    subscriber.cancel();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (linesConverterFactory.closed.get() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(linesConverterFactory.closed.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void cancelBeforeResponseCancelsCall() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    service.lines().subscribe(subscriber);
+    subscriber.request(1);
+
+    List<Call> calls = client.dispatcher().runningCalls();
+    assertThat(calls).hasSize(1);
+    subscriber.cancel();
+    assertThat(calls.get(0).isCanceled()).isTrue();
+  }
+
+  @Test
+  public void responseEmitsOnce() {
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("Nope"));
+
+    List<Response<String>> responses = service.response().collectList().block();
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).code()).isEqualTo(404);
+  }
+
+  /** Records elements and terminal events, requesting only as the test asks. */
+  static final class RecordingSubscriber extends BaseSubscriber<String> {
+    final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      // Request nothing until asked.
+    }
+
+    @Override
+    protected void hookOnNext(String value) {
+      events.add(value);
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      events.add("complete");
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      events.add(throwable);
+    }
+  }
+}
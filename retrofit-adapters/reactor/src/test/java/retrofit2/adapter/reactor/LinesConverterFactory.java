@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/** Converts a body to an iterator of its lines, reading each line when it is requested. */
+final class LinesConverterFactory extends Converter.Factory {
+  final AtomicInteger closed = new AtomicInteger();
+
+  @Override
+  public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+      Type type, Annotation[] annotations, Retrofit retrofit) {
+    if (getRawType(type) != Iterator.class
+        || getParameterUpperBound(0, (ParameterizedType) type) != String.class) {
+      return null;
+    }
+    return LinesIterator::new;
+  }
+
+  private final class LinesIterator implements Iterator<String>, Closeable {
+    private final ResponseBody body;
+    private final BufferedSource source;
+    private boolean exhausted;
+
+    LinesIterator(ResponseBody body) {
+      this.body = body;
+      this.source = body.source();
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (exhausted) return false;
+      try {
+        if (!source.exhausted()) return true;
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      try {
+        return source.readUtf8LineStrict();
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!exhausted) {
+        exhausted = true;
+        closed.incrementAndGet();
+        body.close();
+      }
+    }
+  }
+}
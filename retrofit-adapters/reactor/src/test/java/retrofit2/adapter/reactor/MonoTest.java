@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.reactor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
+import static okhttp3.mockwebserver.SocketPolicy.NO_RESPONSE;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import retrofit2.HttpException;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+
+public final class MonoTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Mono<String> body();
+
+    @GET("/")
+    Mono<Response<String>> response();
+  }
+
+  private final OkHttpClient client = new OkHttpClient();
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(new StringConverterFactory())
+            .addCallAdapterFactory(ReactorCallAdapterFactory.create())
+            .callFactory(client)
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void bodySuccess200() {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    assertThat(service.body().block()).isEqualTo("Hi");
+  }
+
+  @Test
+  public void bodySuccess404() {
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    try {
+      service.body().block();
+      fail();
+    } catch (HttpException e) {
+      assertThat(e).hasMessageThat().isEqualTo("HTTP 404 Client Error");
+    }
+  }
+
+  @Test
+  public void bodyFailure() {
+    server.enqueue(new MockResponse().setSocketPolicy(DISCONNECT_AFTER_REQUEST));
+
+    try {
+      service.body().block();
+      fail();
+    } catch (RuntimeException e) {
+      // Reactor wraps checked exceptions thrown by block().
+      assertThat(e.getCause()).isInstanceOf(IOException.class);
+    }
+  }
+
+  @Test
+  public void responseSuccess200() {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    Response<String> response = service.response().block();
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.body()).isEqualTo("Hi");
+  }
+
+  @Test
+  public void responseSuccess404() {
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    Response<String> response = service.response().block();
+    assertThat(response.isSuccessful()).isFalse();
+  }
+
+  @Test
+  public void eachSubscriptionSendsRequest() {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    server.enqueue(new MockResponse().setBody("Hey"));
+
+    Mono<String> mono = service.body();
+    assertThat(mono.block()).isEqualTo("Hi");
+    assertThat(mono.block()).isEqualTo("Hey");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void disposeCancelsCall() {
+    Disposable disposable = service.body().subscribe();
+    List<Call> calls = client.dispatcher().runningCalls();
+    assertThat(calls).hasSize(1);
+    disposable.dispose();
+    assertThat(calls.get(0).isCanceled()).isTrue();
+  }
+
+  @Test
+  public void failureAfterDisposeIsDropped() throws InterruptedException {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    BlockingQueue<Throwable> dropped = new LinkedBlockingQueue<>();
+    Hooks.onErrorDropped(dropped::add);
+    try {
+      service.body().subscribe().dispose();
+      assertThat(dropped.poll(5, SECONDS)).isInstanceOf(IOException.class);
+    } finally {
+      Hooks.resetOnErrorDropped();
+    }
+  }
+}
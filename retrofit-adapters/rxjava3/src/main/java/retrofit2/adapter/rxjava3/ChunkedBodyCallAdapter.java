@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.rxjava3;
+
+import io.reactivex.rxjava3.core.Emitter;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.lang.reflect.Type;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Response;
+
+/**
+ * Adapts calls to a {@code Flowable<ByteString>} or {@code Flowable<Buffer>} which emits the
+ * response body in chunks. Each chunk is read from the network only once it has been requested,
+ * so a slow subscriber applies backpressure to the connection instead of the body accumulating in
+ * memory. Canceling the subscription closes the body, releasing its connection.
+ */
+final class ChunkedBodyCallAdapter implements CallAdapter<ResponseBody, Flowable<?>> {
+  /** Chunks are at most the size of an okio segment so they can be moved rather than copied. */
+  private static final long CHUNK_SIZE = 8192L;
+
+  private final @Nullable Scheduler scheduler;
+  private final boolean isAsync;
+  private final boolean isBuffer;
+
+  ChunkedBodyCallAdapter(@Nullable Scheduler scheduler, boolean isAsync, boolean isBuffer) {
+    this.scheduler = scheduler;
+    this.isAsync = isAsync;
+    this.isBuffer = isBuffer;
+  }
+
+  @Override
+  public Type responseType() {
+    return ResponseBody.class;
+  }
+
+  @Override
+  public Flowable<?> adapt(Call<ResponseBody> call) {
+    Observable<Response<ResponseBody>> responseObservable =
+        isAsync ? new CallEnqueueObservable<>(call) : new CallExecuteObservable<>(call);
+    if (scheduler != null) {
+      responseObservable = responseObservable.subscribeOn(scheduler);
+    }
+    return RxJavaPlugins.onAssembly(
+        responseObservable.singleOrError().flatMapPublisher(this::chunks));
+  }
+
+  private Flowable<Object> chunks(Response<ResponseBody> response) {
+    if (!response.isSuccessful()) {
+      return Flowable.error(new HttpException(response));
+    }
+    ResponseBody body = response.body();
+    if (body == null) {
+      return Flowable.empty();
+    }
+    Flowable<Object> chunks =
+        Flowable.generate(
+            () -> body,
+            (ResponseBody state, Emitter<Object> emitter) -> {
+              BufferedSource source = state.source();
+              Buffer chunk = new Buffer();
+              if (source.read(chunk, CHUNK_SIZE) == -1L) {
+                emitter.onComplete();
+              } else {
+                emitter.onNext(isBuffer ? chunk : chunk.readByteString());
+              }
+              return state;
+            },
+            ResponseBody::close);
+
+    // Reading a chunk blocks, so requests are moved to the scheduler on which the call is made.
+    // An asynchronous call has no such scheduler and instead reads on the I/O scheduler.
+    if (scheduler != null) {
+      return chunks.subscribeOn(scheduler);
+    }
+    if (isAsync) {
+      return chunks.subscribeOn(Schedulers.io());
+    }
+    return chunks;
+  }
+}
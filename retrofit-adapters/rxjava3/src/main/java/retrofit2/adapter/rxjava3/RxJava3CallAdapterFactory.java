@@ -26,6 +26,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import javax.annotation.Nullable;
+import okio.Buffer;
+import okio.ByteString;
 import retrofit2.CallAdapter;
 import retrofit2.HttpException;
 import retrofit2.Response;
@@ -57,6 +59,12 @@ import retrofit2.Retrofit;
  *   <li>Result wrapped body (e.g., {@code Observable<Result<User>>}) calls {@code onNext} with a
  *       {@link Result} object for all HTTP responses and errors.
  * </ul>
+ *
+ * With {@link #withChunkedStreaming()}, a {@code Flowable<ByteString>} or {@code Flowable<Buffer>}
+ * instead streams the raw response body in chunks. Each chunk is read only when it has been
+ * requested, and canceling closes the body. Annotate the method with {@link
+ * retrofit2.http.Streaming @Streaming} so the body is not read into memory before the first chunk
+ * is emitted. Non-2XX responses are signaled as {@link HttpException}.
  */
 public final class RxJava3CallAdapterFactory extends CallAdapter.Factory {
   /**
@@ -65,7 +73,7 @@ public final class RxJava3CallAdapterFactory extends CallAdapter.Factory {
    * factory.
    */
   public static RxJava3CallAdapterFactory create() {
-    return new RxJava3CallAdapterFactory(null, true);
+    return new RxJava3CallAdapterFactory(null, true, false);
   }
 
   /**
@@ -74,7 +82,7 @@ public final class RxJava3CallAdapterFactory extends CallAdapter.Factory {
    * are made.
    */
   public static RxJava3CallAdapterFactory createSynchronous() {
-    return new RxJava3CallAdapterFactory(null, false);
+    return new RxJava3CallAdapterFactory(null, false, false);
   }
 
   /**
@@ -84,15 +92,27 @@ public final class RxJava3CallAdapterFactory extends CallAdapter.Factory {
   @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
   public static RxJava3CallAdapterFactory createWithScheduler(Scheduler scheduler) {
     if (scheduler == null) throw new NullPointerException("scheduler == null");
-    return new RxJava3CallAdapterFactory(scheduler, false);
+    return new RxJava3CallAdapterFactory(scheduler, false, false);
   }
 
   private final @Nullable Scheduler scheduler;
   private final boolean isAsync;
+  private final boolean chunkedStreaming;
 
-  private RxJava3CallAdapterFactory(@Nullable Scheduler scheduler, boolean isAsync) {
+  private RxJava3CallAdapterFactory(
+      @Nullable Scheduler scheduler, boolean isAsync, boolean chunkedStreaming) {
     this.scheduler = scheduler;
     this.isAsync = isAsync;
+    this.chunkedStreaming = chunkedStreaming;
+  }
+
+  /**
+   * Returns a new factory whose {@code Flowable<ByteString>} and {@code Flowable<Buffer>} return
+   * types emit the raw response body in chunks as they are requested. Without this, those types
+   * emit a single item converted from the whole body like any other body type.
+   */
+  public RxJava3CallAdapterFactory withChunkedStreaming() {
+    return new RxJava3CallAdapterFactory(scheduler, isAsync, true);
   }
 
   @Override
@@ -145,6 +165,10 @@ public final class RxJava3CallAdapterFactory extends CallAdapter.Factory {
       }
       responseType = getParameterUpperBound(0, (ParameterizedType) observableType);
       isResult = true;
+    } else if (chunkedStreaming
+        && isFlowable
+        && (rawObservableType == ByteString.class || rawObservableType == Buffer.class)) {
+      return new ChunkedBodyCallAdapter(scheduler, isAsync, rawObservableType == Buffer.class);
     } else {
       responseType = observableType;
       isBody = true;
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.adapter.rxjava3;
+
+import static com.google.common.truth.Truth.assertThat;
+import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.ByteString;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+public final class FlowableChunkedBodyTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+  @Rule public final RecordingSubscriber.Rule subscriberRule = new RecordingSubscriber.Rule();
+
+  interface Service {
+    @GET("/")
+    @Streaming
+    Flowable<ByteString> byteStrings();
+
+    @GET("/")
+    @Streaming
+    Flowable<Buffer> buffers();
+  }
+
+  private final AtomicBoolean bodyClosed = new AtomicBoolean();
+  private Service service;
+
+  @Before
+  public void setUp() {
+    OkHttpClient client =
+        new OkHttpClient.Builder()
+            .addInterceptor(
+                chain -> {
+                  okhttp3.Response response = chain.proceed(chain.request());
+                  ResponseBody body = response.body();
+                  ForwardingSource source =
+                      new ForwardingSource(body.source()) {
+                        @Override
+                        public void close() throws IOException {
+                          bodyClosed.set(true);
+                          super.close();
+                        }
+                      };
+                  return response
+                      .newBuilder()
+                      .body(
+                          ResponseBody.create(
+                              body.contentType(), body.contentLength(), Okio.buffer(source)))
+                      .build();
+                })
+            .build();
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .client(client)
+            .addConverterFactory(new StringConverterFactory())
+            .addCallAdapterFactory(
+                RxJava3CallAdapterFactory.createSynchronous().withChunkedStreaming())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void byteStringsSuccess200() {
+    ByteString data = randomBytes(20_000);
+    server.enqueue(new MockResponse().setBody(new Buffer().write(data)));
+
+    RecordingSubscriber<ByteString> subscriber = subscriberRule.create();
+    service.byteStrings().subscribe(subscriber);
+
+    Buffer received = new Buffer();
+    while (received.size() < data.size()) {
+      ByteString chunk = subscriber.takeValue();
+      assertThat(chunk.size()).isAtMost(8192);
+      received.write(chunk);
+    }
+    subscriber.assertComplete();
+    assertThat(received.readByteString()).isEqualTo(data);
+    assertThat(bodyClosed.get()).isTrue();
+  }
+
+  @Test
+  public void buffersSuccess200() {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    RecordingSubscriber<Buffer> subscriber = subscriberRule.create();
+    service.buffers().subscribe(subscriber);
+    assertThat(subscriber.takeValue().readUtf8()).isEqualTo("Hi");
+    subscriber.assertComplete();
+  }
+
+  @Test
+  public void bodySuccess404() {
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    RecordingSubscriber<ByteString> subscriber = subscriberRule.create();
+    service.byteStrings().subscribe(subscriber);
+    subscriber.assertError(HttpException.class, "HTTP 404 Client Error");
+  }
+
+  @Test
+  public void bodyEmpty() {
+    server.enqueue(new MockResponse().setResponseCode(204));
+
+    RecordingSubscriber<ByteString> subscriber = subscriberRule.create();
+    service.byteStrings().subscribe(subscriber);
+    subscriber.assertComplete();
+  }
+
+  @Test
+  public void bodyFailure() {
+    server.enqueue(
+        new MockResponse()
+            .setBody(new Buffer().write(randomBytes(100_000)))
+            .setSocketPolicy(DISCONNECT_DURING_RESPONSE_BODY));
+
+    TestSubscriber<ByteString> subscriber = service.byteStrings().test();
+    subscriber.assertError(IOException.class);
+    assertThat(bodyClosed.get()).isTrue();
+  }
+
+  @Test
+  public void chunksAreReadOnRequest() {
+    server.enqueue(new MockResponse().setBody(new Buffer().write(randomBytes(20_000))));
+
+    RecordingSubscriber<ByteString> subscriber = subscriberRule.createWithInitialRequest(1);
+    service.byteStrings().subscribe(subscriber);
+    long received = subscriber.takeValue().size();
+    subscriber.assertNoEvents();
+
+    subscriber.request(1);
+    received += subscriber.takeValue().size();
+    subscriber.assertNoEvents();
+
+    subscriber.request(Long.MAX_VALUE);
+    while (received < 20_000) {
+      received += subscriber.takeValue().size();
+    }
+    subscriber.assertComplete();
+  }
+
+  @Test
+  public void cancelClosesBody() {
+    server.enqueue(new MockResponse().setBody(new Buffer().write(randomBytes(20_000))));
+
+    TestSubscriber<ByteString> subscriber = service.byteStrings().test(1);
+    subscriber.assertValueCount(1).assertNotComplete();
+    assertThat(bodyClosed.get()).isFalse();
+
+    subscriber.cancel();
+    assertThat(bodyClosed.get()).isTrue();
+  }
+
+  @Test
+  public void byteStringsConvertedWholeWithoutChunkedStreaming() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(new ByteStringConverterFactory())
+            .addCallAdapterFactory(RxJava3CallAdapterFactory.createSynchronous())
+            .build();
+    Service service = retrofit.create(Service.class);
+
+    ByteString data = randomBytes(20_000);
+    server.enqueue(new MockResponse().setBody(new Buffer().write(data)));
+
+    RecordingSubscriber<ByteString> subscriber = subscriberRule.create();
+    service.byteStrings().subscribe(subscriber);
+    subscriber.assertValue(data).assertComplete();
+  }
+
+  private static ByteString randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(0).nextBytes(bytes);
+    return ByteString.of(bytes);
+  }
+
+  static final class ByteStringConverterFactory extends Converter.Factory {
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(
+        Type type, Annotation[] annotations, Retrofit retrofit) {
+      if (type != ByteString.class) return null;
+      return (Converter<ResponseBody, ByteString>) ResponseBody::byteString;
+    }
+  }
+}
@@ -27,6 +27,9 @@ import io.reactivex.rxjava3.core.Single;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ByteString;
 import org.junit.Before;
 import org.junit.Test;
 import retrofit2.CallAdapter;
@@ -159,6 +162,36 @@ public class RxJava3CallAdapterFactoryTest {
         .isEqualTo(String.class);
   }
 
+  @Test
+  public void chunkedBodyResponseTypes() {
+    CallAdapter.Factory factory =
+        RxJava3CallAdapterFactory.createSynchronous().withChunkedStreaming();
+    Type fByteString = new TypeToken<Flowable<ByteString>>() {}.getType();
+    assertThat(factory.get(fByteString, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(ResponseBody.class);
+    Type fBuffer = new TypeToken<Flowable<Buffer>>() {}.getType();
+    assertThat(factory.get(fBuffer, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(ResponseBody.class);
+
+    // Other stream types deliver the converted body as a single item.
+    Type oByteString = new TypeToken<Observable<ByteString>>() {}.getType();
+    assertThat(factory.get(oByteString, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(ByteString.class);
+    Type fResponseByteString = new TypeToken<Flowable<Response<ByteString>>>() {}.getType();
+    assertThat(factory.get(fResponseByteString, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(ByteString.class);
+  }
+
+  @Test
+  public void chunkedBodyRequiresOptIn() {
+    Type fByteString = new TypeToken<Flowable<ByteString>>() {}.getType();
+    assertThat(factory.get(fByteString, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(ByteString.class);
+    Type fBuffer = new TypeToken<Flowable<Buffer>>() {}.getType();
+    assertThat(factory.get(fBuffer, NO_ANNOTATIONS, retrofit).responseType())
+        .isEqualTo(Buffer.class);
+  }
+
   @Test
   public void rawBodyTypeThrows() {
     Type observableType = new TypeToken<Observable>() {}.getType();
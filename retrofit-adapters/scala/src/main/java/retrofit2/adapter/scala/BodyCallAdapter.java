@@ -15,20 +15,27 @@
  */
 package retrofit2.adapter.scala;
 
+import static retrofit2.adapter.scala.ScalaCallAdapterFactory.complete;
+
 import java.lang.reflect.Type;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
 import retrofit2.Callback;
 import retrofit2.HttpException;
 import retrofit2.Response;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
+import scala.util.Failure;
+import scala.util.Success;
 
 final class BodyCallAdapter<T> implements CallAdapter<T, Future<T>> {
   private final Type responseType;
+  private final ExecutionContext context;
 
-  BodyCallAdapter(Type responseType) {
+  BodyCallAdapter(Type responseType, ExecutionContext context) {
     this.responseType = responseType;
+    this.context = context;
   }
 
   @Override
@@ -45,15 +52,15 @@ final class BodyCallAdapter<T> implements CallAdapter<T, Future<T>> {
           @Override
           public void onResponse(Call<T> call, Response<T> response) {
             if (response.isSuccessful()) {
-              promise.success(response.body());
+              complete(context, promise, new Success<>(response.body()));
             } else {
-              promise.failure(new HttpException(response));
+              complete(context, promise, new Failure<>(new HttpException(response)));
             }
           }
 
           @Override
           public void onFailure(Call<T> call, Throwable t) {
-            promise.failure(t);
+            complete(context, promise, new Failure<>(t));
           }
         });
 
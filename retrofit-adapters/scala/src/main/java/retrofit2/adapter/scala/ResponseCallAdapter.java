@@ -15,19 +15,26 @@
  */
 package retrofit2.adapter.scala;
 
+import static retrofit2.adapter.scala.ScalaCallAdapterFactory.complete;
+
 import java.lang.reflect.Type;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
 import retrofit2.Callback;
 import retrofit2.Response;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
+import scala.util.Failure;
+import scala.util.Success;
 
 final class ResponseCallAdapter<T> implements CallAdapter<T, Future<Response<T>>> {
   private final Type responseType;
+  private final ExecutionContext context;
 
-  ResponseCallAdapter(Type responseType) {
+  ResponseCallAdapter(Type responseType, ExecutionContext context) {
     this.responseType = responseType;
+    this.context = context;
   }
 
   @Override
@@ -43,12 +50,12 @@ final class ResponseCallAdapter<T> implements CallAdapter<T, Future<Response<T>>
         new Callback<T>() {
           @Override
           public void onResponse(Call<T> call, Response<T> response) {
-            promise.success(response);
+            complete(context, promise, new Success<>(response));
           }
 
           @Override
           public void onFailure(Call<T> call, Throwable t) {
-            promise.failure(t);
+            complete(context, promise, new Failure<>(t));
           }
         });
 
@@ -19,11 +19,16 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Nullable;
 import retrofit2.CallAdapter;
 import retrofit2.Response;
 import retrofit2.Retrofit;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.ExecutionContext$;
 import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.util.Try;
 
 /**
  * A {@linkplain CallAdapter.Factory call adapter} which creates Scala futures.
@@ -47,13 +52,31 @@ import scala.concurrent.Future;
  *   <li>Response wrapped body (e.g., {@code Future<Response<User>>}) returns a {@link Response}
  *       object for all HTTP responses and sets {@link IOException} for network errors
  * </ul>
+ *
+ * <p>Futures are completed on the {@code ExecutionContext.parasitic} context, which runs directly
+ * on the thread that delivers the response. Transformations which also use {@code parasitic} then
+ * run without a thread hop. Use {@link #createWithExecutionContext(ExecutionContext)} to complete
+ * them on another context instead. Scala futures cannot be canceled, but a call which is canceled
+ * (such as by {@link okhttp3.Dispatcher#cancelAll()}) fails its future.
  */
 public final class ScalaCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance which completes futures on the thread which delivers the response. */
   public static ScalaCallAdapterFactory create() {
-    return new ScalaCallAdapterFactory();
+    return new ScalaCallAdapterFactory(ExecutionContext$.MODULE$.parasitic());
+  }
+
+  /** Create an instance which completes futures on {@code context}. */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static ScalaCallAdapterFactory createWithExecutionContext(ExecutionContext context) {
+    if (context == null) throw new NullPointerException("context == null");
+    return new ScalaCallAdapterFactory(context);
   }
 
-  private ScalaCallAdapterFactory() {}
+  private final ExecutionContext context;
+
+  private ScalaCallAdapterFactory(ExecutionContext context) {
+    this.context = context;
+  }
 
   @Override
   public @Nullable CallAdapter<?, ?> get(
@@ -69,7 +92,7 @@ public final class ScalaCallAdapterFactory extends CallAdapter.Factory {
 
     if (getRawType(innerType) != Response.class) {
       // Generic type is not Response<T>. Use it for body-only adapter.
-      return new BodyCallAdapter<>(innerType);
+      return new BodyCallAdapter<>(innerType, context);
     }
 
     if (!(innerType instanceof ParameterizedType)) {
@@ -78,6 +101,15 @@ public final class ScalaCallAdapterFactory extends CallAdapter.Factory {
     }
 
     Type responseType = getParameterUpperBound(0, (ParameterizedType) innerType);
-    return new ResponseCallAdapter<>(responseType);
+    return new ResponseCallAdapter<>(responseType, context);
+  }
+
+  /** Completes {@code promise} with {@code result} on {@code context}. */
+  static <T> void complete(ExecutionContext context, Promise<T> promise, Try<T> result) {
+    try {
+      context.execute(() -> promise.tryComplete(result));
+    } catch (RejectedExecutionException e) {
+      promise.tryFailure(e);
+    }
   }
 }
@@ -21,6 +21,8 @@ import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Before;
@@ -31,6 +33,7 @@ import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.http.GET;
 import scala.concurrent.Await;
+import scala.concurrent.ExecutionContext$;
 import scala.concurrent.Future;
 import scala.concurrent.duration.Duration;
 
@@ -127,4 +130,43 @@ public final class FutureTest {
       assertThat(e).isInstanceOf(IOException.class);
     }
   }
+
+  @Test
+  public void completesOnDeliveringThread() throws Exception {
+    Future<String> thread =
+        service
+            .body()
+            .map(body -> Thread.currentThread().getName(), ExecutionContext$.MODULE$.parasitic());
+    // Enqueued after the transformation is added so that it runs when the future is completed.
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    assertThat(Await.result(thread, Duration.create(5, SECONDS))).startsWith("OkHttp ");
+  }
+
+  @Test
+  public void completesOnExecutionContext() throws Exception {
+    ExecutorService executor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion"));
+    try {
+      Retrofit retrofit =
+          new Retrofit.Builder()
+              .baseUrl(server.url("/"))
+              .addConverterFactory(new StringConverterFactory())
+              .addCallAdapterFactory(
+                  ScalaCallAdapterFactory.createWithExecutionContext(
+                      ExecutionContext$.MODULE$.fromExecutor(executor)))
+              .build();
+      Service service = retrofit.create(Service.class);
+
+      Future<String> thread =
+          service
+              .body()
+              .map(body -> Thread.currentThread().getName(), ExecutionContext$.MODULE$.parasitic());
+      server.enqueue(new MockResponse().setBody("Hi"));
+
+      assertThat(Await.result(thread, Duration.create(5, SECONDS))).isEqualTo("completion");
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
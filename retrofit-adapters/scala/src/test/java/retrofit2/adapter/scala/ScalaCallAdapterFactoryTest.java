@@ -49,6 +49,16 @@ public final class ScalaCallAdapterFactoryTest {
             .build();
   }
 
+  @Test
+  public void nullExecutionContextThrows() {
+    try {
+      ScalaCallAdapterFactory.createWithExecutionContext(null);
+      fail();
+    } catch (NullPointerException e) {
+      assertThat(e).hasMessageThat().isEqualTo("context == null");
+    }
+  }
+
   @Test
   public void responseType() {
     Type bodyClass = new TypeToken<Future<String>>() {}.getType();
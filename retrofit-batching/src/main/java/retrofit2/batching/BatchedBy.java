@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.batching;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Combine concurrent calls to this method into a single call to another method of the same
+ * service. Requires {@link BatchingCallAdapterFactory}.
+ *
+ * <pre><code>
+ * &#64;BatchedBy("users")
+ * &#64;GET("user")
+ * Call&lt;User&gt; user(@Query("id") long id);
+ *
+ * &#64;GET("users")
+ * Call&lt;List&lt;User&gt;&gt; users(@Query("id") List&lt;Long&gt; ids);
+ * </code></pre>
+ *
+ * The annotated method must have a single parameter: the key of the item to fetch. The batch method
+ * must have a single {@link java.util.List List} (or {@link java.util.Collection Collection})
+ * parameter which receives the distinct keys of the batched calls. It must return a {@code Call}
+ * for either a {@code List} of items in the same order as the keys or a {@link java.util.Map Map}
+ * of items by key. A map's key type must accept the annotated method's parameter type since items
+ * are looked up by key equality.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface BatchedBy {
+  /** The name of the batch method. */
+  String value();
+
+  /** Milliseconds to collect calls after the first before sending the batch. */
+  long windowMillis() default 10;
+
+  /** The maximum number of calls in a batch. A full batch is sent immediately. */
+  int maxSize() default 100;
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.batching;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Invocation;
+import retrofit2.Response;
+
+/**
+ * A call to a {@link BatchedBy @BatchedBy} method. Its own request is never sent. Instead its key
+ * is added to the next batch and its result is taken from the batch's response.
+ */
+final class BatchedCall<T> implements Call<T> {
+  private final Call<T> delegate;
+  private final Batcher batcher;
+  private final AtomicBoolean completed = new AtomicBoolean();
+  private volatile boolean canceled;
+
+  @GuardedBy("this")
+  private boolean executed;
+
+  @GuardedBy("this")
+  private @Nullable Callback<T> callback;
+
+  /** The single argument of the invocation, set by the batcher when added. */
+  @Nullable Object key;
+
+  BatchedCall(Call<T> delegate, Batcher batcher) {
+    this.delegate = delegate;
+    this.batcher = batcher;
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    synchronized (this) {
+      if (executed) throw new IllegalStateException("Already executed.");
+      executed = true;
+      this.callback = callback;
+    }
+    if (canceled) {
+      complete(null, new IOException("Canceled"));
+      return;
+    }
+
+    Invocation invocation;
+    try {
+      invocation = delegate.request().tag(Invocation.class);
+      if (invocation == null) {
+        throw new IllegalStateException("Request has no Invocation tag");
+      }
+    } catch (RuntimeException e) {
+      complete(null, e);
+      return;
+    }
+    batcher.add(this, invocation);
+  }
+
+  /** Delivers the result of this call unless it has already completed. */
+  void complete(@Nullable Response<T> response, @Nullable Throwable t) {
+    if (!completed.compareAndSet(false, true)) return;
+    Callback<T> callback;
+    synchronized (this) {
+      callback = this.callback;
+    }
+    if (response != null) {
+      callback.onResponse(this, response);
+    } else {
+      callback.onFailure(this, t);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // Only responses and throwables are offered.
+  public Response<T> execute() throws IOException {
+    BlockingQueue<Object> result = new ArrayBlockingQueue<>(1);
+    enqueue(
+        new Callback<T>() {
+          @Override
+          public void onResponse(Call<T> call, Response<T> response) {
+            result.add(response);
+          }
+
+          @Override
+          public void onFailure(Call<T> call, Throwable t) {
+            result.add(t);
+          }
+        });
+    Object value;
+    try {
+      value = result.take();
+    } catch (InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    if (value instanceof Response) return (Response<T>) value;
+    if (value instanceof IOException) throw (IOException) value;
+    if (value instanceof RuntimeException) throw (RuntimeException) value;
+    if (value instanceof Error) throw (Error) value;
+    throw new RuntimeException((Throwable) value);
+  }
+
+  @Override
+  public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+    if (isExecuted()) {
+      batcher.remove(this);
+      // The batch may already be in flight for other calls so this call completes immediately.
+      complete(null, new IOException("Canceled"));
+    }
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone") // Performing deep clone.
+  @Override
+  public BatchedCall<T> clone() {
+    return new BatchedCall<>(delegate.clone(), batcher);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  @Override
+  public Timeout timeout() {
+    return delegate.timeout();
+  }
+}
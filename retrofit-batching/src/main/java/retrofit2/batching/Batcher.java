@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.batching;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Invocation;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+
+/** Collects the calls to a single {@link BatchedBy @BatchedBy} method into batches. */
+final class Batcher {
+  private final BatchedBy batchedBy;
+  private final Retrofit retrofit;
+  private final ScheduledExecutorService scheduler;
+
+  @GuardedBy("this")
+  private @Nullable BatchMethod batchMethod;
+
+  @GuardedBy("this")
+  private List<BatchedCall<Object>> pending = new ArrayList<>();
+
+  @GuardedBy("this")
+  private @Nullable ScheduledFuture<?> scheduledSend;
+
+  Batcher(BatchedBy batchedBy, Retrofit retrofit, ScheduledExecutorService scheduler) {
+    this.batchedBy = batchedBy;
+    this.retrofit = retrofit;
+    this.scheduler = scheduler;
+  }
+
+  void add(BatchedCall<Object> call, Invocation invocation) {
+    List<BatchedCall<Object>> batch = null;
+    BatchMethod batchMethod;
+    synchronized (this) {
+      try {
+        batchMethod = batchMethod(invocation.method());
+      } catch (RuntimeException e) {
+        call.complete(null, e);
+        return;
+      }
+      call.key = invocation.arguments().get(0);
+      pending.add(call);
+      if (pending.size() >= batchedBy.maxSize()) {
+        batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledSend != null) {
+          scheduledSend.cancel(false);
+          scheduledSend = null;
+        }
+      } else if (pending.size() == 1) {
+        scheduledSend =
+            scheduler.schedule(this::sendPending, batchedBy.windowMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+    if (batch != null) {
+      send(batchMethod, batch);
+    }
+  }
+
+  synchronized void remove(BatchedCall<?> call) {
+    pending.remove(call);
+  }
+
+  @GuardedBy("this")
+  private BatchMethod batchMethod(Method method) {
+    BatchMethod batchMethod = this.batchMethod;
+    if (batchMethod == null) {
+      batchMethod = this.batchMethod = BatchMethod.resolve(retrofit, method, batchedBy.value());
+    }
+    return batchMethod;
+  }
+
+  private void sendPending() {
+    List<BatchedCall<Object>> batch;
+    BatchMethod batchMethod;
+    synchronized (this) {
+      batch = pending;
+      pending = new ArrayList<>();
+      scheduledSend = null;
+      batchMethod = this.batchMethod;
+    }
+    if (!batch.isEmpty()) {
+      send(batchMethod, batch);
+    }
+  }
+
+  private static void send(BatchMethod batchMethod, List<BatchedCall<Object>> batch) {
+    // Calls for the same key share one entry in the batch.
+    Map<Object, List<BatchedCall<Object>>> callsByKey = new LinkedHashMap<>();
+    for (BatchedCall<Object> call : batch) {
+      List<BatchedCall<Object>> calls = callsByKey.get(call.key);
+      if (calls == null) {
+        calls = new ArrayList<>();
+        callsByKey.put(call.key, calls);
+      }
+      calls.add(call);
+    }
+    List<Object> keys = new ArrayList<>(callsByKey.keySet());
+
+    Call<Object> batchCall;
+    try {
+      batchCall = batchMethod.newCall(keys);
+    } catch (RuntimeException e) {
+      for (BatchedCall<Object> call : batch) {
+        call.complete(null, e);
+      }
+      return;
+    }
+    batchCall.enqueue(
+        new Callback<Object>() {
+          @Override
+          public void onResponse(Call<Object> call, Response<Object> response) {
+            try {
+              dispatch(keys, callsByKey, response);
+            } catch (IOException e) {
+              onFailure(call, e);
+            }
+          }
+
+          @Override
+          public void onFailure(Call<Object> call, Throwable t) {
+            for (BatchedCall<Object> batchedCall : batch) {
+              batchedCall.complete(null, t);
+            }
+          }
+        });
+  }
+
+  private static void dispatch(
+      List<Object> keys,
+      Map<Object, List<BatchedCall<Object>>> callsByKey,
+      Response<Object> response)
+      throws IOException {
+    okhttp3.Response raw = response.raw();
+    if (!response.isSuccessful()) {
+      // Retrofit buffers error bodies so each call can be given its own copy.
+      ResponseBody errorBody = response.errorBody();
+      MediaType contentType = errorBody != null ? errorBody.contentType() : null;
+      byte[] bytes = errorBody != null ? errorBody.bytes() : new byte[0];
+      for (List<BatchedCall<Object>> calls : callsByKey.values()) {
+        for (BatchedCall<Object> call : calls) {
+          call.complete(Response.error(ResponseBody.create(contentType, bytes), raw), null);
+        }
+      }
+      return;
+    }
+
+    Object body = response.body();
+    for (int i = 0, size = keys.size(); i < size; i++) {
+      Object key = keys.get(i);
+      Response<Object> itemResponse;
+      if (body instanceof Map && ((Map<?, ?>) body).containsKey(key)) {
+        itemResponse = Response.success(((Map<?, ?>) body).get(key), raw);
+      } else if (body instanceof List && i < ((List<?>) body).size()) {
+        itemResponse = Response.success(((List<?>) body).get(i), raw);
+      } else {
+        itemResponse =
+            Response.error(
+                ResponseBody.create(null, new byte[0]),
+                raw.newBuilder().code(404).message("Not Found").build());
+      }
+      for (BatchedCall<Object> call : callsByKey.get(key)) {
+        call.complete(itemResponse, null);
+      }
+    }
+  }
+
+  /** The method which fetches a batch, resolved from the service of the first call. */
+  static final class BatchMethod {
+    static BatchMethod resolve(Retrofit retrofit, Method method, String name) {
+      if (method.getParameterTypes().length != 1) {
+        throw new IllegalStateException(
+            "@BatchedBy method " + method.getName() + " must have exactly one parameter");
+      }
+      Class<?> service = method.getDeclaringClass();
+      for (Method candidate : service.getMethods()) {
+        if (candidate.getName().equals(name)
+            && candidate.getParameterTypes().length == 1
+            && candidate.getParameterTypes()[0].isAssignableFrom(ArrayList.class)
+            && returnsCallOfListOrMap(candidate)) {
+          checkMapKeyType(method, candidate);
+          return new BatchMethod(retrofit.create(service), candidate);
+        }
+      }
+      throw new IllegalStateException(
+          "No method "
+              + name
+              + " on "
+              + service.getName()
+              + " with a single List parameter which returns a Call of List or Map");
+    }
+
+    private static boolean returnsCallOfListOrMap(Method method) {
+      Type returnType = method.getGenericReturnType();
+      if (!(returnType instanceof ParameterizedType)
+          || ((ParameterizedType) returnType).getRawType() != Call.class) {
+        return false;
+      }
+      Type bodyType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+      if (bodyType instanceof ParameterizedType) {
+        bodyType = ((ParameterizedType) bodyType).getRawType();
+      }
+      return bodyType == List.class || bodyType == Map.class;
+    }
+
+    /**
+     * Items are looked up in a map by key equality, so a map whose keys can never equal the
+     * argument (e.g., {@code String} keys from JSON for a {@code long} ID) would fail every call.
+     */
+    private static void checkMapKeyType(Method method, Method batchMethod) {
+      Type bodyType =
+          ((ParameterizedType) batchMethod.getGenericReturnType()).getActualTypeArguments()[0];
+      if (!(bodyType instanceof ParameterizedType)
+          || ((ParameterizedType) bodyType).getRawType() != Map.class) {
+        return;
+      }
+      Type keyType = ((ParameterizedType) bodyType).getActualTypeArguments()[0];
+      if (keyType instanceof ParameterizedType) {
+        keyType = ((ParameterizedType) keyType).getRawType();
+      }
+      if (!(keyType instanceof Class<?>)) {
+        return; // Wildcards and type variables are not checked.
+      }
+      Class<?> parameterType = boxed(method.getParameterTypes()[0]);
+      if (!((Class<?>) keyType).isAssignableFrom(parameterType)) {
+        throw new IllegalStateException(
+            "@BatchedBy method "
+                + method.getName()
+                + " parameter type "
+                + parameterType.getName()
+                + " cannot be a key of the Map returned by "
+                + batchMethod.getName()
+                + " with key type "
+                + ((Class<?>) keyType).getName());
+      }
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+      if (!type.isPrimitive()) return type;
+      if (type == boolean.class) return Boolean.class;
+      if (type == byte.class) return Byte.class;
+      if (type == char.class) return Character.class;
+      if (type == short.class) return Short.class;
+      if (type == int.class) return Integer.class;
+      if (type == long.class) return Long.class;
+      if (type == float.class) return Float.class;
+      return Double.class;
+    }
+
+    private final Object service;
+    private final Method method;
+
+    private BatchMethod(Object service, Method method) {
+      this.service = service;
+      this.method = method;
+    }
+
+    @SuppressWarnings("unchecked") // Return type checked when resolved.
+    Call<Object> newCall(List<Object> keys) {
+      try {
+        return (Call<Object>) method.invoke(service, keys);
+      } catch (IllegalAccessException e) {
+        throw new AssertionError(e);
+      } catch (InvocationTargetException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        throw new RuntimeException(cause);
+      }
+    }
+  }
+}
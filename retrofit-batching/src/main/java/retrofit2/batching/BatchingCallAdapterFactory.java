@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.batching;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nullable;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter factory} which combines concurrent calls to
+ * methods annotated with {@link BatchedBy @BatchedBy} into calls to their batch method. Each call
+ * receives the item for its key from the batch response. A call whose key is absent from the
+ * response receives a 404 error response. If the batch fails, each call receives the same
+ * failure or error response.
+ *
+ * <p>Add this factory before any others. It decorates the {@link Call} given to the adapter which
+ * would otherwise be used, so batched methods can use every return type.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(BatchingCallAdapterFactory.create())
+ *     .build();
+ * </code></pre>
+ *
+ * <p>Batched calls are always enqueued, so calls to {@link Call#execute()} wait on the calling
+ * thread while the batch runs on the call factory's threads.
+ */
+public final class BatchingCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance which waits for each batch's window on a shared background thread. */
+  public static BatchingCallAdapterFactory create() {
+    return new BatchingCallAdapterFactory(DefaultScheduler.INSTANCE);
+  }
+
+  /** Create an instance which waits for each batch's window using {@code scheduler}. */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static BatchingCallAdapterFactory create(ScheduledExecutorService scheduler) {
+    if (scheduler == null) throw new NullPointerException("scheduler == null");
+    return new BatchingCallAdapterFactory(scheduler);
+  }
+
+  private final ScheduledExecutorService scheduler;
+
+  private BatchingCallAdapterFactory(ScheduledExecutorService scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public @Nullable CallAdapter<?, ?> get(
+      Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    BatchedBy batchedBy = null;
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof BatchedBy) {
+        batchedBy = (BatchedBy) annotation;
+        break;
+      }
+    }
+    if (batchedBy == null) {
+      return null;
+    }
+    if (batchedBy.windowMillis() < 0) {
+      throw new IllegalArgumentException("@BatchedBy windowMillis must be >= 0.");
+    }
+    if (batchedBy.maxSize() < 1) {
+      throw new IllegalArgumentException("@BatchedBy maxSize must be >= 1.");
+    }
+
+    //noinspection unchecked
+    CallAdapter<Object, Object> delegate =
+        (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+    Batcher batcher = new Batcher(batchedBy, retrofit, scheduler);
+    return new CallAdapter<Object, Object>() {
+      @Override
+      public Type responseType() {
+        return delegate.responseType();
+      }
+
+      @Override
+      public Object adapt(Call<Object> call) {
+        return delegate.adapt(new BatchedCall<>(call, batcher));
+      }
+    };
+  }
+
+  /** A lazily-created scheduler for factories which were not given one. */
+  static final class DefaultScheduler {
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "Retrofit Batching Scheduler");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    private DefaultScheduler() {}
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.batching;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Converter;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Query;
+
+public final class BatchingCallAdapterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @BatchedBy(value = "users", windowMillis = 100)
+    @GET("user")
+    Call<String> user(@Query("id") String id);
+
+    @GET("users")
+    Call<List<String>> users(@Query("id") List<String> ids);
+
+    @BatchedBy(value = "usersById", windowMillis = 100)
+    @GET("user")
+    Call<String> userFromMap(@Query("id") String id);
+
+    @GET("users")
+    Call<Map<String, String>> usersById(@Query("id") List<String> ids);
+
+    @BatchedBy(value = "users", windowMillis = 60_000, maxSize = 2)
+    @GET("user")
+    Call<String> userWithMaxSize(@Query("id") String id);
+
+    @BatchedBy(value = "usersByLongId", windowMillis = 100)
+    @GET("user")
+    Call<String> userByLongId(@Query("id") long id);
+
+    @GET("users")
+    Call<Map<String, String>> usersByLongId(@Query("id") List<Long> ids);
+  }
+
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(BatchingCallAdapterFactory.create())
+            .addConverterFactory(new CommaSeparatedConverterFactory())
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void concurrentCallsAreBatched() throws Exception {
+    server.enqueue(new MockResponse().setBody("A,B"));
+
+    RecordingCallback a1 = new RecordingCallback();
+    service.user("a").enqueue(a1);
+    RecordingCallback b = new RecordingCallback();
+    service.user("b").enqueue(b);
+    RecordingCallback a2 = new RecordingCallback();
+    service.user("a").enqueue(a2);
+
+    assertThat(a1.take().body()).isEqualTo("A");
+    assertThat(b.take().body()).isEqualTo("B");
+    assertThat(a2.take().body()).isEqualTo("A");
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getPath()).isEqualTo("/users?id=a&id=b");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void executeIsBatched() throws Exception {
+    server.enqueue(new MockResponse().setBody("A"));
+
+    Response<String> response = service.user("a").execute();
+    assertThat(response.body()).isEqualTo("A");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/users?id=a");
+  }
+
+  @Test
+  public void keyMissingFromMapIsNotFound() throws Exception {
+    server.enqueue(new MockResponse().setBody("a=A"));
+
+    RecordingCallback a = new RecordingCallback();
+    service.userFromMap("a").enqueue(a);
+    RecordingCallback b = new RecordingCallback();
+    service.userFromMap("b").enqueue(b);
+
+    assertThat(a.take().body()).isEqualTo("A");
+    Response<String> bResponse = b.take();
+    assertThat(bResponse.code()).isEqualTo(404);
+    assertThat(bResponse.body()).isNull();
+  }
+
+  @Test
+  public void mapKeyTypeMustMatchParameterType() throws Exception {
+    RecordingCallback a = new RecordingCallback();
+    service.userByLongId(1L).enqueue(a);
+
+    assertThat(a.takeFailure())
+        .hasMessageThat()
+        .isEqualTo(
+            "@BatchedBy method userByLongId parameter type java.lang.Long cannot be a key of the"
+                + " Map returned by usersByLongId with key type java.lang.String");
+    assertThat(server.getRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void batchErrorIsDeliveredToEachCall() throws Exception {
+    server.enqueue(new MockResponse().setResponseCode(500).setBody("Broken"));
+
+    RecordingCallback a = new RecordingCallback();
+    service.user("a").enqueue(a);
+    RecordingCallback b = new RecordingCallback();
+    service.user("b").enqueue(b);
+
+    Response<String> aResponse = a.take();
+    assertThat(aResponse.code()).isEqualTo(500);
+    assertThat(aResponse.errorBody().string()).isEqualTo("Broken");
+    Response<String> bResponse = b.take();
+    assertThat(bResponse.code()).isEqualTo(500);
+    assertThat(bResponse.errorBody().string()).isEqualTo("Broken");
+  }
+
+  @Test
+  public void fullBatchIsSentImmediately() throws Exception {
+    server.enqueue(new MockResponse().setBody("A,B"));
+
+    RecordingCallback a = new RecordingCallback();
+    service.userWithMaxSize("a").enqueue(a);
+    RecordingCallback b = new RecordingCallback();
+    service.userWithMaxSize("b").enqueue(b);
+
+    // Far sooner than the 60 second window.
+    assertThat(a.take().body()).isEqualTo("A");
+    assertThat(b.take().body()).isEqualTo("B");
+  }
+
+  @Test
+  public void canceledCallIsRemovedFromBatch() throws Exception {
+    server.enqueue(new MockResponse().setBody("B"));
+
+    Call<String> aCall = service.user("a");
+    RecordingCallback a = new RecordingCallback();
+    aCall.enqueue(a);
+    RecordingCallback b = new RecordingCallback();
+    service.user("b").enqueue(b);
+    aCall.cancel();
+
+    assertThat(a.takeFailure()).hasMessageThat().isEqualTo("Canceled");
+    assertThat(b.take().body()).isEqualTo("B");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/users?id=b");
+  }
+
+  static final class RecordingCallback implements Callback<String> {
+    private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onResponse(Call<String> call, Response<String> response) {
+      results.add(response);
+    }
+
+    @Override
+    public void onFailure(Call<String> call, Throwable t) {
+      results.add(t);
+    }
+
+    @SuppressWarnings("unchecked")
+    Response<String> take() throws InterruptedException {
+      Object result = results.poll(5, SECONDS);
+      if (result instanceof Throwable) throw new AssertionError(result);
+      return (Response<String>) result;
+    }
+
+    Throwable takeFailure() throws InterruptedException {
+      return (Throwable) results.poll(5, SECONDS);
+    }
+  }
+
+  /** Converts bodies like {@code A,B} to lists and bodies like {@code a=A,b=B} to maps. */
+  static final class CommaSeparatedConverterFactory extends Converter.Factory {
+    @Override
+    public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+        Type type, Annotation[] annotations, Retrofit retrofit) {
+      if (!(type instanceof ParameterizedType)) return null;
+      Class<?> rawType = getRawType(type);
+      if (rawType == List.class) {
+        return value -> Arrays.asList(value.string().split(","));
+      }
+      if (rawType == Map.class) {
+        return value -> {
+          Map<String, String> map = new LinkedHashMap<>();
+          for (String entry : value.string().split(",")) {
+            String[] parts = entry.split("=", 2);
+            map.put(parts[0], parts[1]);
+          }
+          return map;
+        };
+      }
+      return null;
+    }
+  }
+}
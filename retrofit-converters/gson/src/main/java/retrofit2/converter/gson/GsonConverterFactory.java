@@ -19,7 +19,9 @@ import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Iterator;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -50,15 +52,19 @@ public final class GsonConverterFactory extends Converter.Factory {
   @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
   public static GsonConverterFactory create(Gson gson) {
     if (gson == null) throw new NullPointerException("gson == null");
-    return new GsonConverterFactory(gson, false);
+    return new GsonConverterFactory(gson, false, false, 0);
   }
 
   private final Gson gson;
   private final boolean streaming;
+  private final boolean ndjson;
+  private final int maxPooledBytes;
 
-  private GsonConverterFactory(Gson gson, boolean streaming) {
+  private GsonConverterFactory(Gson gson, boolean streaming, boolean ndjson, int maxPooledBytes) {
     this.gson = gson;
     this.streaming = streaming;
+    this.ndjson = ndjson;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   /**
@@ -68,12 +74,40 @@ public final class GsonConverterFactory extends Converter.Factory {
    * one of OkHttp's background threads.
    */
   public GsonConverterFactory withStreaming() {
-    return new GsonConverterFactory(gson, true);
+    return new GsonConverterFactory(gson, true, ndjson, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which uses newline-delimited JSON (also known as JSON Lines) for response
+   * bodies of type {@code Iterator<T>} and for request bodies of type {@code Iterable<T>} or Kotlin
+   * {@code Sequence<T>}. Response records are decoded lazily as the iterator advances, which also
+   * supports Kotlin's {@code Flow<T>} return type. A record which cannot be read is thrown as an
+   * {@link NdjsonException}. Request elements are written to the network as they are iterated.
+   * Other types are unaffected.
+   */
+  public GsonConverterFactory withNdjson() {
+    return new GsonConverterFactory(gson, streaming, true, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which serializes request bodies into a buffer and writer that each thread
+   * reuses, copying out only the serialized bytes. This reduces allocation when sending many small
+   * bodies. A thread's buffer which grows beyond {@code maxRetainedBytes} for a large body is
+   * released rather than retained. Streamed request bodies are unaffected.
+   */
+  public GsonConverterFactory withBufferPooling(int maxRetainedBytes) {
+    if (maxRetainedBytes < 1) throw new IllegalArgumentException("maxRetainedBytes < 1");
+    return new GsonConverterFactory(gson, streaming, ndjson, maxRetainedBytes);
   }
 
   @Override
   public Converter<ResponseBody, ?> responseBodyConverter(
       Type type, Annotation[] annotations, Retrofit retrofit) {
+    if (ndjson && getRawType(type) == Iterator.class && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(elementType));
+      return new GsonNdjsonResponseBodyConverter<>(gson, adapter);
+    }
     TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(type));
     return new GsonResponseBodyConverter<>(gson, adapter);
   }
@@ -84,7 +118,20 @@ public final class GsonConverterFactory extends Converter.Factory {
       Annotation[] parameterAnnotations,
       Annotation[] methodAnnotations,
       Retrofit retrofit) {
+    Class<?> rawType = getRawType(type);
+    if (ndjson
+        && GsonNdjsonRequestBody.isElementStream(rawType)
+        && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(elementType));
+      return value -> new GsonNdjsonRequestBody<>(gson, adapter, rawType, value);
+    }
     TypeAdapter<?> adapter = gson.getAdapter(TypeToken.get(type));
-    return new GsonRequestBodyConverter<>(gson, adapter, streaming);
+    return new GsonRequestBodyConverter<>(gson, adapter, streaming, maxPooledBytes);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
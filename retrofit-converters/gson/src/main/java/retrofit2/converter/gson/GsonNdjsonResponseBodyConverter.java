@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+
+/**
+ * Converts a body of newline-delimited JSON to an {@link Iterator} which decodes each record as it
+ * is requested. Each non-blank line must hold exactly one JSON value, which is decoded with the
+ * strictness of the {@link Gson} instance. The body is closed once the iterator is exhausted,
+ * {@linkplain Closeable#close() closed}, or fails. I/O failures are thrown as {@link
+ * NdjsonException}.
+ */
+final class GsonNdjsonResponseBodyConverter<T> implements Converter<ResponseBody, Iterator<T>> {
+  private final Gson gson;
+  private final TypeAdapter<T> adapter;
+
+  GsonNdjsonResponseBodyConverter(Gson gson, TypeAdapter<T> adapter) {
+    this.gson = gson;
+    this.adapter = adapter;
+  }
+
+  @Override
+  public Iterator<T> convert(ResponseBody value) throws IOException {
+    try {
+      BufferedReader lines = new BufferedReader(GsonResponseBodyConverter.reader(value));
+      return new RecordIterator<>(value, lines, gson, adapter);
+    } catch (IOException | RuntimeException e) {
+      value.close();
+      throw e;
+    }
+  }
+
+  private static final class RecordIterator<T> implements Iterator<T>, Closeable {
+    private final ResponseBody body;
+    private final BufferedReader lines;
+    private final Gson gson;
+    private final TypeAdapter<T> adapter;
+    private String line; // The next record, or null if it has not been read.
+    private boolean exhausted;
+
+    RecordIterator(ResponseBody body, BufferedReader lines, Gson gson, TypeAdapter<T> adapter) {
+      this.body = body;
+      this.lines = lines;
+      this.gson = gson;
+      this.adapter = adapter;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (exhausted) return false;
+      if (line != null) return true;
+      try {
+        for (String next; (next = lines.readLine()) != null; ) {
+          if (!next.trim().isEmpty()) {
+            line = next;
+            return true;
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw new NdjsonException(e);
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      String record = line;
+      line = null;
+      try {
+        JsonReader reader = gson.newJsonReader(new StringReader(record));
+        T result = adapter.read(reader);
+        if (reader.peek() != JsonToken.END_DOCUMENT) {
+          throw new MalformedJsonException("Expected a newline after the record");
+        }
+        return result;
+      } catch (IOException e) {
+        close();
+        throw new NdjsonException(e);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() {
+      exhausted = true;
+      body.close();
+    }
+  }
+}
@@ -28,6 +28,7 @@ import okhttp3.RequestBody;
 import okio.Buffer;
 import okio.BufferedSink;
 import retrofit2.Converter;
+import retrofit2.internal.BufferRequestBody;
 
 final class GsonRequestBodyConverter<T> implements Converter<T, RequestBody> {
   static final MediaType MEDIA_TYPE = MediaType.get("application/json; charset=UTF-8");
@@ -35,11 +36,15 @@ final class GsonRequestBodyConverter<T> implements Converter<T, RequestBody> {
   private final Gson gson;
   private final TypeAdapter<T> adapter;
   private final boolean streaming;
+  private final int maxPooledBytes;
 
-  GsonRequestBodyConverter(Gson gson, TypeAdapter<T> adapter, boolean streaming) {
+  /** A {@code maxPooledBytes} of 0 serializes each body into a new buffer. */
+  GsonRequestBodyConverter(
+      Gson gson, TypeAdapter<T> adapter, boolean streaming, int maxPooledBytes) {
     this.gson = gson;
     this.adapter = adapter;
     this.streaming = streaming;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   @Override
@@ -48,9 +53,19 @@ final class GsonRequestBodyConverter<T> implements Converter<T, RequestBody> {
       return new GsonStreamingRequestBody<>(gson, adapter, value);
     }
 
+    if (maxPooledBytes > 0) {
+      PooledBuffer buffer = PooledBuffer.acquire(maxPooledBytes);
+      JsonWriter jsonWriter = gson.newJsonWriter(buffer.writer);
+      adapter.write(jsonWriter, value);
+      jsonWriter.flush(); // Not closed so the writer can be reused.
+      RequestBody body = RequestBody.create(MEDIA_TYPE, buffer.toByteArray());
+      buffer.release(maxPooledBytes);
+      return body;
+    }
+
     Buffer buffer = new Buffer();
     writeJson(buffer, gson, adapter, value);
-    return RequestBody.create(MEDIA_TYPE, buffer.readByteString());
+    return new BufferRequestBody(MEDIA_TYPE, buffer);
   }
 
   static <T> void writeJson(BufferedSink sink, Gson gson, TypeAdapter<T> adapter, T value)
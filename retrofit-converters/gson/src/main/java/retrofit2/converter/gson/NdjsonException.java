@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.gson;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Thrown by the {@link Iterator} of a newline-delimited JSON response body when reading or decoding
+ * a record fails. Iterator methods cannot throw checked exceptions, so the {@link IOException} is
+ * available as the {@linkplain #getCause() cause}.
+ */
+public final class NdjsonException extends RuntimeException {
+  NdjsonException(IOException cause) {
+    super(cause);
+  }
+
+  @Override
+  public synchronized IOException getCause() {
+    return (IOException) super.getCause();
+  }
+}
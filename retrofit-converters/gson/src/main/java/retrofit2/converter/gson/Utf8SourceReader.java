@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.gson;
+
+import java.io.IOException;
+import java.io.Reader;
+import okio.Buffer;
+import okio.BufferedSource;
+
+/**
+ * A {@link Reader} which decodes UTF-8 directly from an okio source. ASCII bytes are copied
+ * straight out of the source's segments and only multi-byte sequences go through okio's code point
+ * decoding. This avoids the {@link java.io.InputStreamReader} charset decoder and its intermediate
+ * byte buffer.
+ *
+ * <p>Malformed input is replaced with U+FFFD as it would be by the JDK decoder.
+ */
+final class Utf8SourceReader extends Reader {
+  private final BufferedSource source;
+  private final Buffer.UnsafeCursor cursor = new Buffer.UnsafeCursor();
+  /** The second half of a supplementary code point which did not fit in the last read, or 0. */
+  private char pendingLowSurrogate;
+
+  Utf8SourceReader(BufferedSource source) {
+    this.source = source;
+  }
+
+  @Override
+  public int read(char[] cbuf, int off, int len) throws IOException {
+    if (len == 0) return 0;
+
+    int pos = off;
+    int limit = off + len;
+    if (pendingLowSurrogate != 0) {
+      cbuf[pos++] = pendingLowSurrogate;
+      pendingLowSurrogate = 0;
+    }
+
+    Buffer buffer = source.getBuffer();
+    while (pos < limit) {
+      // Only block for more bytes when nothing has been decoded by this call.
+      if (buffer.size() == 0 && (pos > off || !source.request(1))) break;
+
+      pos = readAscii(buffer, cbuf, pos, limit);
+      if (pos == limit || buffer.size() == 0) continue;
+
+      // The next byte is either non-ASCII or in the following segment. Multi-byte sequences may
+      // span segments so let okio assemble the code point.
+      if (!source.request(sequenceLength(buffer.getByte(0)))) {
+        // The source ends partway through a sequence, which okio would throw for.
+        skipTruncatedSequence(buffer);
+        cbuf[pos++] = '\ufffd';
+        continue;
+      }
+      int codePoint = source.readUtf8CodePoint();
+      if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+        cbuf[pos++] = (char) codePoint;
+      } else {
+        cbuf[pos++] = Character.highSurrogate(codePoint);
+        char low = Character.lowSurrogate(codePoint);
+        if (pos < limit) {
+          cbuf[pos++] = low;
+        } else {
+          pendingLowSurrogate = low;
+        }
+      }
+    }
+    return pos > off ? pos - off : -1;
+  }
+
+  /** Returns the length of the sequence started by {@code b}, or 1 if it cannot start one. */
+  private static int sequenceLength(byte b) {
+    if ((b & 0xe0) == 0xc0) return 2;
+    if ((b & 0xf0) == 0xe0) return 3;
+    if ((b & 0xf8) == 0xf0) return 4;
+    return 1;
+  }
+
+  /** Skips a leading byte and the continuation bytes which follow it in {@code buffer}. */
+  private static void skipTruncatedSequence(Buffer buffer) {
+    long count = 1;
+    while (count < buffer.size() && (buffer.getByte(count) & 0xc0) == 0x80) {
+      count++;
+    }
+    buffer.skip(count);
+  }
+
+  /** Copies ASCII bytes from the head segment of {@code buffer} until a non-ASCII byte. */
+  private int readAscii(Buffer buffer, char[] cbuf, int pos, int limit) {
+    int count;
+    buffer.readUnsafe(cursor);
+    try {
+      cursor.seek(0);
+      byte[] data = cursor.data;
+      int start = cursor.start;
+      int end = Math.min(cursor.end, start + limit - pos);
+      int i = start;
+      while (i < end) {
+        byte b = data[i];
+        if (b < 0) break;
+        cbuf[pos++] = (char) b;
+        i++;
+      }
+      count = i - start;
+    } finally {
+      cursor.close();
+    }
+    buffer.skip(count);
+    return pos;
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+}
@@ -17,6 +17,7 @@ package retrofit2.converter.gson;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
 import static org.junit.Assume.assumeTrue;
 
 import com.google.gson.Gson;
@@ -30,11 +31,18 @@ import com.google.testing.junit.testparameterinjector.TestParameter;
 import com.google.testing.junit.testparameterinjector.TestParameterInjector;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.RequestBody;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.ByteString;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -130,10 +138,20 @@ public final class GsonConverterFactoryTest {
     Call<Void> writeErroringValue(@Body ErroringValue value);
   }
 
+  interface NdjsonService {
+    @GET("/")
+    Call<Iterator<AnImplementation>> records();
+
+    @POST("/")
+    Call<Void> upload(@Body Iterable<AnImplementation> records);
+  }
+
   @Rule public final MockWebServer server = new MockWebServer();
 
   private final boolean streaming;
   private final Service service;
+  private final Service pooledService;
+  private final NdjsonService ndjsonService;
 
   public GsonConverterFactoryTest(@TestParameter boolean streaming) {
     this.streaming = streaming;
@@ -156,6 +174,18 @@ public final class GsonConverterFactoryTest {
             .addConverterFactory(factory) //
             .build();
     service = retrofit.create(Service.class);
+    pooledService =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(factory.withBufferPooling(64))
+            .build()
+            .create(Service.class);
+    ndjsonService =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(factory.withNdjson())
+            .build()
+            .create(NdjsonService.class);
   }
 
   @Test
@@ -186,6 +216,29 @@ public final class GsonConverterFactoryTest {
     assertThat(request.getHeader("Content-Type")).isEqualTo("application/json; charset=UTF-8");
   }
 
+  @Test
+  public void requestBodyCanBeWrittenMultipleTimes() throws IOException {
+    RequestBody body = service.anImplementation(new AnImplementation("value")).request().body();
+
+    Buffer first = new Buffer();
+    body.writeTo(first);
+    Buffer second = new Buffer();
+    body.writeTo(second);
+    assertThat(first.readUtf8()).isEqualTo("{\"theName\":\"value\"}");
+    assertThat(second.readUtf8()).isEqualTo("{\"theName\":\"value\"}");
+  }
+
+  @Test
+  public void serializeEncodesUtf8() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("{}"));
+
+    service.anImplementation(new AnImplementation("caf\u00e9 \ud83c\udf69 \u2028")).execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBody().readUtf8())
+        .isEqualTo("{\"theName\":\"caf\u00e9 \ud83c\udf69 \\u2028\"}");
+  }
+
   @Test
   public void serializeUsesConfiguration() throws IOException, InterruptedException {
     server.enqueue(new MockResponse().setBody("{}"));
@@ -206,6 +259,58 @@ public final class GsonConverterFactoryTest {
     assertThat(response.body().getName()).isNull();
   }
 
+  @Test
+  public void deserializeDecodesUtf8() throws IOException {
+    // Long enough that multi-byte sequences straddle okio segment boundaries.
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      name.append("caf\u00e9 \ud83c\udf69 ");
+    }
+    server.enqueue(new MockResponse().setBody("{\"theName\":\"" + name + "\"}"));
+
+    Response<AnImplementation> response =
+        service.anImplementation(new AnImplementation("value")).execute();
+    assertThat(response.body().theName).isEqualTo(name.toString());
+  }
+
+  @Test
+  public void utf8BomSkipped() throws IOException {
+    Buffer responseBody =
+        new Buffer().write(ByteString.decodeHex("EFBBBF")).writeUtf8("{\"theName\":\"value\"}");
+    server.enqueue(new MockResponse().setBody(responseBody));
+
+    Response<AnImplementation> response =
+        service.anImplementation(new AnImplementation("value")).execute();
+    assertThat(response.body().theName).isEqualTo("value");
+  }
+
+  @Test
+  public void utf16BomHonored() throws IOException {
+    Buffer responseBody =
+        new Buffer()
+            .write(ByteString.decodeHex("FEFF"))
+            .writeString("{\"theName\":\"value\"}", StandardCharsets.UTF_16BE);
+    server.enqueue(new MockResponse().setBody(responseBody));
+
+    Response<AnImplementation> response =
+        service.anImplementation(new AnImplementation("value")).execute();
+    assertThat(response.body().theName).isEqualTo("value");
+  }
+
+  @Test
+  public void contentTypeCharsetHonored() throws IOException {
+    Buffer responseBody =
+        new Buffer().writeString("{\"theName\":\"caf\u00e9\"}", StandardCharsets.ISO_8859_1);
+    server.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/json; charset=ISO-8859-1")
+            .setBody(responseBody));
+
+    Response<AnImplementation> response =
+        service.anImplementation(new AnImplementation("value")).execute();
+    assertThat(response.body().theName).isEqualTo("caf\u00e9");
+  }
+
   @Test
   public void requireFullResponseDocumentConsumption() throws Exception {
     server.enqueue(new MockResponse().setBody("{\"theName\":\"value\"}"));
@@ -219,6 +324,30 @@ public final class GsonConverterFactoryTest {
     }
   }
 
+  @Test
+  public void bufferPooling() throws IOException, InterruptedException {
+    assumeFalse(streaming);
+
+    // The second body is larger than the 64 bytes retained so its buffer is released.
+    String large = new String(new char[100]).replace('\0', 'a');
+    for (String name : Arrays.asList("a", large, "b")) {
+      server.enqueue(new MockResponse().setBody("{}"));
+      pooledService.anImplementation(new AnImplementation(name)).execute();
+      assertThat(server.takeRequest().getBody().readUtf8())
+          .isEqualTo("{\"theName\":\"" + name + "\"}");
+    }
+
+    // A buffer left partially written by a failure is not reused.
+    try {
+      pooledService.writeErroringValue(new ErroringValue("hi")).execute();
+      fail();
+    } catch (IOException expected) {
+    }
+    server.enqueue(new MockResponse().setBody("{}"));
+    pooledService.anImplementation(new AnImplementation("c")).execute();
+    assertThat(server.takeRequest().getBody().readUtf8()).isEqualTo("{\"theName\":\"c\"}");
+  }
+
   @Test
   public void serializeIsStreamed() throws InterruptedException {
     assumeTrue(streaming);
@@ -248,4 +377,68 @@ public final class GsonConverterFactoryTest {
     assertThat(throwable).isInstanceOf(EOFException.class);
     assertThat(throwable).hasMessageThat().isEqualTo("oops!");
   }
+
+  @Test
+  public void ndjsonResponseDecodedLazily() throws IOException {
+    server.enqueue(new MockResponse().setBody("{\"theName\":\"a\"}\n{\"theName\":\"b\"}\n{\"the"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    assertThat(records.next().theName).isEqualTo("a");
+    assertThat(records.next().theName).isEqualTo("b");
+    try {
+      records.next();
+      fail();
+    } catch (NdjsonException expected) {
+      assertThat(expected.getCause()).isInstanceOf(IOException.class);
+    }
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonRequestWritesOneRecordPerLine() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse());
+
+    ndjsonService
+        .upload(Arrays.asList(new AnImplementation("a"), new AnImplementation("b")))
+        .execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBody().readUtf8())
+        .isEqualTo("{\"theName\":\"a\"}\n{\"theName\":\"b\"}\n");
+    assertThat(request.getHeader("Content-Type")).isEqualTo("application/x-ndjson; charset=UTF-8");
+    assertThat(request.getHeader("Transfer-Encoding")).isEqualTo("chunked");
+  }
+
+  @Test
+  public void ndjsonRecordsMustBeFollowedByNewline() throws IOException {
+    server.enqueue(new MockResponse().setBody("{\"theName\":\"a\"} {\"theName\":\"b\"}\n"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    try {
+      records.next();
+      fail();
+    } catch (NdjsonException expected) {
+    }
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonResponseSkipsBlankLines() throws IOException {
+    server.enqueue(
+        new MockResponse().setBody("\n{\"theName\":\"a\"}\r\n \n{\"theName\":\"b\"}"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    assertThat(records.next().theName).isEqualTo("a");
+    assertThat(records.next().theName).isEqualTo("b");
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonRequestIsOneShotUnlessCollection() {
+    List<AnImplementation> list = Arrays.asList(new AnImplementation("a"));
+    assertThat(ndjsonService.upload(list).request().body().isOneShot()).isFalse();
+
+    Iterable<AnImplementation> iterable = list::iterator;
+    assertThat(ndjsonService.upload(iterable).request().body().isOneShot()).isTrue();
+  }
 }
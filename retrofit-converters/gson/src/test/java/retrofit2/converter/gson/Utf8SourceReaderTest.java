@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.gson;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.Reader;
+import okio.Buffer;
+import okio.ByteString;
+import org.junit.Test;
+
+public final class Utf8SourceReaderTest {
+  @Test
+  public void multiByteSequences() throws IOException {
+    assertThat(read("61c3a9e282acf09f9880")).isEqualTo("a\u00e9\u20ac\ud83d\ude00");
+  }
+
+  @Test
+  public void truncatedSequenceAtEndIsReplaced() throws IOException {
+    assertThat(read("61e282")).isEqualTo("a\ufffd");
+    assertThat(read("f09f98")).isEqualTo("\ufffd");
+  }
+
+  @Test
+  public void incompleteSequenceBeforeEndIsReplaced() throws IOException {
+    assertThat(read("e241")).isEqualTo("\ufffdA");
+  }
+
+  private static String read(String hex) throws IOException {
+    Reader reader = new Utf8SourceReader(new Buffer().write(ByteString.decodeHex(hex)));
+    StringBuilder result = new StringBuilder();
+    char[] chars = new char[1]; // Also splits surrogate pairs across reads.
+    for (int count; (count = reader.read(chars, 0, chars.length)) != -1; ) {
+      result.append(chars, 0, count);
+    }
+    return result.toString();
+  }
+}
@@ -19,8 +19,11 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Iterator;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
@@ -42,7 +45,7 @@ public final class JacksonConverterFactory extends Converter.Factory {
 
   /** Create an instance using a default {@link ObjectMapper} instance for conversion. */
   public static JacksonConverterFactory create() {
-    return new JacksonConverterFactory(new ObjectMapper(), DEFAULT_MEDIA_TYPE, false);
+    return new JacksonConverterFactory(new ObjectMapper(), DEFAULT_MEDIA_TYPE, false, false, 0);
   }
 
   /** Create an instance using {@code mapper} for conversion. */
@@ -55,17 +58,26 @@ public final class JacksonConverterFactory extends Converter.Factory {
   public static JacksonConverterFactory create(ObjectMapper mapper, MediaType mediaType) {
     if (mapper == null) throw new NullPointerException("mapper == null");
     if (mediaType == null) throw new NullPointerException("mediaType == null");
-    return new JacksonConverterFactory(mapper, mediaType, false);
+    return new JacksonConverterFactory(mapper, mediaType, false, false, 0);
   }
 
   private final ObjectMapper mapper;
   private final MediaType mediaType;
   private final boolean streaming;
+  private final boolean ndjson;
+  private final int maxPooledBytes;
 
-  private JacksonConverterFactory(ObjectMapper mapper, MediaType mediaType, boolean streaming) {
+  private JacksonConverterFactory(
+      ObjectMapper mapper,
+      MediaType mediaType,
+      boolean streaming,
+      boolean ndjson,
+      int maxPooledBytes) {
     this.mapper = mapper;
     this.mediaType = mediaType;
     this.streaming = streaming;
+    this.ndjson = ndjson;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   /**
@@ -75,12 +87,40 @@ public final class JacksonConverterFactory extends Converter.Factory {
    * one of OkHttp's background threads.
    */
   public JacksonConverterFactory withStreaming() {
-    return new JacksonConverterFactory(mapper, mediaType, true);
+    return new JacksonConverterFactory(mapper, mediaType, true, ndjson, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which uses newline-delimited JSON (also known as JSON Lines) for response
+   * bodies of type {@code Iterator<T>} and for request bodies of type {@code Iterable<T>} or Kotlin
+   * {@code Sequence<T>}. Response records are decoded lazily as the iterator advances, which also
+   * supports Kotlin's {@code Flow<T>} return type. A record which cannot be read is thrown as an
+   * {@link NdjsonException}. Request elements are written to the network as they are iterated.
+   * Other types are unaffected.
+   */
+  public JacksonConverterFactory withNdjson() {
+    return new JacksonConverterFactory(mapper, mediaType, streaming, true, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which serializes request bodies into a buffer that each thread reuses,
+   * copying out only the serialized bytes. This reduces allocation when sending many small bodies.
+   * A thread's buffer which grows beyond {@code maxRetainedBytes} for a large body is released
+   * rather than retained. Streamed request bodies are unaffected.
+   */
+  public JacksonConverterFactory withBufferPooling(int maxRetainedBytes) {
+    if (maxRetainedBytes < 1) throw new IllegalArgumentException("maxRetainedBytes < 1");
+    return new JacksonConverterFactory(mapper, mediaType, streaming, ndjson, maxRetainedBytes);
   }
 
   @Override
   public Converter<ResponseBody, ?> responseBodyConverter(
       Type type, Annotation[] annotations, Retrofit retrofit) {
+    if (ndjson && getRawType(type) == Iterator.class && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      JavaType javaType = mapper.getTypeFactory().constructType(elementType);
+      return new JacksonNdjsonResponseBodyConverter<>(mapper.readerFor(javaType));
+    }
     JavaType javaType = mapper.getTypeFactory().constructType(type);
     ObjectReader reader = mapper.readerFor(javaType);
     return new JacksonResponseBodyConverter<>(reader);
@@ -92,8 +132,23 @@ public final class JacksonConverterFactory extends Converter.Factory {
       Annotation[] parameterAnnotations,
       Annotation[] methodAnnotations,
       Retrofit retrofit) {
+    Class<?> rawType = getRawType(type);
+    if (ndjson
+        && JacksonNdjsonRequestBody.isElementStream(rawType)
+        && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      JavaType javaType = mapper.getTypeFactory().constructType(elementType);
+      ObjectWriter writer =
+          mapper.writerFor(javaType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+      return value -> new JacksonNdjsonRequestBody(writer, rawType, value);
+    }
     JavaType javaType = mapper.getTypeFactory().constructType(type);
     ObjectWriter writer = mapper.writerFor(javaType);
-    return new JacksonRequestBodyConverter<>(writer, mediaType, streaming);
+    return new JacksonRequestBodyConverter<>(writer, mediaType, streaming, maxPooledBytes);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 }
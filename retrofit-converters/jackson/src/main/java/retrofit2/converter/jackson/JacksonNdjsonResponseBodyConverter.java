@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import retrofit2.Converter;
+
+/**
+ * Converts a body of newline-delimited JSON to an {@link Iterator} which decodes each record as it
+ * is requested. Each non-blank line must hold exactly one JSON value. The body is closed once the
+ * iterator is exhausted, {@linkplain Closeable#close() closed}, or fails. I/O failures are thrown
+ * as {@link NdjsonException}.
+ */
+final class JacksonNdjsonResponseBodyConverter<T> implements Converter<ResponseBody, Iterator<T>> {
+  private final ObjectReader adapter;
+
+  JacksonNdjsonResponseBodyConverter(ObjectReader adapter) {
+    this.adapter = adapter.with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+  }
+
+  @Override
+  public Iterator<T> convert(ResponseBody value) {
+    return new RecordIterator<>(value, value.source(), adapter);
+  }
+
+  private static final class RecordIterator<T> implements Iterator<T>, Closeable {
+    private final ResponseBody body;
+    private final BufferedSource source;
+    private final ObjectReader adapter;
+    private Buffer line; // The next record, or null if it has not been read.
+    private boolean exhausted;
+
+    RecordIterator(ResponseBody body, BufferedSource source, ObjectReader adapter) {
+      this.body = body;
+      this.source = source;
+      this.adapter = adapter;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (exhausted) return false;
+      if (line != null) return true;
+      try {
+        while (!source.exhausted()) {
+          Buffer next = new Buffer();
+          long newline = source.indexOf((byte) '\n');
+          if (newline == -1L) {
+            source.readAll(next);
+          } else {
+            source.readFully(next, newline);
+            source.skip(1);
+          }
+          if (!isBlank(next)) {
+            line = next;
+            return true;
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw new NdjsonException(e);
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      Buffer record = line;
+      line = null;
+      try {
+        return adapter.readValue(record.inputStream());
+      } catch (IOException e) {
+        close();
+        throw new NdjsonException(e);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() {
+      exhausted = true;
+      body.close();
+    }
+
+    private static boolean isBlank(Buffer line) {
+      for (long i = 0, size = line.size(); i < size; i++) {
+        byte b = line.getByte(i);
+        if (b != ' ' && b != '\t' && b != '\r') return false;
+      }
+      return true;
+    }
+  }
+}
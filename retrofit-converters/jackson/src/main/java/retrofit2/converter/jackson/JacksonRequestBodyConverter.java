@@ -19,17 +19,23 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import java.io.IOException;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
+import okio.Buffer;
 import retrofit2.Converter;
+import retrofit2.internal.BufferRequestBody;
 
 final class JacksonRequestBodyConverter<T> implements Converter<T, RequestBody> {
   private final ObjectWriter adapter;
   private final MediaType mediaType;
   private final boolean streaming;
+  private final int maxPooledBytes;
 
-  JacksonRequestBodyConverter(ObjectWriter adapter, MediaType mediaType, boolean streaming) {
+  /** A {@code maxPooledBytes} of 0 serializes each body into a new buffer. */
+  JacksonRequestBodyConverter(
+      ObjectWriter adapter, MediaType mediaType, boolean streaming, int maxPooledBytes) {
     this.adapter = adapter;
     this.mediaType = mediaType;
     this.streaming = streaming;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   @Override
@@ -38,7 +44,16 @@ final class JacksonRequestBodyConverter<T> implements Converter<T, RequestBody>
       return new JacksonStreamingRequestBody(adapter, value, mediaType);
     }
 
-    byte[] bytes = adapter.writeValueAsBytes(value);
-    return RequestBody.create(mediaType, bytes);
+    if (maxPooledBytes > 0) {
+      PooledBuffer buffer = PooledBuffer.acquire(maxPooledBytes);
+      adapter.writeValue(buffer, value);
+      RequestBody body = RequestBody.create(mediaType, buffer.toByteArray());
+      buffer.release(maxPooledBytes);
+      return body;
+    }
+
+    Buffer buffer = new Buffer();
+    adapter.writeValue(buffer.outputStream(), value);
+    return new BufferRequestBody(mediaType, buffer);
   }
 }
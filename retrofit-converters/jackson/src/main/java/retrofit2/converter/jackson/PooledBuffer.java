@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.jackson;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A byte array which is reused by a thread to serialize request bodies. Only a copy of the
+ * serialized bytes is allocated for each body.
+ */
+final class PooledBuffer extends OutputStream {
+  private static final int INITIAL_SIZE = 1024;
+  private static final ThreadLocal<PooledBuffer> POOL = new ThreadLocal<>();
+
+  /** Takes this thread's buffer, or creates one if it is in use or was not retained. */
+  static PooledBuffer acquire(int maxRetainedBytes) {
+    PooledBuffer buffer = POOL.get();
+    if (buffer == null) return new PooledBuffer(Math.min(INITIAL_SIZE, maxRetainedBytes));
+    POOL.set(null); // In case a body is serialized while serializing another.
+    return buffer;
+  }
+
+  private byte[] bytes;
+  private int size;
+
+  private PooledBuffer(int initialSize) {
+    bytes = new byte[initialSize];
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(size + 1);
+    bytes[size++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] source, int offset, int byteCount) {
+    ensureCapacity(size + byteCount);
+    System.arraycopy(source, offset, bytes, size, byteCount);
+    size += byteCount;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(bytes, size);
+  }
+
+  /**
+   * Returns this buffer to the current thread for reuse. A buffer which grew beyond {@code
+   * maxRetainedBytes} is dropped instead so one large body does not hold memory indefinitely.
+   */
+  void release(int maxRetainedBytes) {
+    if (bytes.length > maxRetainedBytes) return;
+    size = 0;
+    POOL.set(this);
+  }
+}
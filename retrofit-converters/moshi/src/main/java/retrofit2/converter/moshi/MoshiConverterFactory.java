@@ -21,8 +21,10 @@ import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonQualifier;
 import com.squareup.moshi.Moshi;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import okhttp3.RequestBody;
@@ -53,7 +55,7 @@ public final class MoshiConverterFactory extends Converter.Factory {
   @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
   public static MoshiConverterFactory create(Moshi moshi) {
     if (moshi == null) throw new NullPointerException("moshi == null");
-    return new MoshiConverterFactory(moshi, false, false, false, false);
+    return new MoshiConverterFactory(moshi, false, false, false, false, false, 0);
   }
 
   private final Moshi moshi;
@@ -61,33 +63,42 @@ public final class MoshiConverterFactory extends Converter.Factory {
   private final boolean failOnUnknown;
   private final boolean serializeNulls;
   private final boolean streaming;
+  private final boolean ndjson;
+  private final int maxPooledBytes;
 
   private MoshiConverterFactory(
       Moshi moshi,
       boolean lenient,
       boolean failOnUnknown,
       boolean serializeNulls,
-      boolean streaming) {
+      boolean streaming,
+      boolean ndjson,
+      int maxPooledBytes) {
     this.moshi = moshi;
     this.lenient = lenient;
     this.failOnUnknown = failOnUnknown;
     this.serializeNulls = serializeNulls;
     this.streaming = streaming;
+    this.ndjson = ndjson;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   /** Return a new factory which uses {@linkplain JsonAdapter#lenient() lenient} adapters. */
   public MoshiConverterFactory asLenient() {
-    return new MoshiConverterFactory(moshi, true, failOnUnknown, serializeNulls, streaming);
+    return new MoshiConverterFactory(
+        moshi, true, failOnUnknown, serializeNulls, streaming, ndjson, maxPooledBytes);
   }
 
   /** Return a new factory which uses {@link JsonAdapter#failOnUnknown()} adapters. */
   public MoshiConverterFactory failOnUnknown() {
-    return new MoshiConverterFactory(moshi, lenient, true, serializeNulls, streaming);
+    return new MoshiConverterFactory(
+        moshi, lenient, true, serializeNulls, streaming, ndjson, maxPooledBytes);
   }
 
   /** Return a new factory which includes null values into the serialized JSON. */
   public MoshiConverterFactory withNullSerialization() {
-    return new MoshiConverterFactory(moshi, lenient, failOnUnknown, true, streaming);
+    return new MoshiConverterFactory(
+        moshi, lenient, failOnUnknown, true, streaming, ndjson, maxPooledBytes);
   }
 
   /**
@@ -97,23 +108,43 @@ public final class MoshiConverterFactory extends Converter.Factory {
    * one of OkHttp's background threads.
    */
   public MoshiConverterFactory withStreaming() {
-    return new MoshiConverterFactory(moshi, lenient, failOnUnknown, serializeNulls, true);
+    return new MoshiConverterFactory(
+        moshi, lenient, failOnUnknown, serializeNulls, true, ndjson, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which uses newline-delimited JSON (also known as JSON Lines) for response
+   * bodies of type {@code Iterator<T>} and for request bodies of type {@code Iterable<T>} or Kotlin
+   * {@code Sequence<T>}. Response records are decoded lazily as the iterator advances, which also
+   * supports Kotlin's {@code Flow<T>} return type. A record which cannot be read is thrown as an
+   * {@link NdjsonException}. Request elements are written to the network as they are iterated.
+   * Other types are unaffected.
+   */
+  public MoshiConverterFactory withNdjson() {
+    return new MoshiConverterFactory(
+        moshi, lenient, failOnUnknown, serializeNulls, streaming, true, maxPooledBytes);
+  }
+
+  /**
+   * Return a new factory which serializes request bodies into a buffer and sink that each thread
+   * reuses, copying out only the serialized bytes. This reduces allocation when sending many small
+   * bodies. A thread's buffer which grows beyond {@code maxRetainedBytes} for a large body is
+   * released rather than retained. Streamed request bodies are unaffected.
+   */
+  public MoshiConverterFactory withBufferPooling(int maxRetainedBytes) {
+    if (maxRetainedBytes < 1) throw new IllegalArgumentException("maxRetainedBytes < 1");
+    return new MoshiConverterFactory(
+        moshi, lenient, failOnUnknown, serializeNulls, streaming, ndjson, maxRetainedBytes);
   }
 
   @Override
   public Converter<ResponseBody, ?> responseBodyConverter(
       Type type, Annotation[] annotations, Retrofit retrofit) {
-    JsonAdapter<?> adapter = moshi.adapter(type, jsonAnnotations(annotations));
-    if (lenient) {
-      adapter = adapter.lenient();
-    }
-    if (failOnUnknown) {
-      adapter = adapter.failOnUnknown();
-    }
-    if (serializeNulls) {
-      adapter = adapter.serializeNulls();
+    if (ndjson && getRawType(type) == Iterator.class && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      return new MoshiNdjsonResponseBodyConverter<>(adapter(elementType, annotations));
     }
-    return new MoshiResponseBodyConverter<>(adapter);
+    return new MoshiResponseBodyConverter<>(adapter(type, annotations));
   }
 
   @Override
@@ -122,7 +153,20 @@ public final class MoshiConverterFactory extends Converter.Factory {
       Annotation[] parameterAnnotations,
       Annotation[] methodAnnotations,
       Retrofit retrofit) {
-    JsonAdapter<?> adapter = moshi.adapter(type, jsonAnnotations(parameterAnnotations));
+    Class<?> rawType = getRawType(type);
+    if (ndjson
+        && MoshiNdjsonRequestBody.isElementStream(rawType)
+        && type instanceof ParameterizedType) {
+      Type elementType = getParameterUpperBound(0, (ParameterizedType) type);
+      JsonAdapter<?> adapter = adapter(elementType, parameterAnnotations);
+      return value -> new MoshiNdjsonRequestBody<>(adapter, rawType, value);
+    }
+    return new MoshiRequestBodyConverter<>(
+        adapter(type, parameterAnnotations), streaming, maxPooledBytes);
+  }
+
+  private JsonAdapter<?> adapter(Type type, Annotation[] annotations) {
+    JsonAdapter<?> adapter = moshi.adapter(type, jsonAnnotations(annotations));
     if (lenient) {
       adapter = adapter.lenient();
     }
@@ -132,7 +176,12 @@ public final class MoshiConverterFactory extends Converter.Factory {
     if (serializeNulls) {
       adapter = adapter.serializeNulls();
     }
-    return new MoshiRequestBodyConverter<>(adapter, streaming);
+    return adapter;
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
   }
 
   private static Set<? extends Annotation> jsonAnnotations(Annotation[] annotations) {
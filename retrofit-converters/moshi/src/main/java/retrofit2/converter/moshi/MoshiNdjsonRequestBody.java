@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.converter.moshi;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Iterator;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * Writes each element of an {@link Iterable} or Kotlin {@code Sequence} as a line of JSON. Elements
+ * are iterated as the body is written so they are never all held in memory, and the body has no
+ * content length so it is sent with chunked transfer encoding.
+ */
+final class MoshiNdjsonRequestBody<T> extends RequestBody {
+  static final MediaType MEDIA_TYPE = MediaType.get("application/x-ndjson; charset=UTF-8");
+
+  /** Returns true if values of {@code rawType} are written as newline-delimited JSON. */
+  static boolean isElementStream(Class<?> rawType) {
+    return rawType == Iterable.class || rawType.getName().equals("kotlin.sequences.Sequence");
+  }
+
+  private final JsonAdapter<T> adapter;
+  private final Class<?> rawType;
+  private final Object elements;
+
+  MoshiNdjsonRequestBody(JsonAdapter<T> adapter, Class<?> rawType, Object elements) {
+    this.adapter = adapter;
+    this.rawType = rawType;
+    this.elements = elements;
+  }
+
+  @Override
+  public MediaType contentType() {
+    return MEDIA_TYPE;
+  }
+
+  /**
+   * Only a collection is known to yield the same elements when iterated again, as it must be if
+   * the request is retried or follows a redirect.
+   */
+  @Override
+  public boolean isOneShot() {
+    return !(elements instanceof Collection);
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    JsonWriter writer = JsonWriter.of(sink);
+    writer.setLenient(true); // Permits a sequence of top-level values.
+    for (Iterator<T> i = iterator(); i.hasNext(); ) {
+      adapter.toJson(writer, i.next());
+      sink.writeByte('\n');
+    }
+  }
+
+  @SuppressWarnings("unchecked") // Element type checked by isElementStream.
+  private Iterator<T> iterator() throws IOException {
+    if (elements instanceof Iterable) {
+      return ((Iterable<T>) elements).iterator();
+    }
+    try {
+      // A Kotlin Sequence, which is not on this library's classpath.
+      Method method = rawType.getMethod("iterator");
+      return (Iterator<T>) method.invoke(elements);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IOException(cause);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -22,16 +22,20 @@ import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okio.Buffer;
 import retrofit2.Converter;
+import retrofit2.internal.BufferRequestBody;
 
 final class MoshiRequestBodyConverter<T> implements Converter<T, RequestBody> {
   static final MediaType MEDIA_TYPE = MediaType.get("application/json; charset=UTF-8");
 
   private final JsonAdapter<T> adapter;
   private final boolean streaming;
+  private final int maxPooledBytes;
 
-  MoshiRequestBodyConverter(JsonAdapter<T> adapter, boolean streaming) {
+  /** A {@code maxPooledBytes} of 0 serializes each body into a new buffer. */
+  MoshiRequestBodyConverter(JsonAdapter<T> adapter, boolean streaming, int maxPooledBytes) {
     this.adapter = adapter;
     this.streaming = streaming;
+    this.maxPooledBytes = maxPooledBytes;
   }
 
   @Override
@@ -40,9 +44,19 @@ final class MoshiRequestBodyConverter<T> implements Converter<T, RequestBody> {
       return new MoshiStreamingRequestBody<>(adapter, value);
     }
 
+    if (maxPooledBytes > 0) {
+      PooledBuffer buffer = PooledBuffer.acquire(maxPooledBytes);
+      JsonWriter writer = JsonWriter.of(buffer.sink);
+      adapter.toJson(writer, value);
+      writer.flush(); // Not closed so the sink can be reused.
+      RequestBody body = RequestBody.create(MEDIA_TYPE, buffer.toByteArray());
+      buffer.release(maxPooledBytes);
+      return body;
+    }
+
     Buffer buffer = new Buffer();
     JsonWriter writer = JsonWriter.of(buffer);
     adapter.toJson(writer, value);
-    return RequestBody.create(MEDIA_TYPE, buffer.readByteString());
+    return new BufferRequestBody(MEDIA_TYPE, buffer);
   }
 }
@@ -19,6 +19,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
 import static org.junit.Assume.assumeTrue;
 
 import com.google.testing.junit.testparameterinjector.TestParameter;
@@ -35,6 +36,9 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import okhttp3.mockwebserver.MockResponse;
@@ -160,12 +164,22 @@ public final class MoshiConverterFactoryTest {
     Call<String> annotations(@Body @Qualifier @NonQualifer String body);
   }
 
+  interface NdjsonService {
+    @GET("/")
+    Call<Iterator<AnImplementation>> records();
+
+    @POST("/")
+    Call<Void> upload(@Body Iterable<AnImplementation> records);
+  }
+
   @Rule public final MockWebServer server = new MockWebServer();
 
   private final Service service;
+  private final Service pooledService;
   private final Service serviceLenient;
   private final Service serviceNulls;
   private final Service serviceFailOnUnknown;
+  private final NdjsonService ndjsonService;
   private final boolean streaming;
 
   public MoshiConverterFactoryTest(@TestParameter boolean streaming) {
@@ -193,6 +207,7 @@ public final class MoshiConverterFactoryTest {
     MoshiConverterFactory factoryLenient = factory.asLenient();
     MoshiConverterFactory factoryNulls = factory.withNullSerialization();
     MoshiConverterFactory factoryFailOnUnknown = factory.failOnUnknown();
+    MoshiConverterFactory factoryNdjson = factory.withNdjson();
     Retrofit retrofit =
         new Retrofit.Builder().baseUrl(server.url("/")).addConverterFactory(factory).build();
     Retrofit retrofitLenient =
@@ -204,10 +219,19 @@ public final class MoshiConverterFactoryTest {
             .baseUrl(server.url("/"))
             .addConverterFactory(factoryFailOnUnknown)
             .build();
+    Retrofit retrofitNdjson =
+        new Retrofit.Builder().baseUrl(server.url("/")).addConverterFactory(factoryNdjson).build();
     service = retrofit.create(Service.class);
+    pooledService =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(factory.withBufferPooling(64))
+            .build()
+            .create(Service.class);
     serviceLenient = retrofitLenient.create(Service.class);
     serviceNulls = retrofitNulls.create(Service.class);
     serviceFailOnUnknown = retrofitFailOnUnknown.create(Service.class);
+    ndjsonService = retrofitNdjson.create(NdjsonService.class);
   }
 
   @Test
@@ -338,6 +362,30 @@ public final class MoshiConverterFactoryTest {
     }
   }
 
+  @Test
+  public void bufferPooling() throws IOException, InterruptedException {
+    assumeFalse(streaming);
+
+    // The second body is larger than the 64 bytes retained so its buffer is released.
+    String large = new String(new char[100]).replace('\0', 'a');
+    for (String name : Arrays.asList("a", large, "b")) {
+      server.enqueue(new MockResponse().setBody("{}"));
+      pooledService.anImplementation(new AnImplementation(name)).execute();
+      assertThat(server.takeRequest().getBody().readUtf8())
+          .isEqualTo("{\"theName\":\"" + name + "\"}");
+    }
+
+    // A buffer left partially written by a failure is not reused.
+    try {
+      pooledService.writeErroringValue(new ErroringValue("hi")).execute();
+      fail();
+    } catch (IOException expected) {
+    }
+    server.enqueue(new MockResponse().setBody("{}"));
+    pooledService.anImplementation(new AnImplementation("c")).execute();
+    assertThat(server.takeRequest().getBody().readUtf8()).isEqualTo("{\"theName\":\"c\"}");
+  }
+
   @Test
   public void serializeIsStreamed() throws InterruptedException {
     assumeTrue(streaming);
@@ -367,4 +415,81 @@ public final class MoshiConverterFactoryTest {
     assertThat(throwable).isInstanceOf(EOFException.class);
     assertThat(throwable).hasMessageThat().isEqualTo("oops!");
   }
+
+  @Test
+  public void ndjsonResponseDecodedLazily() throws IOException {
+    server.enqueue(new MockResponse().setBody("{\"theName\":\"a\"}\n{\"theName\":\"b\"}\n{\"the"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    assertThat(records.next().theName).isEqualTo("a");
+    assertThat(records.next().theName).isEqualTo("b");
+    try {
+      records.next();
+      fail();
+    } catch (NdjsonException expected) {
+      assertThat(expected.getCause()).isInstanceOf(IOException.class);
+    }
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonRequestWritesOneRecordPerLine() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse());
+
+    ndjsonService
+        .upload(Arrays.asList(new AnImplementation("a"), new AnImplementation("b")))
+        .execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBody().readUtf8())
+        .isEqualTo("{\"theName\":\"a\"}\n{\"theName\":\"b\"}\n");
+    assertThat(request.getHeader("Content-Type")).isEqualTo("application/x-ndjson; charset=UTF-8");
+    assertThat(request.getHeader("Transfer-Encoding")).isEqualTo("chunked");
+  }
+
+  @Test
+  public void ndjsonRecordsMustBeFollowedByNewline() throws IOException {
+    server.enqueue(new MockResponse().setBody("{\"theName\":\"a\"} {\"theName\":\"b\"}\n"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    try {
+      records.next();
+      fail();
+    } catch (NdjsonException expected) {
+    }
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonRecordsAreStrict() throws IOException {
+    server.enqueue(new MockResponse().setBody("{theName:\"a\"}\n"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    try {
+      records.next();
+      fail();
+    } catch (NdjsonException expected) {
+    }
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonResponseSkipsBlankLines() throws IOException {
+    server.enqueue(
+        new MockResponse().setBody("\n{\"theName\":\"a\"}\r\n \n{\"theName\":\"b\"}"));
+
+    Iterator<AnImplementation> records = ndjsonService.records().execute().body();
+    assertThat(records.next().theName).isEqualTo("a");
+    assertThat(records.next().theName).isEqualTo("b");
+    assertThat(records.hasNext()).isFalse();
+  }
+
+  @Test
+  public void ndjsonRequestIsOneShotUnlessCollection() {
+    List<AnImplementation> list = Arrays.asList(new AnImplementation("a"));
+    assertThat(ndjsonService.upload(list).request().body().isOneShot()).isFalse();
+
+    Iterable<AnImplementation> iterable = list::iterator;
+    assertThat(ndjsonService.upload(iterable).request().body().isOneShot()).isTrue();
+  }
 }
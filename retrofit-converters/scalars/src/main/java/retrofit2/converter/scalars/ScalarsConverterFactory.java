@@ -103,4 +103,9 @@ public final class ScalarsConverterFactory extends Converter.Factory {
     }
     return null;
   }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
 }
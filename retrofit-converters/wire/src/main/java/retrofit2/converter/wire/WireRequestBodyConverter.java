@@ -22,6 +22,7 @@ import okhttp3.MediaType;
 import okhttp3.RequestBody;
 import okio.Buffer;
 import retrofit2.Converter;
+import retrofit2.internal.BufferRequestBody;
 
 final class WireRequestBodyConverter<T extends Message<T, ?>> implements Converter<T, RequestBody> {
   static final MediaType MEDIA_TYPE = MediaType.get("application/x-protobuf");
@@ -42,6 +43,6 @@ final class WireRequestBodyConverter<T extends Message<T, ?>> implements Convert
 
     Buffer buffer = new Buffer();
     adapter.encode(buffer, value);
-    return RequestBody.create(MEDIA_TYPE, buffer.snapshot());
+    return new BufferRequestBody(MEDIA_TYPE, buffer);
   }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.httpclient;
+
+import javax.annotation.Nullable;
+
+/**
+ * A request tag which runs an action when its call is canceled. OkHttp reports cancelation to
+ * {@link CancelationListener}, so a call waiting on the {@link java.net.http.HttpClient} is
+ * aborted immediately instead of noticing the cancelation by polling.
+ */
+final class Cancelation {
+  private boolean canceled; // Guarded by this.
+  private @Nullable Runnable action; // Guarded by this.
+
+  void cancel() {
+    Runnable action;
+    synchronized (this) {
+      if (canceled) return;
+      canceled = true;
+      action = this.action;
+      this.action = null;
+    }
+    if (action != null) action.run();
+  }
+
+  /**
+   * Run {@code action} when the call is canceled, replacing any previous action. If the call has
+   * already been canceled it runs immediately.
+   */
+  void onCancel(Runnable action) {
+    synchronized (this) {
+      if (!canceled) {
+        this.action = action;
+        return;
+      }
+    }
+    action.run();
+  }
+}
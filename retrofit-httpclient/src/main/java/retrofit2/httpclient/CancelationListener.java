@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.httpclient;
+
+import java.io.IOException;
+import okhttp3.Call;
+import okhttp3.EventListener;
+
+/**
+ * Triggers the {@link Cancelation} of a call and forwards call events to the listener of the
+ * {@link okhttp3.OkHttpClient} it wraps. Connection, request, and response events are not
+ * forwarded because the {@link java.net.http.HttpClient} performs that work and OkHttp never
+ * reports it.
+ */
+final class CancelationListener extends EventListener {
+  static EventListener.Factory factory(EventListener.Factory delegate) {
+    return call -> new CancelationListener(delegate.create(call));
+  }
+
+  private final EventListener delegate;
+
+  private CancelationListener(EventListener delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void callStart(Call call) {
+    delegate.callStart(call);
+  }
+
+  @Override
+  public void canceled(Call call) {
+    Cancelation cancelation = call.request().tag(Cancelation.class);
+    if (cancelation != null) {
+      cancelation.cancel();
+    }
+    delegate.canceled(call);
+  }
+
+  @Override
+  public void callEnd(Call call) {
+    delegate.callEnd(call);
+  }
+
+  @Override
+  public void callFailed(Call call, IOException ioe) {
+    delegate.callFailed(call, ioe);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.httpclient;
+
+import java.net.http.HttpClient;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * A {@linkplain okhttp3.Call.Factory call factory} whose calls are sent by a {@link HttpClient}
+ * from {@code java.net.http} rather than by OkHttp's own connections.
+ *
+ * <pre><code>
+ * HttpClient client = HttpClient.newBuilder()
+ *     .executor(Executors.newVirtualThreadPerTaskExecutor())
+ *     .build();
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://api.example.com/")
+ *     .callFactory(HttpClientCallFactory.create(client))
+ *     .build();
+ * </code></pre>
+ *
+ * <p>The {@code HttpClient} controls the protocol, connection reuse, redirects, proxies, and TLS.
+ * By default it negotiates HTTP/2 and multiplexes concurrent requests to the same host over a
+ * single connection. Response bodies are streamed from its {@code InputStream} body subscriber to
+ * the configured {@linkplain retrofit2.Converter converters}.
+ *
+ * <p>Calls remain {@link okhttp3.Call} instances so synchronous and asynchronous execution,
+ * cancelation, and {@linkplain OkHttpClient.Builder#addInterceptor application interceptors}
+ * behave as they do with OkHttp. OkHttp's read timeout is applied as the {@linkplain
+ * java.net.http.HttpRequest#timeout() request timeout}. Use {@link #create(HttpClient,
+ * OkHttpClient)} to configure these, such as supplying a {@link Dispatcher} backed by virtual
+ * threads for {@link retrofit2.Call#enqueue enqueued} calls. Of its {@linkplain
+ * OkHttpClient#eventListenerFactory() event listener} only call start, end, failure, and
+ * cancelation events are reported.
+ *
+ * <p>Request bodies are streamed to the {@code HttpClient} as they are written rather than buffered
+ * in memory. A streamed body is sent once, so a redirect which must resend it fails.
+ */
+public final class HttpClientCallFactory implements okhttp3.Call.Factory {
+  /** Create an instance which sends requests using a default {@link HttpClient}. */
+  public static HttpClientCallFactory create() {
+    return create(HttpClient.newHttpClient());
+  }
+
+  /** Create an instance which sends requests using {@code client}. */
+  public static HttpClientCallFactory create(HttpClient client) {
+    Dispatcher dispatcher = new Dispatcher();
+    // Multiplexed HTTP/2 connections are not subject to OkHttp's per-host connection concerns.
+    dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+    return create(client, new OkHttpClient.Builder().dispatcher(dispatcher).build());
+  }
+
+  /**
+   * Create an instance which sends requests using {@code client}. The dispatcher, timeouts, and
+   * application interceptors of {@code okHttpClient} are used for calls, but its connections,
+   * network interceptors, and other transport configuration are not.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static HttpClientCallFactory create(HttpClient client, OkHttpClient okHttpClient) {
+    if (client == null) throw new NullPointerException("client == null");
+    if (okHttpClient == null) throw new NullPointerException("okHttpClient == null");
+    return new HttpClientCallFactory(
+        okHttpClient
+            .newBuilder()
+            .addInterceptor(new HttpClientInterceptor(client))
+            .eventListenerFactory(
+                CancelationListener.factory(okHttpClient.eventListenerFactory()))
+            .build());
+  }
+
+  private final OkHttpClient okHttpClient;
+
+  private HttpClientCallFactory(OkHttpClient okHttpClient) {
+    this.okHttpClient = okHttpClient;
+  }
+
+  @Override
+  public okhttp3.Call newCall(Request request) {
+    return okHttpClient.newCall(
+        request.newBuilder().tag(Cancelation.class, new Cancelation()).build());
+  }
+}
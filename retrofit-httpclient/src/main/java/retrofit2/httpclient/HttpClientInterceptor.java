@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.httpclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Pipe;
+import okio.Source;
+
+/**
+ * Executes each request with a {@link HttpClient} instead of proceeding down OkHttp's interceptor
+ * chain. Because OkHttp's call remains the outermost layer, Retrofit and OkHttp's dispatcher,
+ * {@link okhttp3.Call#cancel() cancelation}, and application interceptors work unchanged.
+ *
+ * <p>Request bodies are streamed to the client through a {@link Pipe} rather than buffered. Calls
+ * created by {@link HttpClientCallFactory} carry a {@link Cancelation} which aborts the exchange as
+ * soon as the call is canceled.
+ */
+final class HttpClientInterceptor implements Interceptor {
+  /** Headers which {@link HttpRequest.Builder} rejects because the client manages them itself. */
+  private static final Set<String> RESTRICTED_HEADERS =
+      new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    RESTRICTED_HEADERS.add("Connection");
+    RESTRICTED_HEADERS.add("Content-Length");
+    RESTRICTED_HEADERS.add("Expect");
+    RESTRICTED_HEADERS.add("Host");
+    RESTRICTED_HEADERS.add("Upgrade");
+  }
+
+  /** Bytes of a request body which may be buffered before its writer waits for the client. */
+  private static final long PIPE_SIZE = 64 * 1024;
+
+  private final HttpClient client;
+
+  HttpClientInterceptor(HttpClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    okhttp3.Call call = chain.call();
+    Request request = chain.request();
+    RequestBody body = request.body();
+    long contentLength = body != null ? body.contentLength() : -1L;
+    Pipe pipe = body != null && contentLength != 0 ? new Pipe(PIPE_SIZE) : null;
+    HttpRequest httpRequest =
+        toHttpRequest(request, chain.readTimeoutMillis(), pipe, contentLength);
+
+    CompletableFuture<HttpResponse<InputStream>> future =
+        client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+    Cancelation cancelation = call.request().tag(Cancelation.class);
+    if (cancelation != null) {
+      cancelation.onCancel(
+          () -> {
+            future.cancel(true);
+            if (pipe != null) pipe.cancel();
+          });
+    }
+    if (pipe != null) {
+      // The request is no longer read once the exchange completes. Unblock a waiting writer.
+      future.whenComplete((response, t) -> pipe.cancel());
+      writeBody(body, pipe, future);
+    }
+    HttpResponse<InputStream> httpResponse = await(call, future);
+
+    if (cancelation != null) {
+      cancelation.onCancel(() -> closeQuietly(httpResponse.body()));
+    }
+    return toResponse(call, request, httpResponse);
+  }
+
+  private static HttpRequest toHttpRequest(
+      Request request, int timeoutMillis, @Nullable Pipe pipe, long contentLength) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().uri());
+    if (timeoutMillis > 0) {
+      builder.timeout(Duration.ofMillis(timeoutMillis));
+    }
+
+    Headers headers = request.headers();
+    for (int i = 0, size = headers.size(); i < size; i++) {
+      String name = headers.name(i);
+      if (!RESTRICTED_HEADERS.contains(name)) {
+        builder.header(name, headers.value(i));
+      }
+    }
+
+    RequestBody body = request.body();
+    HttpRequest.BodyPublisher publisher;
+    if (body == null || pipe == null) {
+      publisher = HttpRequest.BodyPublishers.noBody();
+    } else {
+      publisher = HttpRequest.BodyPublishers.ofInputStream(new PipeSupplier(pipe));
+      if (contentLength > 0) {
+        publisher = HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength);
+      }
+    }
+    if (body != null) {
+      MediaType contentType = body.contentType();
+      if (contentType != null && request.header("Content-Type") == null) {
+        builder.header("Content-Type", contentType.toString());
+      }
+    }
+    return builder.method(request.method(), publisher).build();
+  }
+
+  /**
+   * Streams {@code body} to the client through {@code pipe} on the calling thread. The client reads
+   * it concurrently, so only {@link #PIPE_SIZE} bytes of the body are held in memory at once.
+   */
+  private static void writeBody(
+      RequestBody body, Pipe pipe, CompletableFuture<HttpResponse<InputStream>> future)
+      throws IOException {
+    try (BufferedSink sink = Okio.buffer(pipe.sink())) {
+      body.writeTo(sink);
+    } catch (IOException e) {
+      if (!future.isDone()) {
+        future.cancel(true);
+        throw e;
+      }
+      // The client stopped reading. Its response or failure is reported instead.
+    }
+  }
+
+  private static HttpResponse<InputStream> await(
+      okhttp3.Call call, CompletableFuture<HttpResponse<InputStream>> future) throws IOException {
+    try {
+      return future.get();
+    } catch (CancellationException e) {
+      throw new IOException("Canceled", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    } catch (ExecutionException e) {
+      if (call.isCanceled()) throw new IOException("Canceled", e.getCause());
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IOException(cause);
+    }
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException ignored) {
+    }
+  }
+
+  private static Response toResponse(
+      okhttp3.Call call, Request request, HttpResponse<InputStream> httpResponse) {
+    Headers.Builder headersBuilder = new Headers.Builder();
+    for (Map.Entry<String, List<String>> entry : httpResponse.headers().map().entrySet()) {
+      String name = entry.getKey();
+      if (name.startsWith(":")) continue; // Skip HTTP/2 pseudo-headers like ':status'.
+      for (String value : entry.getValue()) {
+        headersBuilder.addUnsafeNonAscii(name, value);
+      }
+    }
+    Headers headers = headersBuilder.build();
+
+    String contentType = headers.get("Content-Type");
+    ResponseBody body =
+        ResponseBody.create(
+            contentType != null ? MediaType.parse(contentType) : null,
+            contentLength(headers),
+            Okio.buffer(new CancelableSource(call, Okio.source(httpResponse.body()))));
+
+    return new Response.Builder()
+        .request(request)
+        .protocol(
+            httpResponse.version() == HttpClient.Version.HTTP_2
+                ? Protocol.HTTP_2
+                : Protocol.HTTP_1_1)
+        .code(httpResponse.statusCode())
+        .message("")
+        .headers(headers)
+        .body(body)
+        .build();
+  }
+
+  private static long contentLength(Headers headers) {
+    String value = headers.get("Content-Length");
+    if (value == null) return -1L;
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return -1L;
+    }
+  }
+
+  /** Fails reads once the owning call is canceled, which closes the underlying stream. */
+  private static final class CancelableSource extends ForwardingSource {
+    private final okhttp3.Call call;
+
+    CancelableSource(okhttp3.Call call, Source delegate) {
+      super(delegate);
+      this.call = call;
+    }
+
+    @Override
+    public long read(Buffer sink, long byteCount) throws IOException {
+      if (call.isCanceled()) {
+        close();
+        throw new IOException("Canceled");
+      }
+      return super.read(sink, byteCount);
+    }
+  }
+
+  /** Supplies the read side of a pipe once. A body which has already been sent cannot be resent. */
+  private static final class PipeSupplier implements Supplier<InputStream> {
+    private final Pipe pipe;
+    private final AtomicBoolean supplied = new AtomicBoolean();
+
+    PipeSupplier(Pipe pipe) {
+      this.pipe = pipe;
+    }
+
+    @Override
+    public InputStream get() {
+      if (!supplied.compareAndSet(false, true)) {
+        throw new IllegalStateException("Request body cannot be sent more than once");
+      }
+      return Okio.buffer(pipe.source()).inputStream();
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.httpclient;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
+import static okhttp3.mockwebserver.SocketPolicy.NO_RESPONSE;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.BufferedSink;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.POST;
+
+public final class HttpClientCallFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Call<String> get();
+
+    @POST("/")
+    Call<String> post(@Header("X-Foo") String foo, @Body String body);
+
+    @POST("/")
+    Call<String> upload(@Body RequestBody body);
+  }
+
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .callFactory(HttpClientCallFactory.create())
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void executeSuccess() throws IOException {
+    server.enqueue(new MockResponse().setHeader("X-Bar", "baz").setBody("Hi"));
+
+    Response<String> response = service.get().execute();
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.body()).isEqualTo("Hi");
+    assertThat(response.headers().get("X-Bar")).isEqualTo("baz");
+  }
+
+  @Test
+  public void executeError() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("Nope"));
+
+    Response<String> response = service.get().execute();
+    assertThat(response.code()).isEqualTo(404);
+    assertThat(response.errorBody().string()).isEqualTo("Nope");
+  }
+
+  @Test
+  public void requestHeadersAndBody() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    service.post("bar", "Hello").execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("POST");
+    assertThat(request.getHeader("X-Foo")).isEqualTo("bar");
+    assertThat(request.getHeader("Content-Type")).isEqualTo("text/plain");
+    assertThat(request.getBody().readUtf8()).isEqualTo("Hello");
+  }
+
+  @Test
+  public void streamingRequestBody() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    RequestBody body =
+        new RequestBody() {
+          @Override
+          public MediaType contentType() {
+            return MediaType.get("application/octet-stream");
+          }
+
+          @Override
+          public void writeTo(BufferedSink sink) throws IOException {
+            for (int i = 0; i < 1024; i++) {
+              sink.write(new byte[1024]);
+            }
+          }
+        };
+    Response<String> response = service.upload(body).execute();
+    assertThat(response.body()).isEqualTo("Hi");
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBodySize()).isEqualTo(1024 * 1024);
+    assertThat(request.getHeader("Content-Length")).isNull();
+  }
+
+  @Test
+  public void requestBodyWithKnownLengthSendsContentLength()
+      throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    RequestBody body = RequestBody.create(new byte[256 * 1024], null);
+    service.upload(body).execute();
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBodySize()).isEqualTo(256 * 1024);
+    assertThat(request.getHeader("Content-Length")).isEqualTo("262144");
+  }
+
+  @Test
+  public void enqueueSuccess() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    AtomicReference<Response<String>> responseRef = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    service
+        .get()
+        .enqueue(
+            new Callback<String>() {
+              @Override
+              public void onResponse(Call<String> call, Response<String> response) {
+                responseRef.set(response);
+                latch.countDown();
+              }
+
+              @Override
+              public void onFailure(Call<String> call, Throwable t) {
+                t.printStackTrace();
+              }
+            });
+    assertThat(latch.await(10, SECONDS)).isTrue();
+    assertThat(responseRef.get().body()).isEqualTo("Hi");
+  }
+
+  @Test
+  public void networkFailure() {
+    server.enqueue(new MockResponse().setSocketPolicy(DISCONNECT_AFTER_REQUEST));
+
+    try {
+      service.get().execute();
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  @Test
+  public void cancelWhileWaitingForResponse() throws InterruptedException {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    Call<String> call = service.get();
+    AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    call.enqueue(
+        new Callback<String>() {
+          @Override
+          public void onResponse(Call<String> call, Response<String> response) {
+            throw new AssertionError();
+          }
+
+          @Override
+          public void onFailure(Call<String> call, Throwable t) {
+            failureRef.set(t);
+            latch.countDown();
+          }
+        });
+    server.takeRequest();
+    call.cancel();
+
+    assertThat(latch.await(10, SECONDS)).isTrue();
+    assertThat(failureRef.get()).isInstanceOf(IOException.class);
+    assertThat(call.isCanceled()).isTrue();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loadbalancer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Rewrites requests made against the pool's base URL to an endpoint chosen by the strategy and
+ * records the outcome of each call against that endpoint.
+ */
+final class BalancingInterceptor implements Interceptor {
+  private final String baseUrl;
+  private final List<Endpoint> endpoints;
+  private final Strategy strategy;
+
+  BalancingInterceptor(HttpUrl baseUrl, List<Endpoint> endpoints, Strategy strategy) {
+    this.baseUrl = baseUrl.toString();
+    this.endpoints = endpoints;
+    this.strategy = strategy;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    String url = request.url().toString();
+    if (!url.startsWith(baseUrl)) {
+      return chain.proceed(request); // Such as an absolute @Url to another host.
+    }
+
+    Endpoint endpoint = strategy.select(available());
+    if (!endpoint.baseUrlString.equals(baseUrl)) {
+      HttpUrl target = HttpUrl.get(endpoint.baseUrlString + url.substring(baseUrl.length()));
+      request = request.newBuilder().url(target).build();
+    }
+
+    long startNanos = System.nanoTime();
+    endpoint.start();
+    Response response;
+    try {
+      response = chain.proceed(request);
+    } catch (IOException | RuntimeException | Error e) {
+      if (chain.call().isCanceled()) {
+        endpoint.abandon();
+      } else {
+        endpoint.finish(startNanos, false);
+      }
+      throw e;
+    }
+    endpoint.finish(startNanos, !isServerFailure(response.code()));
+    return response;
+  }
+
+  /** Returns the endpoints which are not ejected, or all of them if every one is ejected. */
+  private List<Endpoint> available() {
+    long nowNanos = System.nanoTime();
+    List<Endpoint> result = new ArrayList<>(endpoints.size());
+    for (Endpoint endpoint : endpoints) {
+      if (!endpoint.isEjected(nowNanos)) {
+        result.add(endpoint);
+      }
+    }
+    // With no healthy endpoints left, spreading calls across all of them beats failing every one.
+    return result.isEmpty() ? endpoints : result;
+  }
+
+  private static boolean isServerFailure(int code) {
+    return code == 500 || code == 502 || code == 503 || code == 504;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * A {@linkplain okhttp3.Call.Factory call factory} which spreads calls across several
+ * interchangeable base URLs, such as the instances of an internal service, without going through
+ * a separate load balancer.
+ *
+ * <pre><code>
+ * BaseUrlPool pool = new BaseUrlPool.Builder()
+ *     .addBaseUrl("http://10.0.0.1:8080/api/")
+ *     .addBaseUrl("http://10.0.0.2:8080/api/")
+ *     .addBaseUrl("http://10.0.0.3:8080/api/")
+ *     .strategy(Strategy.powerOfTwoChoices())
+ *     .build();
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl(pool.baseUrl())
+ *     .callFactory(pool)
+ *     .build();
+ * </code></pre>
+ *
+ * <p>Requests made against {@link #baseUrl()}, which is the first base URL added, are sent to the
+ * endpoint chosen by the {@linkplain Builder#strategy strategy} when the call is executed. Other
+ * requests, such as those to an absolute {@link retrofit2.http.Url @Url}, are sent unchanged.
+ *
+ * <p>An endpoint which fails with an {@link java.io.IOException} or responds with a 500, 502, 503,
+ * or 504 for several calls in a row is ejected from the pool for a time. If every endpoint is
+ * ejected calls are spread across all of them.
+ */
+public final class BaseUrlPool implements okhttp3.Call.Factory {
+  private final HttpUrl baseUrl;
+  private final List<Endpoint> endpoints;
+  private final OkHttpClient client;
+
+  BaseUrlPool(HttpUrl baseUrl, List<Endpoint> endpoints, OkHttpClient client) {
+    this.baseUrl = baseUrl;
+    this.endpoints = endpoints;
+    this.client = client;
+  }
+
+  /** The base URL to give to {@link retrofit2.Retrofit.Builder#baseUrl(HttpUrl)}. */
+  public HttpUrl baseUrl() {
+    return baseUrl;
+  }
+
+  /** The endpoints of this pool in the order they were added. */
+  public List<Endpoint> endpoints() {
+    return endpoints;
+  }
+
+  @Override
+  public okhttp3.Call newCall(Request request) {
+    return client.newCall(request);
+  }
+
+  /** Build a new {@link BaseUrlPool}. */
+  public static final class Builder {
+    private final List<HttpUrl> baseUrls = new ArrayList<>();
+    private @Nullable OkHttpClient client;
+    private Strategy strategy = Strategy.roundRobin();
+    private int ejectAfterFailures = 5;
+    private long ejectionNanos = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * The client which sends requests. Its connection pool and dispatcher are shared by every
+     * endpoint.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder client(OkHttpClient client) {
+      if (client == null) throw new NullPointerException("client == null");
+      this.client = client;
+      return this;
+    }
+
+    /** @see #addBaseUrl(HttpUrl) */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder addBaseUrl(String baseUrl) {
+      if (baseUrl == null) throw new NullPointerException("baseUrl == null");
+      return addBaseUrl(HttpUrl.get(baseUrl));
+    }
+
+    /**
+     * Add an endpoint to the pool. As with {@link retrofit2.Retrofit.Builder#baseUrl(HttpUrl)
+     * Retrofit's base URL}, {@code baseUrl} must end in {@code /}.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder addBaseUrl(HttpUrl baseUrl) {
+      if (baseUrl == null) throw new NullPointerException("baseUrl == null");
+      List<String> pathSegments = baseUrl.pathSegments();
+      if (!"".equals(pathSegments.get(pathSegments.size() - 1))) {
+        throw new IllegalArgumentException("baseUrl must end in /: " + baseUrl);
+      }
+      baseUrls.add(baseUrl);
+      return this;
+    }
+
+    /** The strategy which chooses an endpoint for each call. Defaults to round-robin. */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder strategy(Strategy strategy) {
+      if (strategy == null) throw new NullPointerException("strategy == null");
+      this.strategy = strategy;
+      return this;
+    }
+
+    /**
+     * Eject an endpoint after {@code failures} consecutive failed calls for {@code duration}.
+     * Defaults to 5 failures and 30 seconds.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder ejection(int failures, long duration, TimeUnit unit) {
+      if (failures < 1) throw new IllegalArgumentException("failures < 1");
+      if (duration < 0) throw new IllegalArgumentException("duration < 0");
+      if (unit == null) throw new NullPointerException("unit == null");
+      this.ejectAfterFailures = failures;
+      this.ejectionNanos = unit.toNanos(duration);
+      return this;
+    }
+
+    public BaseUrlPool build() {
+      if (baseUrls.isEmpty()) {
+        throw new IllegalStateException("At least one base URL required.");
+      }
+      List<Endpoint> endpoints = new ArrayList<>(baseUrls.size());
+      for (HttpUrl baseUrl : baseUrls) {
+        endpoints.add(new Endpoint(baseUrl, ejectAfterFailures, ejectionNanos));
+      }
+      endpoints = Collections.unmodifiableList(endpoints);
+      HttpUrl baseUrl = baseUrls.get(0);
+
+      OkHttpClient.Builder clientBuilder =
+          client != null ? client.newBuilder() : new OkHttpClient.Builder();
+      clientBuilder.addInterceptor(new BalancingInterceptor(baseUrl, endpoints, strategy));
+      return new BaseUrlPool(baseUrl, endpoints, clientBuilder.build());
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.HttpUrl;
+
+/**
+ * One of the base URLs of a {@link BaseUrlPool} and the statistics which {@linkplain Strategy
+ * strategies} use to choose between them.
+ */
+public final class Endpoint {
+  /** The weight of the newest sample in the latency average. */
+  private static final double EWMA_WEIGHT = 0.2;
+
+  private final HttpUrl baseUrl;
+  final String baseUrlString;
+  private final int ejectAfterFailures;
+  private final long ejectionNanos;
+
+  @GuardedBy("this")
+  private int outstanding;
+
+  @GuardedBy("this")
+  private double latencyNanos;
+
+  @GuardedBy("this")
+  private int consecutiveFailures;
+
+  @GuardedBy("this")
+  private long ejectedUntilNanos;
+
+  @GuardedBy("this")
+  private boolean ejected;
+
+  Endpoint(HttpUrl baseUrl, int ejectAfterFailures, long ejectionNanos) {
+    this.baseUrl = baseUrl;
+    this.baseUrlString = baseUrl.toString();
+    this.ejectAfterFailures = ejectAfterFailures;
+    this.ejectionNanos = ejectionNanos;
+  }
+
+  public HttpUrl baseUrl() {
+    return baseUrl;
+  }
+
+  /** The number of calls to this endpoint which have not yet received a response. */
+  public synchronized int outstanding() {
+    return outstanding;
+  }
+
+  /**
+   * The exponentially-weighted moving average of the time taken to receive responses from this
+   * endpoint, or 0 if none have been received.
+   */
+  public synchronized long latency(TimeUnit unit) {
+    return unit.convert((long) latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * True if this endpoint has been removed from the pool after too many consecutive failures.
+   * Ejected endpoints return to the pool once the ejection duration has passed.
+   */
+  public synchronized boolean isEjected() {
+    return isEjected(System.nanoTime());
+  }
+
+  synchronized boolean isEjected(long nowNanos) {
+    if (ejected && nowNanos - ejectedUntilNanos >= 0) {
+      ejected = false;
+    }
+    return ejected;
+  }
+
+  /** Used by {@link Strategy#powerOfTwoChoices()} to estimate the wait for a new call. */
+  synchronized double cost() {
+    return (outstanding + 1) * Math.max(latencyNanos, 1.0);
+  }
+
+  synchronized void start() {
+    outstanding++;
+  }
+
+  /** Records the outcome of a call which started at {@code startNanos}. */
+  synchronized void finish(long startNanos, boolean success) {
+    long nowNanos = System.nanoTime();
+    outstanding--;
+    if (success) {
+      double sample = nowNanos - startNanos;
+      latencyNanos =
+          latencyNanos == 0 ? sample : latencyNanos + (sample - latencyNanos) * EWMA_WEIGHT;
+      consecutiveFailures = 0;
+    } else if (++consecutiveFailures >= ejectAfterFailures) {
+      consecutiveFailures = 0;
+      ejected = true;
+      ejectedUntilNanos = nowNanos + ejectionNanos;
+    }
+  }
+
+  /** Counts a canceled call which says nothing about the health of this endpoint. */
+  synchronized void abandon() {
+    outstanding--;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return baseUrl
+        + " outstanding="
+        + outstanding
+        + " latency="
+        + latency(TimeUnit.MILLISECONDS)
+        + "ms"
+        + (ejected ? " ejected" : "");
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Chooses the endpoint of a {@link BaseUrlPool} to which each call is sent. */
+public abstract class Strategy {
+  /** Send calls to each endpoint in turn. */
+  public static Strategy roundRobin() {
+    return new RoundRobin();
+  }
+
+  /** Send each call to the endpoint with the fewest calls awaiting a response. */
+  public static Strategy leastOutstanding() {
+    return new LeastOutstanding();
+  }
+
+  /**
+   * Compare two random endpoints and send each call to the one whose average latency multiplied
+   * by its outstanding calls is lower. This adapts to slow endpoints without every client
+   * converging on the same fastest one.
+   */
+  public static Strategy powerOfTwoChoices() {
+    return new PowerOfTwoChoices();
+  }
+
+  /**
+   * Returns the endpoint for the next call from {@code endpoints}, which contains the endpoints
+   * that are not ejected and is never empty.
+   */
+  public abstract Endpoint select(List<Endpoint> endpoints);
+
+  static final class RoundRobin extends Strategy {
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public Endpoint select(List<Endpoint> endpoints) {
+      int index = (next.getAndIncrement() & Integer.MAX_VALUE) % endpoints.size();
+      return endpoints.get(index);
+    }
+  }
+
+  static final class LeastOutstanding extends Strategy {
+    @Override
+    public Endpoint select(List<Endpoint> endpoints) {
+      // Start from a random endpoint so that ties do not all go to the first.
+      int size = endpoints.size();
+      int offset = ThreadLocalRandom.current().nextInt(size);
+      Endpoint best = endpoints.get(offset);
+      int bestOutstanding = best.outstanding();
+      for (int i = 1; i < size; i++) {
+        Endpoint endpoint = endpoints.get((offset + i) % size);
+        int outstanding = endpoint.outstanding();
+        if (outstanding < bestOutstanding) {
+          best = endpoint;
+          bestOutstanding = outstanding;
+        }
+      }
+      return best;
+    }
+  }
+
+  static final class PowerOfTwoChoices extends Strategy {
+    @Override
+    public Endpoint select(List<Endpoint> endpoints) {
+      int size = endpoints.size();
+      if (size == 1) return endpoints.get(0);
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int a = random.nextInt(size);
+      int b = random.nextInt(size - 1);
+      if (b >= a) b++; // Choose two distinct endpoints.
+      Endpoint first = endpoints.get(a);
+      Endpoint second = endpoints.get(b);
+      return first.cost() <= second.cost() ? first : second;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loadbalancer;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Url;
+
+public final class BaseUrlPoolTest {
+  @Rule public final MockWebServer server1 = new MockWebServer();
+  @Rule public final MockWebServer server2 = new MockWebServer();
+
+  interface Service {
+    @GET("users")
+    Call<String> users();
+
+    @GET
+    Call<String> url(@Url String url);
+  }
+
+  private Service service(BaseUrlPool pool) {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(pool.baseUrl())
+            .callFactory(pool)
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    return retrofit.create(Service.class);
+  }
+
+  @Test
+  public void roundRobin() throws Exception {
+    server1.enqueue(new MockResponse().setBody("one"));
+    server1.enqueue(new MockResponse().setBody("one"));
+    server2.enqueue(new MockResponse().setBody("two"));
+    server2.enqueue(new MockResponse().setBody("two"));
+
+    BaseUrlPool pool =
+        new BaseUrlPool.Builder()
+            .addBaseUrl(server1.url("/api/"))
+            .addBaseUrl(server2.url("/v2/"))
+            .build();
+    Service service = service(pool);
+
+    assertThat(service.users().execute().body()).isEqualTo("one");
+    assertThat(service.users().execute().body()).isEqualTo("two");
+    assertThat(service.users().execute().body()).isEqualTo("one");
+    assertThat(service.users().execute().body()).isEqualTo("two");
+
+    assertThat(server1.takeRequest().getPath()).isEqualTo("/api/users");
+    assertThat(server2.takeRequest().getPath()).isEqualTo("/v2/users");
+    for (Endpoint endpoint : pool.endpoints()) {
+      assertThat(endpoint.outstanding()).isEqualTo(0);
+      assertThat(endpoint.latency(SECONDS)).isAtLeast(0L);
+    }
+  }
+
+  @Test
+  public void failingEndpointIsEjected() throws Exception {
+    server1.enqueue(new MockResponse().setResponseCode(503));
+    server1.enqueue(new MockResponse().setResponseCode(503));
+    for (int i = 0; i < 3; i++) {
+      server2.enqueue(new MockResponse().setBody("two"));
+    }
+
+    BaseUrlPool pool =
+        new BaseUrlPool.Builder()
+            .addBaseUrl(server1.url("/"))
+            .addBaseUrl(server2.url("/"))
+            .ejection(2, 30, SECONDS)
+            .build();
+    Service service = service(pool);
+
+    assertThat(service.users().execute().code()).isEqualTo(503);
+    assertThat(service.users().execute().body()).isEqualTo("two");
+    assertThat(service.users().execute().code()).isEqualTo(503);
+    assertThat(pool.endpoints().get(0).isEjected()).isTrue();
+
+    assertThat(service.users().execute().body()).isEqualTo("two");
+    assertThat(service.users().execute().body()).isEqualTo("two");
+    assertThat(server1.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void allEndpointsEjectedStillReceiveCalls() throws Exception {
+    server1.enqueue(new MockResponse().setResponseCode(503));
+    server1.enqueue(new MockResponse().setBody("one"));
+
+    BaseUrlPool pool =
+        new BaseUrlPool.Builder().addBaseUrl(server1.url("/")).ejection(1, 30, SECONDS).build();
+    Service service = service(pool);
+
+    assertThat(service.users().execute().code()).isEqualTo(503);
+    assertThat(pool.endpoints().get(0).isEjected()).isTrue();
+    assertThat(service.users().execute().body()).isEqualTo("one");
+  }
+
+  @Test
+  public void otherUrlsAreNotRewritten() throws Exception {
+    server2.enqueue(new MockResponse().setBody("two"));
+
+    BaseUrlPool pool = new BaseUrlPool.Builder().addBaseUrl(server1.url("/")).build();
+    Response<String> response = service(pool).url(server2.url("/other").toString()).execute();
+    assertThat(response.body()).isEqualTo("two");
+    assertThat(server1.getRequestCount()).isEqualTo(0);
+    assertThat(pool.endpoints().get(0).outstanding()).isEqualTo(0);
+  }
+
+  @Test
+  public void otherStrategies() throws IOException {
+    Strategy[] strategies = {Strategy.leastOutstanding(), Strategy.powerOfTwoChoices()};
+    for (Strategy strategy : strategies) {
+      for (int i = 0; i < 10; i++) {
+        server1.enqueue(new MockResponse().setBody("one"));
+        server2.enqueue(new MockResponse().setBody("two"));
+      }
+      BaseUrlPool pool =
+          new BaseUrlPool.Builder()
+              .addBaseUrl(server1.url("/"))
+              .addBaseUrl(server2.url("/"))
+              .strategy(strategy)
+              .build();
+      Service service = service(pool);
+      for (int i = 0; i < 10; i++) {
+        assertThat(service.users().execute().isSuccessful()).isTrue();
+      }
+    }
+    assertThat(server1.getRequestCount() + server2.getRequestCount()).isEqualTo(20);
+  }
+
+  @Test
+  public void baseUrlMustEndInSlash() {
+    try {
+      new BaseUrlPool.Builder().addBaseUrl("http://example.com/api");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("baseUrl must end in /: http://example.com/api");
+    }
+  }
+
+  @Test
+  public void baseUrlRequired() {
+    try {
+      new BaseUrlPool.Builder().build();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessageThat().isEqualTo("At least one base URL required.");
+    }
+  }
+}
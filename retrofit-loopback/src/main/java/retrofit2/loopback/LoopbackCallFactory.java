@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * A {@linkplain okhttp3.Call.Factory call factory} which routes requests to {@linkplain
+ * LoopbackHandler handlers} in the same process instead of sending them over the network.
+ *
+ * <pre><code>
+ * LoopbackCallFactory callFactory = new LoopbackCallFactory.Builder()
+ *     .addHandler("http://users/", usersHandler)
+ *     .build();
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("http://users/")
+ *     .callFactory(callFactory)
+ *     .addConverterFactory(PassthroughConverterFactory.create())
+ *     .addConverterFactory(GsonConverterFactory.create())
+ *     .build();
+ * </code></pre>
+ *
+ * <p>Requests still go through Retrofit's request building and OkHttp's dispatcher and application
+ * interceptors, but no sockets are opened. Add {@link PassthroughConverterFactory} first to also
+ * skip serialization of request and response bodies.
+ *
+ * <p>Requests which match no handler fail with an {@link IOException}, unless a {@linkplain
+ * Builder#client client} is supplied in which case they are sent over the network by it.
+ */
+public final class LoopbackCallFactory implements okhttp3.Call.Factory {
+  /** Create a response to {@code request} with {@code code} and {@code body}. */
+  public static Response response(Request request, int code, ResponseBody body) {
+    return new Response.Builder()
+        .request(request)
+        .protocol(Protocol.HTTP_1_1)
+        .code(code)
+        .message("")
+        .body(body)
+        .build();
+  }
+
+  private final OkHttpClient client;
+
+  LoopbackCallFactory(OkHttpClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public okhttp3.Call newCall(Request request) {
+    return client.newCall(request);
+  }
+
+  /** Build a new {@link LoopbackCallFactory}. */
+  public static final class Builder {
+    private final List<Route> routes = new ArrayList<>();
+    private @Nullable OkHttpClient client;
+
+    /**
+     * The client used for requests which match no handler. Its dispatcher and application
+     * interceptors are also used for loopback calls.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder client(OkHttpClient client) {
+      if (client == null) throw new NullPointerException("client == null");
+      this.client = client;
+      return this;
+    }
+
+    /**
+     * Route requests whose URL starts with {@code baseUrl} to {@code handler}. When more than one
+     * base URL matches a request the longest is used.
+     *
+     * @see #addHandler(HttpUrl, LoopbackHandler)
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder addHandler(String baseUrl, LoopbackHandler handler) {
+      if (baseUrl == null) throw new NullPointerException("baseUrl == null");
+      return addHandler(HttpUrl.get(baseUrl), handler);
+    }
+
+    /**
+     * Route requests whose URL starts with {@code baseUrl} to {@code handler}. As with {@link
+     * retrofit2.Retrofit.Builder#baseUrl(HttpUrl) Retrofit's base URL}, {@code baseUrl} must end
+     * in {@code /}.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder addHandler(HttpUrl baseUrl, LoopbackHandler handler) {
+      if (baseUrl == null) throw new NullPointerException("baseUrl == null");
+      if (handler == null) throw new NullPointerException("handler == null");
+      List<String> pathSegments = baseUrl.pathSegments();
+      if (!"".equals(pathSegments.get(pathSegments.size() - 1))) {
+        throw new IllegalArgumentException("baseUrl must end in /: " + baseUrl);
+      }
+      routes.add(new Route(baseUrl, handler));
+      return this;
+    }
+
+    public LoopbackCallFactory build() {
+      List<Route> routes = new ArrayList<>(this.routes);
+      // Longest base URL first so nested routes take precedence over their parents.
+      Collections.sort(
+          routes, (a, b) -> b.baseUrl.encodedPath().length() - a.baseUrl.encodedPath().length());
+
+      OkHttpClient.Builder clientBuilder =
+          client != null ? client.newBuilder() : new OkHttpClient.Builder();
+      clientBuilder.addInterceptor(new LoopbackInterceptor(routes, client != null));
+      return new LoopbackCallFactory(clientBuilder.build());
+    }
+  }
+
+  static final class Route {
+    final HttpUrl baseUrl;
+    final LoopbackHandler handler;
+
+    Route(HttpUrl baseUrl, LoopbackHandler handler) {
+      this.baseUrl = baseUrl;
+      this.handler = handler;
+    }
+
+    boolean matches(HttpUrl url) {
+      return baseUrl.scheme().equals(url.scheme())
+          && baseUrl.host().equals(url.host())
+          && baseUrl.port() == url.port()
+          && url.encodedPath().startsWith(baseUrl.encodedPath());
+    }
+  }
+
+  /**
+   * Answers requests from their handler instead of proceeding down OkHttp's interceptor chain to
+   * the network.
+   */
+  static final class LoopbackInterceptor implements Interceptor {
+    private final List<Route> routes;
+    private final boolean fallbackToNetwork;
+
+    LoopbackInterceptor(List<Route> routes, boolean fallbackToNetwork) {
+      this.routes = routes;
+      this.fallbackToNetwork = fallbackToNetwork;
+    }
+
+    @SuppressWarnings("ConstantConditions") // Guarding handler nullability.
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+      Request request = chain.request();
+      HttpUrl url = request.url();
+      for (int i = 0, size = routes.size(); i < size; i++) {
+        Route route = routes.get(i);
+        if (route.matches(url)) {
+          if (chain.call().isCanceled()) throw new IOException("Canceled");
+          Response response = route.handler.handle(request);
+          if (response == null) {
+            throw new NullPointerException("Handler for " + route.baseUrl + " returned null");
+          }
+          return response;
+        }
+      }
+      if (fallbackToNetwork) {
+        return chain.proceed(request);
+      }
+      throw new IOException("No loopback handler for " + url);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import java.io.IOException;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Produces responses for requests that a {@link LoopbackCallFactory} routes to it. Use {@link
+ * LoopbackCallFactory#response} to create a response and {@link
+ * PassthroughConverterFactory#requestObject} to read an unconverted request body.
+ *
+ * <p>Handlers are invoked on the thread executing the call: the caller's thread for {@link
+ * retrofit2.Call#execute()} or a dispatcher thread for {@link retrofit2.Call#enqueue}.
+ */
+public interface LoopbackHandler {
+  Response handle(Request request) throws IOException;
+}
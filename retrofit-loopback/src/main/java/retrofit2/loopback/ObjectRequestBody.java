@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import retrofit2.Converter;
+
+/**
+ * Holds an unconverted {@code @Body} object. It is only converted by the next converter if the
+ * request reaches the network.
+ */
+final class ObjectRequestBody extends RequestBody {
+  final Object value;
+  private final @Nullable Converter<Object, RequestBody> delegate;
+  private @Nullable RequestBody converted;
+  private @Nullable IOException conversionFailure;
+
+  ObjectRequestBody(Object value, @Nullable Converter<Object, RequestBody> delegate) {
+    this.value = value;
+    this.delegate = delegate;
+  }
+
+  private synchronized RequestBody converted() throws IOException {
+    if (conversionFailure != null) throw conversionFailure;
+    RequestBody converted = this.converted;
+    if (converted == null) {
+      if (delegate == null) {
+        throw new IOException(
+            "No converter for " + value.getClass().getName() + " outside of a loopback handler");
+      }
+      try {
+        converted = this.converted = delegate.convert(value);
+      } catch (IOException e) {
+        conversionFailure = e;
+        throw e;
+      }
+    }
+    return converted;
+  }
+
+  /**
+   * Returns the type of the converted body, or null if there is no converter or conversion failed.
+   * A failure is instead thrown by {@link #contentLength()} and {@link #writeTo}, which can report
+   * it, rather than to interceptors which only inspect the type.
+   */
+  @Override
+  public @Nullable MediaType contentType() {
+    if (delegate == null) return null;
+    try {
+      return converted().contentType();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public long contentLength() throws IOException {
+    return converted().contentLength();
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    converted().writeTo(sink);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+
+/**
+ * Carries a response object from a handler to {@link PassthroughConverterFactory}. Retrofit wraps
+ * response bodies before converting them, so the converter cannot see this body directly. It does
+ * read through to this body's source on its own thread, though, and that read hands the object to
+ * a {@linkplain #receive receiver} which the converter installed. The object travels only with its
+ * own body: no table holds it, and a network response of the same content type carries nothing.
+ */
+final class ObjectResponseBody extends ResponseBody {
+  static final MediaType MEDIA_TYPE = MediaType.get("application/x-retrofit-loopback");
+
+  private static final ThreadLocal<Receiver> receiver = new ThreadLocal<>();
+
+  /**
+   * Returns the object carried by the body which {@code source} reads, or null if that body was not
+   * created by a loopback handler or its object was already taken.
+   */
+  static @Nullable Object receive(BufferedSource source) throws IOException {
+    Receiver received = new Receiver();
+    receiver.set(received);
+    try {
+      source.exhausted(); // Reads through to ObjectSource on this thread.
+    } finally {
+      receiver.remove();
+    }
+    return received.value;
+  }
+
+  private final BufferedSource source;
+
+  ObjectResponseBody(Object value) {
+    source = Okio.buffer(new ObjectSource(value));
+  }
+
+  @Override
+  public @Nullable MediaType contentType() {
+    return MEDIA_TYPE;
+  }
+
+  @Override
+  public long contentLength() {
+    return -1L;
+  }
+
+  @Override
+  public BufferedSource source() {
+    return source;
+  }
+
+  private static final class Receiver {
+    @Nullable Object value;
+  }
+
+  /** An empty source which gives its object to the first receiver that reads it. */
+  private static final class ObjectSource implements Source {
+    private @Nullable Object value;
+
+    ObjectSource(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public long read(Buffer sink, long byteCount) {
+      Receiver received = receiver.get();
+      if (received != null && value != null) {
+        received.value = value;
+        value = null;
+      }
+      return -1L;
+    }
+
+    @Override
+    public Timeout timeout() {
+      return Timeout.NONE;
+    }
+
+    @Override
+    public void close() {
+      value = null;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import javax.annotation.Nullable;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain Converter.Factory converter} which lets request and response objects skip
+ * serialization when calls are handled by a {@link LoopbackCallFactory}.
+ *
+ * <p>Request bodies carry the original object, which handlers obtain with {@link
+ * #requestObject(Request)}. Handlers return objects with {@link #responseBody(Object)} and the
+ * same instance is returned from the call. Both are serialized by the converters added after this
+ * one if the request is instead sent over the network or the response did not come from a handler.
+ *
+ * <p>Because it will claim every type, this converter must be added before all others. Only
+ * successful response bodies are passed through. Error responses are buffered by Retrofit and
+ * should be created with serialized bodies.
+ */
+public final class PassthroughConverterFactory extends Converter.Factory {
+  public static PassthroughConverterFactory create() {
+    return new PassthroughConverterFactory();
+  }
+
+  /**
+   * Returns the object passed as the {@link retrofit2.http.Body @Body} of {@code request}, or null
+   * if its body was not created by this converter.
+   */
+  public static @Nullable Object requestObject(Request request) {
+    RequestBody body = request.body();
+    return body instanceof ObjectRequestBody ? ((ObjectRequestBody) body).value : null;
+  }
+
+  /**
+   * Create a response body which hands {@code value} to the caller without serialization. Only the
+   * converter of the call which receives this body can obtain {@code value} from it.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static ResponseBody responseBody(Object value) {
+    if (value == null) throw new NullPointerException("value == null");
+    return new ObjectResponseBody(value);
+  }
+
+  private PassthroughConverterFactory() {}
+
+  @Override
+  public Converter<?, RequestBody> requestBodyConverter(
+      Type type,
+      Annotation[] parameterAnnotations,
+      Annotation[] methodAnnotations,
+      Retrofit retrofit) {
+    Converter<Object, RequestBody> delegate;
+    try {
+      delegate =
+          retrofit.nextRequestBodyConverter(this, type, parameterAnnotations, methodAnnotations);
+    } catch (IllegalArgumentException e) {
+      delegate = null; // Only usable with a loopback handler.
+    }
+    Converter<Object, RequestBody> finalDelegate = delegate;
+    return value -> new ObjectRequestBody(value, finalDelegate);
+  }
+
+  @Override
+  public Converter<ResponseBody, ?> responseBodyConverter(
+      Type type, Annotation[] annotations, Retrofit retrofit) {
+    Converter<ResponseBody, Object> delegate;
+    try {
+      delegate = retrofit.nextResponseBodyConverter(this, type, annotations);
+    } catch (IllegalArgumentException e) {
+      delegate = null; // Only usable with a loopback handler.
+    }
+    return new PassthroughResponseBodyConverter(delegate);
+  }
+
+  static final class PassthroughResponseBodyConverter implements Converter<ResponseBody, Object> {
+    private final @Nullable Converter<ResponseBody, Object> delegate;
+
+    PassthroughResponseBodyConverter(@Nullable Converter<ResponseBody, Object> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public @Nullable Object convert(ResponseBody value) throws IOException {
+      if (ObjectResponseBody.MEDIA_TYPE.equals(value.contentType())) {
+        Object object = ObjectResponseBody.receive(value.source());
+        if (object != null) {
+          value.close();
+          return object;
+        }
+        // Not from a loopback handler. Anything it contains is left for the delegate.
+      }
+      if (delegate == null) {
+        value.close();
+        throw new IOException("No converter for response with type " + value.contentType());
+      }
+      return delegate.convert(value);
+    }
+  }
+}
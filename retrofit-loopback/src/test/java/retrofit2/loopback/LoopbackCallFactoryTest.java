@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.loopback;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Converter;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+
+public final class LoopbackCallFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  static final class User {
+    final String name;
+
+    User(String name) {
+      this.name = name;
+    }
+  }
+
+  interface Service {
+    @GET("users/{name}")
+    Call<String> get(@Path("name") String name);
+
+    @POST("users")
+    Call<User> create(@Body User user);
+
+    @POST("users")
+    Call<String> echo(@Body String body);
+  }
+
+  @Test
+  public void requestRoutedToHandler() throws IOException {
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .addHandler(
+                "http://example.com/",
+                request ->
+                    LoopbackCallFactory.response(
+                        request, 200, ResponseBody.create(null, "root " + request.url())))
+            .addHandler(
+                "http://example.com/users/",
+                request ->
+                    LoopbackCallFactory.response(
+                        request, 200, ResponseBody.create(null, "users " + request.url())))
+            .build();
+    Service service = service(callFactory, "http://example.com/", new ToStringConverterFactory());
+
+    Response<String> response = service.get("jw").execute();
+    assertThat(response.body()).isEqualTo("users http://example.com/users/jw");
+  }
+
+  @Test
+  public void handlerErrorResponse() throws IOException {
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .addHandler(
+                "http://example.com/",
+                request ->
+                    LoopbackCallFactory.response(
+                        request, 404, ResponseBody.create(null, "Not found")))
+            .build();
+    Service service = service(callFactory, "http://example.com/", new ToStringConverterFactory());
+
+    Response<String> response = service.get("jw").execute();
+    assertThat(response.code()).isEqualTo(404);
+    assertThat(response.errorBody().string()).isEqualTo("Not found");
+  }
+
+  @Test
+  public void passthroughSkipsConversion() throws IOException {
+    User created = new User("Jake");
+    User[] received = new User[1];
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .addHandler(
+                "http://example.com/",
+                request -> {
+                  // No converter is available, which must not fail for interceptors or handlers.
+                  assertThat(request.body().contentType()).isNull();
+                  received[0] = (User) PassthroughConverterFactory.requestObject(request);
+                  return LoopbackCallFactory.response(
+                      request, 201, PassthroughConverterFactory.responseBody(created));
+                })
+            .build();
+    // No converter is able to serialize User.
+    Service service =
+        service(callFactory, "http://example.com/", PassthroughConverterFactory.create());
+
+    User user = new User("Jesse");
+    Response<User> response = service.create(user).execute();
+    assertThat(received[0]).isSameInstanceAs(user);
+    assertThat(response.body()).isSameInstanceAs(created);
+  }
+
+  @Test
+  public void unmatchedRequestFails() {
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .addHandler(
+                "http://example.com/api/",
+                request -> {
+                  throw new AssertionError();
+                })
+            .build();
+    Service service = service(callFactory, "http://example.com/", new ToStringConverterFactory());
+
+    try {
+      service.get("jw").execute();
+      fail();
+    } catch (IOException e) {
+      assertThat(e)
+          .hasMessageThat()
+          .isEqualTo("No loopback handler for http://example.com/users/jw");
+    }
+  }
+
+  @Test
+  public void unmatchedRequestSentByClient() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .client(new OkHttpClient())
+            .addHandler(
+                "http://example.com/",
+                request -> {
+                  throw new AssertionError();
+                })
+            .build();
+    Service service =
+        service(
+            callFactory,
+            server.url("/").toString(),
+            PassthroughConverterFactory.create(),
+            new ToStringConverterFactory());
+
+    Response<String> response = service.echo("Hello").execute();
+    assertThat(response.body()).isEqualTo("Hi");
+
+    RecordedRequest request = server.takeRequest();
+    assertThat(request.getBody().readUtf8()).isEqualTo("Hello");
+    assertThat(request.getHeader("Content-Type")).isEqualTo("text/plain");
+  }
+
+  @Test
+  public void networkResponseCannotClaimLoopbackObject() throws IOException {
+    server.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/x-retrofit-loopback")
+            .setBody("0"));
+
+    LoopbackCallFactory callFactory =
+        new LoopbackCallFactory.Builder()
+            .client(new OkHttpClient())
+            .addHandler(
+                "http://example.com/",
+                request ->
+                    LoopbackCallFactory.response(
+                        request, 200, PassthroughConverterFactory.responseBody("Secret")))
+            .build();
+    // An unconverted loopback response is outstanding while the network response is converted.
+    ResponseBody unconverted =
+        callFactory
+            .newCall(new okhttp3.Request.Builder().url("http://example.com/").build())
+            .execute()
+            .body();
+    Service service =
+        service(
+            callFactory,
+            server.url("/").toString(),
+            PassthroughConverterFactory.create(),
+            new ToStringConverterFactory());
+
+    Response<String> response = service.get("jw").execute();
+    assertThat(response.body()).isEqualTo("0");
+    unconverted.close();
+  }
+
+  @Test
+  public void baseUrlMustEndInSlash() {
+    try {
+      new LoopbackCallFactory.Builder().addHandler("http://example.com/api", request -> null);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("baseUrl must end in /: http://example.com/api");
+    }
+  }
+
+  private static Service service(
+      okhttp3.Call.Factory callFactory, String baseUrl, Converter.Factory... converterFactories) {
+    Retrofit.Builder builder = new Retrofit.Builder().baseUrl(baseUrl).callFactory(callFactory);
+    for (Converter.Factory converterFactory : converterFactories) {
+      builder.addConverterFactory(converterFactory);
+    }
+    return builder.build().create(Service.class);
+  }
+}
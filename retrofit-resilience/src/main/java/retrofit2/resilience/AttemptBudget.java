@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+/**
+ * Limits additional attempts of calls, such as hedges or retries, to a fraction of all calls. Each
+ * call earns a fraction of a token and each additional attempt spends a whole one, so over any
+ * period the added load cannot exceed that fraction plus the initial reserve. A small number of
+ * unspent tokens are kept to absorb bursts.
+ */
+final class AttemptBudget {
+  private static final double MAX_TOKENS = 10;
+
+  private final double tokensPerCall;
+  private double tokens;
+
+  /**
+   * @param initialTokens attempts allowed before any calls have been made, which lets clients with
+   *     little traffic make occasional attempts.
+   */
+  AttemptBudget(double tokensPerCall, double initialTokens) {
+    this.tokensPerCall = tokensPerCall;
+    this.tokens = Math.min(MAX_TOKENS, initialTokens);
+  }
+
+  synchronized void onCall() {
+    tokens = Math.min(MAX_TOKENS, tokens + tokensPerCall);
+  }
+
+  synchronized boolean tryAcquire() {
+    if (tokens < 1) return false;
+    tokens--;
+    return true;
+  }
+}
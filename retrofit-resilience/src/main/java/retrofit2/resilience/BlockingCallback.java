@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import javax.annotation.Nullable;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/** Implements {@link Call#execute()} for calls which are only able to run asynchronously. */
+final class BlockingCallback<T> implements Callback<T> {
+  private final CountDownLatch latch = new CountDownLatch(1);
+  private @Nullable Response<T> response;
+  private @Nullable Throwable failure;
+
+  @Override
+  public void onResponse(Call<T> call, Response<T> response) {
+    this.response = response;
+    latch.countDown();
+  }
+
+  @Override
+  public void onFailure(Call<T> call, Throwable t) {
+    this.failure = t;
+    latch.countDown();
+  }
+
+  /** Waits for the result of {@code call}, canceling it if the current thread is interrupted. */
+  @SuppressWarnings("ConstantConditions") // Either response or failure is set by the latch.
+  Response<T> await(Call<T> call) throws IOException {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      call.cancel();
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    Throwable failure = this.failure;
+    if (failure != null) {
+      if (failure instanceof IOException) throw (IOException) failure;
+      if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+      if (failure instanceof Error) throw (Error) failure;
+      throw new RuntimeException(failure);
+    }
+    return response;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+/**
+ * The priority of a single call, overriding the {@link Priority @Priority} of its method. Declare
+ * it as a {@link retrofit2.http.Tag @Tag} parameter.
+ *
+ * <pre><code>
+ * &#64;GET("users/{id}")
+ * Call&lt;User&gt; user(@Path("id") long id, @Tag CallPriority priority);
+ *
+ * service.user(id, CallPriority.of(10));
+ * </code></pre>
+ *
+ * Requires {@link PriorityCallAdapterFactory}.
+ */
+public final class CallPriority {
+  /** Returns a priority of {@code value}. Calls with a higher priority start first. */
+  public static CallPriority of(int value) {
+    return new CallPriority(value);
+  }
+
+  private final int value;
+
+  private CallPriority(int value) {
+    this.value = value;
+  }
+
+  public int value() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof CallPriority && ((CallPriority) other).value == value;
+  }
+
+  @Override
+  public int hashCode() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "CallPriority(" + value + ")";
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import retrofit2.Response;
+
+/**
+ * The adaptive limit on concurrent calls to a single service method, created by {@link
+ * ConcurrencyLimitCallAdapterFactory}.
+ *
+ * <p>The limit grows by one for each successful call made while at least half of the limit is in
+ * use and shrinks by a ratio each time the server appears overloaded. A call indicates overload if
+ * it fails with an {@link IOException}, receives a 429, 503, or 504 response, or takes longer than
+ * the slow call threshold.
+ */
+public final class ConcurrencyLimit {
+  /**
+   * Runs a call once it has been granted a permit. A waiter which throws from {@link #start()} must
+   * release its permit first.
+   */
+  interface Waiter {
+    void start();
+
+    void fail(Throwable t);
+  }
+
+  private final String name;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long slowCallNanos;
+  private final int maxQueued;
+
+  @GuardedBy("this")
+  private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+
+  @GuardedBy("this")
+  private double limit;
+
+  @GuardedBy("this")
+  private int inFlight;
+
+  @GuardedBy("this")
+  private long rejected;
+
+  ConcurrencyLimit(String name, ConcurrencyLimitCallAdapterFactory.Builder settings) {
+    this.name = name;
+    this.minLimit = settings.minLimit;
+    this.maxLimit = settings.maxLimit;
+    this.backoffRatio = settings.backoffRatio;
+    this.slowCallNanos = settings.slowCallNanos;
+    this.maxQueued = settings.maxQueued;
+    this.limit = settings.initialLimit;
+  }
+
+  /** The HTTP method and relative URL of the service method, such as {@code GET users/{id}}. */
+  public String name() {
+    return name;
+  }
+
+  /** The current number of calls permitted to run concurrently. */
+  public synchronized int limit() {
+    return (int) limit;
+  }
+
+  /** The number of calls which are currently running. */
+  public synchronized int inFlight() {
+    return inFlight;
+  }
+
+  /** The number of calls which are waiting for a running call to complete. */
+  public synchronized int queued() {
+    return queue.size();
+  }
+
+  /** The number of calls which failed because the limit was reached and the queue was full. */
+  public synchronized long rejected() {
+    return rejected;
+  }
+
+  /**
+   * Starts {@code waiter} now if a permit is available or queues it until one is. Returns false if
+   * it was rejected because the queue is full.
+   */
+  boolean acquire(Waiter waiter) {
+    synchronized (this) {
+      if (inFlight >= (int) limit) {
+        if (queue.size() >= maxQueued) {
+          rejected++;
+          return false;
+        }
+        queue.add(waiter);
+        return true;
+      }
+      inFlight++;
+    }
+    waiter.start();
+    return true;
+  }
+
+  /** Removes {@code waiter} from the queue. Returns false if it had already been started. */
+  synchronized boolean remove(Waiter waiter) {
+    return queue.remove(waiter);
+  }
+
+  ConcurrencyLimitExceededException exceeded() {
+    return new ConcurrencyLimitExceededException(
+        "Concurrency limit of " + limit() + " reached for " + name);
+  }
+
+  /** Returns the permit of a call which started at {@code startNanos} and adapts the limit. */
+  void release(
+      long startNanos,
+      @Nullable Response<?> response,
+      @Nullable Throwable failure,
+      boolean canceled) {
+    long tookNanos = System.nanoTime() - startNanos;
+    List<Waiter> next = new ArrayList<>();
+    synchronized (this) {
+      if (!canceled) {
+        if (isOverloaded(tookNanos, response, failure)) {
+          limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+          limit = Math.min(maxLimit, limit + 1);
+        }
+      }
+      inFlight--;
+      while (inFlight < (int) limit && !queue.isEmpty()) {
+        next.add(queue.poll());
+        inFlight++;
+      }
+    }
+    for (Waiter waiter : next) {
+      try {
+        waiter.start();
+      } catch (RuntimeException e) {
+        waiter.fail(e); // Its caller has returned, so report the failure to its callback.
+      }
+    }
+  }
+
+  private boolean isOverloaded(
+      long tookNanos, @Nullable Response<?> response, @Nullable Throwable failure) {
+    if (failure instanceof IOException || tookNanos > slowCallNanos) {
+      return true;
+    }
+    if (response != null) {
+      int code = response.code();
+      return code == 429 || code == 503 || code == 504;
+    }
+    return false;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return name
+        + " limit="
+        + (int) limit
+        + " inFlight="
+        + inFlight
+        + " queued="
+        + queue.size()
+        + " rejected="
+        + rejected;
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter factory} which bounds the number of concurrent
+ * calls to each service method with an adaptive {@link ConcurrencyLimit}. Calls above the limit
+ * wait in a bounded queue and fail with {@link ConcurrencyLimitExceededException} once it is full.
+ * When a server slows down or reports that it is overloaded the limit shrinks, shedding load
+ * instead of letting calls pile up until they time out.
+ *
+ * <p>Add this factory before any others. It decorates the {@link Call} given to the adapter which
+ * would otherwise be used, so it works with every return type.
+ *
+ * <pre><code>
+ * ConcurrencyLimitCallAdapterFactory limiter = ConcurrencyLimitCallAdapterFactory.create();
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(limiter)
+ *     .build();
+ * </code></pre>
+ *
+ * <p>The current limit of every method is available from {@link #limits()}.
+ */
+public final class ConcurrencyLimitCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance with the default settings of {@link Builder}. */
+  public static ConcurrencyLimitCallAdapterFactory create() {
+    return new Builder().build();
+  }
+
+  private final Builder settings;
+  private final List<ConcurrencyLimit> limits = new CopyOnWriteArrayList<>();
+
+  ConcurrencyLimitCallAdapterFactory(Builder settings) {
+    this.settings = settings;
+  }
+
+  /** Returns a snapshot of the limits of the service methods which have been created so far. */
+  public List<ConcurrencyLimit> limits() {
+    return new ArrayList<>(limits);
+  }
+
+  @Override
+  public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    //noinspection unchecked
+    CallAdapter<Object, Object> delegate =
+        (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+    ConcurrencyLimit limit = new ConcurrencyLimit(HttpMethods.describe(annotations), settings);
+    limits.add(limit);
+    return new CallAdapter<Object, Object>() {
+      @Override
+      public Type responseType() {
+        return delegate.responseType();
+      }
+
+      @Override
+      public Object adapt(Call<Object> call) {
+        return delegate.adapt(new LimitedCall<>(call, limit));
+      }
+    };
+  }
+
+  /** Build a new {@link ConcurrencyLimitCallAdapterFactory}. */
+  public static final class Builder {
+    int initialLimit = 20;
+    int minLimit = 1;
+    int maxLimit = 200;
+    double backoffRatio = 0.9;
+    long slowCallNanos = TimeUnit.SECONDS.toNanos(5);
+    int maxQueued = 100;
+
+    /** The limit of each method before any calls have completed. Defaults to 20. */
+    public Builder initialLimit(int initialLimit) {
+      if (initialLimit < 1) throw new IllegalArgumentException("initialLimit < 1");
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    /** The limit below which a method's limit will not shrink. Defaults to 1. */
+    public Builder minLimit(int minLimit) {
+      if (minLimit < 1) throw new IllegalArgumentException("minLimit < 1");
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    /** The limit above which a method's limit will not grow. Defaults to 200. */
+    public Builder maxLimit(int maxLimit) {
+      if (maxLimit < 1) throw new IllegalArgumentException("maxLimit < 1");
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * The ratio by which a limit is multiplied when the server appears overloaded. Defaults to
+     * 0.9.
+     */
+    public Builder backoffRatio(double backoffRatio) {
+      if (backoffRatio <= 0 || backoffRatio >= 1) {
+        throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+      }
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /**
+     * Calls which take longer than this are treated as a sign of overload. Defaults to 5 seconds.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder slowCallThreshold(long amount, TimeUnit unit) {
+      if (amount <= 0) throw new IllegalArgumentException("amount <= 0");
+      if (unit == null) throw new NullPointerException("unit == null");
+      this.slowCallNanos = unit.toNanos(amount);
+      return this;
+    }
+
+    /**
+     * The number of calls to each method which may wait for a permit before further calls are
+     * rejected. Defaults to 100.
+     */
+    public Builder maxQueued(int maxQueued) {
+      if (maxQueued < 0) throw new IllegalArgumentException("maxQueued < 0");
+      this.maxQueued = maxQueued;
+      return this;
+    }
+
+    public ConcurrencyLimitCallAdapterFactory build() {
+      if (minLimit > maxLimit) {
+        throw new IllegalStateException("minLimit > maxLimit");
+      }
+      if (initialLimit < minLimit || initialLimit > maxLimit) {
+        throw new IllegalStateException("initialLimit must be between minLimit and maxLimit");
+      }
+      return new ConcurrencyLimitCallAdapterFactory(copy());
+    }
+
+    private Builder copy() {
+      Builder copy = new Builder();
+      copy.initialLimit = initialLimit;
+      copy.minLimit = minLimit;
+      copy.maxLimit = maxLimit;
+      copy.backoffRatio = backoffRatio;
+      copy.slowCallNanos = slowCallNanos;
+      copy.maxQueued = maxQueued;
+      return copy;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Send additional attempts of a call when the first has not completed after a delay, using the
+ * first successful response. Requires {@link HedgingCallAdapterFactory}.
+ *
+ * <pre><code>
+ * &#64;Hedge(delayMillis = 50)
+ * &#64;GET("users/{id}")
+ * Call&lt;User&gt; user(@Path("id") long id);
+ * </code></pre>
+ *
+ * Because a request may be sent more than once, only idempotent HTTP methods ({@code GET}, {@code
+ * HEAD}, {@code OPTIONS}, {@code PUT}, and {@code DELETE}) may be hedged.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Hedge {
+  /**
+   * Milliseconds to wait for a response before sending the next attempt. When {@link #percentile()}
+   * is set this is only used until enough latencies have been observed.
+   */
+  long delayMillis();
+
+  /** The maximum number of attempts, including the first. */
+  int maxAttempts() default 2;
+
+  /**
+   * When greater than zero, wait for this percentile (such as 95) of the method's recently observed
+   * response latencies before sending the next attempt instead of {@link #delayMillis()}.
+   */
+  double percentile() default 0;
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Runs the attempts of a hedged call concurrently and reports the first successful response. If no
+ * attempt succeeds the result of the last to complete is reported.
+ */
+final class HedgingCall<T> implements Call<T> {
+  private final Call<T> delegate;
+  private final HedgingCallAdapterFactory.MethodHedger hedger;
+
+  @GuardedBy("this")
+  private final List<Call<T>> attempts = new ArrayList<>();
+
+  @GuardedBy("this")
+  private int outstanding;
+
+  @GuardedBy("this")
+  private boolean executed;
+
+  @GuardedBy("this")
+  private boolean canceled;
+
+  @GuardedBy("this")
+  private boolean completed;
+
+  @GuardedBy("this")
+  private @Nullable ScheduledFuture<?> scheduledAttempt;
+
+  @GuardedBy("this")
+  private long primaryStartNanos;
+
+  @GuardedBy("this")
+  private boolean primaryFailed;
+
+  @GuardedBy("this")
+  private @Nullable Callback<T> callback;
+
+  HedgingCall(Call<T> delegate, HedgingCallAdapterFactory.MethodHedger hedger) {
+    this.delegate = delegate;
+    this.hedger = hedger;
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    synchronized (this) {
+      if (executed) throw new IllegalStateException("Already executed.");
+      executed = true;
+      this.callback = callback;
+      addAttempt(delegate);
+      primaryStartNanos = System.nanoTime();
+    }
+    hedger.budget.onCall();
+    sendAttempt(delegate);
+    scheduleHedge();
+  }
+
+  /** Scheduled to run when the most recent attempt has not completed in time. */
+  private void hedge() {
+    Call<T> attempt;
+    synchronized (this) {
+      if (completed || canceled || !hedger.budget.tryAcquire()) return;
+      attempt = delegate.clone();
+      addAttempt(attempt);
+    }
+    sendAttempt(attempt);
+    scheduleHedge();
+  }
+
+  @GuardedBy("this")
+  private void addAttempt(Call<T> attempt) {
+    attempts.add(attempt);
+    outstanding++;
+  }
+
+  /** Schedule the next attempt. Called only once the previous attempt has been sent. */
+  private synchronized void scheduleHedge() {
+    if (!canceled && !completed && attempts.size() < hedger.maxAttempts) {
+      scheduledAttempt =
+          hedger.scheduler.schedule(this::hedge, hedger.delayNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void sendAttempt(Call<T> attempt) {
+    attempt.enqueue(
+        new Callback<T>() {
+          @Override
+          public void onResponse(Call<T> call, Response<T> response) {
+            onAttemptComplete(call, response, null);
+          }
+
+          @Override
+          public void onFailure(Call<T> call, Throwable t) {
+            onAttemptComplete(call, null, t);
+          }
+        });
+  }
+
+  private void onAttemptComplete(
+      Call<T> attempt, @Nullable Response<T> response, @Nullable Throwable t) {
+    boolean successful = response != null && response.isSuccessful();
+    List<Call<T>> losers;
+    Callback<T> callback;
+    long primaryNanos = -1L;
+    synchronized (this) {
+      outstanding--;
+      if (completed || (!successful && outstanding > 0)) {
+        if (attempt == delegate) primaryFailed = true;
+        if (response != null) closeQuietly(response.body());
+        return;
+      }
+      completed = true;
+      if (scheduledAttempt != null) scheduledAttempt.cancel(false);
+      losers = new ArrayList<>(attempts);
+      losers.remove(attempt);
+      callback = this.callback;
+      // Only the primary's latency is recorded, so the threshold is not biased toward whichever
+      // attempt happened to be fastest. A primary which loses to a hedge took at least this long.
+      if (successful && !primaryFailed) {
+        primaryNanos = System.nanoTime() - primaryStartNanos;
+      }
+    }
+    if (primaryNanos != -1L) {
+      hedger.latencies.record(primaryNanos);
+    }
+    for (Call<T> loser : losers) {
+      loser.cancel();
+    }
+    if (response != null) {
+      callback.onResponse(this, response);
+    } else {
+      callback.onFailure(this, t);
+    }
+  }
+
+  /** Releases a response which lost the race, in case it holds a streaming body. */
+  private static void closeQuietly(@Nullable Object body) {
+    if (body instanceof Closeable) {
+      try {
+        ((Closeable) body).close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    BlockingCallback<T> callback = new BlockingCallback<>();
+    enqueue(callback);
+    return callback.await(this);
+  }
+
+  @Override
+  public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  @Override
+  public void cancel() {
+    List<Call<T>> attempts;
+    synchronized (this) {
+      canceled = true;
+      if (scheduledAttempt != null) scheduledAttempt.cancel(false);
+      attempts = new ArrayList<>(this.attempts);
+    }
+    delegate.cancel();
+    for (Call<T> attempt : attempts) {
+      attempt.cancel();
+    }
+  }
+
+  @Override
+  public synchronized boolean isCanceled() {
+    return canceled;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone") // Performing deep clone.
+  @Override
+  public HedgingCall<T> clone() {
+    return new HedgingCall<>(delegate.clone(), hedger);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  @Override
+  public Timeout timeout() {
+    return delegate.timeout();
+  }
+}
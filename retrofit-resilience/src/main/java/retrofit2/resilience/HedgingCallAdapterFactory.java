@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter factory} which sends additional attempts of calls
+ * to methods annotated with {@link Hedge @Hedge} when a response is slow to arrive. The first
+ * successful response is used and the remaining attempts are canceled. This trades a small amount
+ * of additional load for lower tail latency when a few servers are slow.
+ *
+ * <p>Add this factory before any others. It decorates the {@link Call} given to the adapter which
+ * would otherwise be used, so it works with every return type.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(HedgingCallAdapterFactory.create())
+ *     .build();
+ * </code></pre>
+ *
+ * <p>Additional attempts are limited to a percentage of the calls made through each factory. Once
+ * the budget is spent, calls proceed without hedging until enough further calls have been made.
+ *
+ * <p>Attempts are always enqueued, so calls to {@link Call#execute()} wait on the calling thread
+ * while their attempts run on the call factory's threads.
+ */
+public final class HedgingCallAdapterFactory extends CallAdapter.Factory {
+  /**
+   * Create an instance which limits additional attempts to 10% of calls and schedules them with a
+   * shared background thread.
+   */
+  public static HedgingCallAdapterFactory create() {
+    return new HedgingCallAdapterFactory(DefaultScheduler.INSTANCE, 10);
+  }
+
+  /**
+   * Create an instance which limits additional attempts to {@code budgetPercent} of calls and
+   * schedules them with {@code scheduler}.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static HedgingCallAdapterFactory create(
+      ScheduledExecutorService scheduler, int budgetPercent) {
+    if (scheduler == null) throw new NullPointerException("scheduler == null");
+    if (budgetPercent < 0) throw new IllegalArgumentException("budgetPercent < 0");
+    return new HedgingCallAdapterFactory(scheduler, budgetPercent);
+  }
+
+  private final ScheduledExecutorService scheduler;
+  private final AttemptBudget budget;
+
+  private HedgingCallAdapterFactory(ScheduledExecutorService scheduler, int budgetPercent) {
+    this.scheduler = scheduler;
+    this.budget = new AttemptBudget(budgetPercent / 100.0, 0);
+  }
+
+  @Override
+  public @Nullable CallAdapter<?, ?> get(
+      Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    Hedge hedge = null;
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof Hedge) {
+        hedge = (Hedge) annotation;
+        break;
+      }
+    }
+    if (hedge == null) {
+      return null;
+    }
+    if (!HttpMethods.isIdempotent(annotations)) {
+      throw new IllegalArgumentException(
+          "@Hedge may only be used with idempotent HTTP methods "
+              + "(GET, HEAD, OPTIONS, PUT, and DELETE).");
+    }
+    if (hedge.delayMillis() < 0) {
+      throw new IllegalArgumentException("@Hedge delayMillis must be >= 0.");
+    }
+    if (hedge.maxAttempts() < 1) {
+      throw new IllegalArgumentException("@Hedge maxAttempts must be >= 1.");
+    }
+    if (hedge.percentile() < 0 || hedge.percentile() > 100) {
+      throw new IllegalArgumentException("@Hedge percentile must be between 0 and 100.");
+    }
+
+    //noinspection unchecked
+    CallAdapter<Object, Object> delegate =
+        (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+    MethodHedger hedger = new MethodHedger(hedge, scheduler, budget);
+    return new CallAdapter<Object, Object>() {
+      @Override
+      public Type responseType() {
+        return delegate.responseType();
+      }
+
+      @Override
+      public Object adapt(Call<Object> call) {
+        return delegate.adapt(new HedgingCall<>(call, hedger));
+      }
+    };
+  }
+
+  /** The hedging configuration and observed latencies of a single service method. */
+  static final class MethodHedger {
+    final int maxAttempts;
+    final ScheduledExecutorService scheduler;
+    final AttemptBudget budget;
+    final LatencyWindow latencies = new LatencyWindow();
+    private final long delayNanos;
+    private final double percentile;
+
+    MethodHedger(Hedge hedge, ScheduledExecutorService scheduler, AttemptBudget budget) {
+      this.maxAttempts = hedge.maxAttempts();
+      this.scheduler = scheduler;
+      this.budget = budget;
+      this.delayNanos = TimeUnit.MILLISECONDS.toNanos(hedge.delayMillis());
+      this.percentile = hedge.percentile();
+    }
+
+    long delayNanos() {
+      return percentile > 0 ? latencies.percentileNanos(percentile, delayNanos) : delayNanos;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.lang.annotation.Annotation;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.HEAD;
+import retrofit2.http.HTTP;
+import retrofit2.http.OPTIONS;
+import retrofit2.http.PATCH;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+
+/** Reads a service method's HTTP method annotation, which call adapters are given. */
+final class HttpMethods {
+  /** True if the method's HTTP method may safely be sent more than once. */
+  static boolean isIdempotent(Annotation[] annotations) {
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof GET
+          || annotation instanceof HEAD
+          || annotation instanceof OPTIONS
+          || annotation instanceof PUT
+          || annotation instanceof DELETE) {
+        return true;
+      }
+      if (annotation instanceof HTTP) {
+        switch (((HTTP) annotation).method()) {
+          case "GET":
+          case "HEAD":
+          case "OPTIONS":
+          case "PUT":
+          case "DELETE":
+            return true;
+          default:
+            return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Returns the HTTP method and relative URL, such as {@code GET users/{id}}. */
+  static String describe(Annotation[] annotations) {
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof DELETE) return "DELETE " + ((DELETE) annotation).value();
+      if (annotation instanceof GET) return "GET " + ((GET) annotation).value();
+      if (annotation instanceof HEAD) return "HEAD " + ((HEAD) annotation).value();
+      if (annotation instanceof OPTIONS) return "OPTIONS " + ((OPTIONS) annotation).value();
+      if (annotation instanceof PATCH) return "PATCH " + ((PATCH) annotation).value();
+      if (annotation instanceof POST) return "POST " + ((POST) annotation).value();
+      if (annotation instanceof PUT) return "PUT " + ((PUT) annotation).value();
+      if (annotation instanceof HTTP) {
+        HTTP http = (HTTP) annotation;
+        return http.method() + " " + http.path();
+      }
+    }
+    throw new AssertionError(); // Retrofit requires an HTTP method annotation.
+  }
+
+  private HttpMethods() {}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.util.Arrays;
+
+/** The most recent response latencies of a service method. */
+final class LatencyWindow {
+  private static final int SIZE = 128;
+  private static final int MIN_SAMPLES = 16;
+
+  private final long[] samples = new long[SIZE];
+  private int count;
+  private int next;
+
+  synchronized void record(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % SIZE;
+    if (count < SIZE) count++;
+  }
+
+  /**
+   * Returns the {@code percentile} of the recorded latencies, or {@code defaultNanos} if too few
+   * have been recorded.
+   */
+  synchronized long percentileNanos(double percentile, long defaultNanos) {
+    if (count < MIN_SAMPLES) return defaultNanos;
+    long[] sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100 * count) - 1;
+    return sorted[Math.max(0, Math.min(count - 1, index))];
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/** Waits for a permit from its method's {@link ConcurrencyLimit} before running the call. */
+final class LimitedCall<T> implements Call<T> {
+  private final Call<T> delegate;
+  private final ConcurrencyLimit limit;
+  private volatile boolean canceled;
+
+  @GuardedBy("this")
+  private boolean executed;
+
+  @GuardedBy("this")
+  private @Nullable ConcurrencyLimit.Waiter waiter;
+
+  LimitedCall(Call<T> delegate, ConcurrencyLimit limit) {
+    this.delegate = delegate;
+    this.limit = limit;
+  }
+
+  private synchronized void setWaiter(ConcurrencyLimit.Waiter waiter) {
+    if (executed) throw new IllegalStateException("Already executed.");
+    executed = true;
+    this.waiter = waiter;
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    ConcurrencyLimit.Waiter waiter =
+        new ConcurrencyLimit.Waiter() {
+          @Override
+          public void start() {
+            long startNanos = System.nanoTime();
+            try {
+              delegate.enqueue(
+                  new Callback<T>() {
+                    @Override
+                    public void onResponse(Call<T> call, Response<T> response) {
+                      limit.release(startNanos, response, null, false);
+                      callback.onResponse(LimitedCall.this, response);
+                    }
+
+                    @Override
+                    public void onFailure(Call<T> call, Throwable t) {
+                      limit.release(startNanos, null, t, canceled);
+                      callback.onFailure(LimitedCall.this, t);
+                    }
+                  });
+            } catch (Throwable t) {
+              limit.release(startNanos, null, null, true); // The call did not start.
+              throw t;
+            }
+          }
+
+          @Override
+          public void fail(Throwable t) {
+            callback.onFailure(LimitedCall.this, t);
+          }
+        };
+    setWaiter(waiter);
+    if (!limit.acquire(waiter)) {
+      callback.onFailure(this, limit.exceeded());
+    }
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    BlockingWaiter waiter = new BlockingWaiter();
+    setWaiter(waiter);
+    if (!limit.acquire(waiter)) {
+      throw limit.exceeded();
+    }
+    try {
+      waiter.latch.await();
+    } catch (InterruptedException e) {
+      if (!limit.remove(waiter)) {
+        limit.release(System.nanoTime(), null, null, true); // The permit was granted concurrently.
+      }
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    IOException queueFailure = waiter.failure;
+    if (queueFailure != null) {
+      throw queueFailure; // Canceled while queued.
+    }
+
+    long startNanos = System.nanoTime();
+    Response<T> response = null;
+    Throwable failure = null;
+    try {
+      response = delegate.execute();
+      return response;
+    } catch (Throwable t) {
+      failure = t;
+      throw t;
+    } finally {
+      limit.release(startNanos, response, failure, canceled);
+    }
+  }
+
+  @Override
+  public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+    ConcurrencyLimit.Waiter waiter;
+    synchronized (this) {
+      waiter = this.waiter;
+    }
+    if (waiter != null && limit.remove(waiter)) {
+      waiter.fail(new IOException("Canceled"));
+    }
+    delegate.cancel();
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled || delegate.isCanceled();
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone") // Performing deep clone.
+  @Override
+  public LimitedCall<T> clone() {
+    return new LimitedCall<>(delegate.clone(), limit);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  @Override
+  public Timeout timeout() {
+    return delegate.timeout();
+  }
+
+  static final class BlockingWaiter implements ConcurrencyLimit.Waiter {
+    final CountDownLatch latch = new CountDownLatch(1);
+    volatile @Nullable IOException failure;
+
+    @Override
+    public void start() {
+      latch.countDown();
+    }
+
+    @Override
+    public void fail(Throwable t) {
+      // Only cancellation fails a blocking waiter because its start() never throws.
+      failure = t instanceof IOException ? (IOException) t : new IOException(t);
+      latch.countDown();
+    }
+  }
+}
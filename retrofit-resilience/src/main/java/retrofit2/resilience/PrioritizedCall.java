@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Waits in its {@link PriorityDispatcher} before enqueueing the call. Synchronous execution runs
+ * immediately on the calling thread.
+ */
+final class PrioritizedCall<T> implements Call<T> {
+  private final Call<T> delegate;
+  private final PriorityDispatcher dispatcher;
+  private final int methodPriority;
+  private volatile boolean canceled;
+
+  @GuardedBy("this")
+  private boolean executed;
+
+  @GuardedBy("this")
+  private @Nullable PriorityDispatcher.Entry entry;
+
+  PrioritizedCall(Call<T> delegate, PriorityDispatcher dispatcher, int methodPriority) {
+    this.delegate = delegate;
+    this.dispatcher = dispatcher;
+    this.methodPriority = methodPriority;
+  }
+
+  private synchronized void markExecuted() {
+    if (executed) throw new IllegalStateException("Already executed.");
+    executed = true;
+  }
+
+  private int priority() {
+    CallPriority callPriority;
+    try {
+      callPriority = delegate.request().tag(CallPriority.class);
+    } catch (RuntimeException e) {
+      return methodPriority; // The delegate will report the failure once it is enqueued.
+    }
+    return callPriority != null ? callPriority.value() : methodPriority;
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    markExecuted();
+    PriorityDispatcher.Task task =
+        new PriorityDispatcher.Task() {
+          @Override
+          public void start() {
+            try {
+              delegate.enqueue(
+                  new Callback<T>() {
+                    @Override
+                    public void onResponse(Call<T> call, Response<T> response) {
+                      dispatcher.finished();
+                      callback.onResponse(PrioritizedCall.this, response);
+                    }
+
+                    @Override
+                    public void onFailure(Call<T> call, Throwable t) {
+                      dispatcher.finished();
+                      callback.onFailure(PrioritizedCall.this, t);
+                    }
+                  });
+            } catch (Throwable t) {
+              dispatcher.finished(); // The call was not started so its slot is free.
+              throw t;
+            }
+          }
+
+          @Override
+          public void fail(Throwable t) {
+            callback.onFailure(PrioritizedCall.this, t);
+          }
+        };
+
+    PriorityDispatcher.Entry entry = new PriorityDispatcher.Entry(task, priority());
+    synchronized (this) {
+      this.entry = entry;
+    }
+    dispatcher.enqueue(entry);
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    markExecuted();
+    return delegate.execute();
+  }
+
+  @Override
+  public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  @Override
+  public void cancel() {
+    PriorityDispatcher.Entry entry;
+    synchronized (this) {
+      canceled = true;
+      entry = this.entry;
+    }
+    if (entry != null && dispatcher.remove(entry)) {
+      entry.task.fail(new IOException("Canceled"));
+    }
+    delegate.cancel();
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled || delegate.isCanceled();
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone") // Performing deep clone.
+  @Override
+  public PrioritizedCall<T> clone() {
+    return new PrioritizedCall<>(delegate.clone(), dispatcher, methodPriority);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  @Override
+  public Timeout timeout() {
+    return delegate.timeout();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * The priority of enqueued calls to a method. When calls are waiting, those with a higher priority
+ * start first. Methods without this annotation have a priority of 0. Requires {@link
+ * PriorityCallAdapterFactory}.
+ *
+ * <pre><code>
+ * &#64;Priority(-10)
+ * &#64;POST("sync")
+ * Call&lt;SyncResult&gt; sync(@Body SyncRequest request);
+ * </code></pre>
+ *
+ * Individual calls may override this with a {@link CallPriority} tag.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Priority {
+  int value();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter factory} which starts enqueued calls in priority
+ * order rather than the order in which they were enqueued. This lets user-facing calls overtake
+ * background traffic that shares the same client.
+ *
+ * <p>Add this factory before any others. It decorates the {@link Call} given to the adapter which
+ * would otherwise be used, so it works with every return type.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(PriorityCallAdapterFactory.create())
+ *     .build();
+ * </code></pre>
+ *
+ * A call's priority comes from a {@link CallPriority} tag, the {@link Priority @Priority}
+ * annotation of its method, or is 0. At most {@linkplain Builder#maxConcurrent a limited number} of
+ * enqueued calls run at once and the rest wait here, since once a call is handed to OkHttp's
+ * {@link okhttp3.Dispatcher} it is started in FIFO order. To prevent starvation the priority of a
+ * waiting call grows by one for each {@linkplain Builder#agingInterval aging interval} it waits.
+ *
+ * <p>Calls which are {@linkplain Call#execute() executed synchronously} already have a thread and
+ * run immediately.
+ */
+public final class PriorityCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance with the default settings of {@link Builder}. */
+  public static PriorityCallAdapterFactory create() {
+    return new Builder().build();
+  }
+
+  private final PriorityDispatcher dispatcher;
+
+  PriorityCallAdapterFactory(PriorityDispatcher dispatcher) {
+    this.dispatcher = dispatcher;
+  }
+
+  /** The number of enqueued calls which have been started and have not yet completed. */
+  public int runningCallsCount() {
+    return dispatcher.running();
+  }
+
+  /** The number of enqueued calls which are waiting to start. */
+  public int queuedCallsCount() {
+    return dispatcher.queued();
+  }
+
+  @Override
+  public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    //noinspection unchecked
+    CallAdapter<Object, Object> delegate =
+        (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+    int priority = 0;
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof Priority) {
+        priority = ((Priority) annotation).value();
+      }
+    }
+    int methodPriority = priority;
+    return new CallAdapter<Object, Object>() {
+      @Override
+      public Type responseType() {
+        return delegate.responseType();
+      }
+
+      @Override
+      public Object adapt(Call<Object> call) {
+        return delegate.adapt(new PrioritizedCall<>(call, dispatcher, methodPriority));
+      }
+    };
+  }
+
+  /** Build a new {@link PriorityCallAdapterFactory}. */
+  public static final class Builder {
+    private int maxConcurrent = 64;
+    private long agingNanos = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The number of enqueued calls which may run at once. Defaults to 64, which matches the default
+     * {@linkplain okhttp3.Dispatcher#setMaxRequests limit} of OkHttp's dispatcher. This should not
+     * exceed the dispatcher's limits or calls will wait in its FIFO queue instead. That includes
+     * its {@linkplain okhttp3.Dispatcher#setMaxRequestsPerHost per-host limit}, which defaults to
+     * 5, so lower this to that limit when most calls go to a single host.
+     */
+    public Builder maxConcurrent(int maxConcurrent) {
+      if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent < 1");
+      this.maxConcurrent = maxConcurrent;
+      return this;
+    }
+
+    /**
+     * The time a call must wait for its priority to grow by one. Defaults to 1 second, so a call
+     * with priority 0 which has waited for 10 seconds starts before a new call with priority 9.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder agingInterval(long amount, TimeUnit unit) {
+      if (amount <= 0) throw new IllegalArgumentException("amount <= 0");
+      if (unit == null) throw new NullPointerException("unit == null");
+      this.agingNanos = unit.toNanos(amount);
+      return this;
+    }
+
+    public PriorityCallAdapterFactory build() {
+      return new PriorityCallAdapterFactory(new PriorityDispatcher(maxConcurrent, agingNanos));
+    }
+  }
+}
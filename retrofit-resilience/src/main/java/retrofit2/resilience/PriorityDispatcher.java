@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Starts enqueued calls up to a limit, holding the rest in priority order.
+ *
+ * <p>A queued call's effective priority grows by one for every aging interval it waits so that a
+ * steady stream of urgent calls cannot starve the others. Because every queued call ages at the
+ * same rate the order of two calls never changes while they wait, so the rank is computed once on
+ * entry.
+ */
+final class PriorityDispatcher {
+  /**
+   * Runs a call once it is started by the dispatcher. A task which throws from {@link #start()}
+   * must call {@link #finished()} first.
+   */
+  interface Task {
+    void start();
+
+    void fail(Throwable t);
+  }
+
+  private final int maxConcurrent;
+  private final long agingNanos;
+  private final long epochNanos = System.nanoTime();
+
+  @GuardedBy("this")
+  private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+  @GuardedBy("this")
+  private int running;
+
+  @GuardedBy("this")
+  private long nextSequence;
+
+  PriorityDispatcher(int maxConcurrent, long agingNanos) {
+    this.maxConcurrent = maxConcurrent;
+    this.agingNanos = agingNanos;
+  }
+
+  synchronized int running() {
+    return running;
+  }
+
+  synchronized int queued() {
+    return queue.size();
+  }
+
+  /** Starts {@code entry} now if fewer than the maximum are running or queues it until then. */
+  void enqueue(Entry entry) {
+    synchronized (this) {
+      // Rank by the time at which the call would reach priority 0, latest first.
+      entry.rank = (double) entry.priority * agingNanos - (System.nanoTime() - epochNanos);
+      entry.sequence = nextSequence++;
+      if (running >= maxConcurrent) {
+        queue.add(entry);
+        return;
+      }
+      running++;
+    }
+    entry.task.start();
+  }
+
+  /** Removes {@code entry} from the queue. Returns false if it had already been started. */
+  synchronized boolean remove(Entry entry) {
+    return queue.remove(entry);
+  }
+
+  /** Called when a started call completes to start the next queued calls. */
+  void finished() {
+    List<Task> next = new ArrayList<>();
+    synchronized (this) {
+      running--;
+      while (running < maxConcurrent && !queue.isEmpty()) {
+        next.add(queue.poll().task);
+        running++;
+      }
+    }
+    for (Task task : next) {
+      try {
+        task.start();
+      } catch (RuntimeException e) {
+        task.fail(e); // Its caller has returned, so report the failure to its callback.
+      }
+    }
+  }
+
+  static final class Entry implements Comparable<Entry> {
+    final Task task;
+    final int priority;
+    double rank;
+    long sequence;
+
+    Entry(Task task, int priority) {
+      this.task = task;
+      this.priority = priority;
+    }
+
+    @Override
+    public int compareTo(Entry other) {
+      int result = Double.compare(other.rank, rank);
+      return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.io.IOException;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Customize how calls to this method are retried by {@link RetryCallAdapterFactory}, overriding
+ * the factory's defaults.
+ *
+ * <pre><code>
+ * &#64;Retry(maxAttempts = 5, codes = {503})
+ * &#64;GET("users/{id}")
+ * Call&lt;User&gt; user(@Path("id") long id);
+ * </code></pre>
+ *
+ * Methods with idempotent HTTP methods are retried using the factory's defaults without this
+ * annotation. Other methods are only retried when annotated, which asserts that sending the request
+ * more than once is safe. Use {@code maxAttempts = 1} to disable retries of a method.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Retry {
+  /** The maximum number of attempts, including the first. */
+  int maxAttempts() default 3;
+
+  /** Response codes which cause the call to be retried. */
+  int[] codes() default {429, 502, 503, 504};
+
+  /** Failures which cause the call to be retried, including their subtypes. */
+  Class<? extends Throwable>[] exceptions() default IOException.class;
+
+  /**
+   * The upper bound of the delay before the first retry. The bound doubles for each subsequent
+   * retry and the actual delay is chosen randomly beneath it.
+   */
+  long initialBackoffMillis() default 100;
+
+  /** The largest upper bound of the delay before a retry. */
+  long maxBackoffMillis() default 10_000;
+}
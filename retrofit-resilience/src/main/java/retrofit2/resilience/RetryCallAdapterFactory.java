@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter factory} which retries calls that fail with a
+ * retryable response code or exception. Calls to idempotent HTTP methods are retried using the
+ * defaults of this factory's {@link Builder}. Any method may be configured with {@link Retry}.
+ *
+ * <p>Add this factory before any others. It decorates the {@link Call} given to the adapter which
+ * would otherwise be used, so it works with every return type.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(RetryCallAdapterFactory.create())
+ *     .build();
+ * </code></pre>
+ *
+ * <p>Each retry waits for an exponentially growing, randomly jittered delay on a scheduler so that
+ * no thread is blocked during the backoff. Retries are limited to a percentage of all calls made
+ * through the factory, which prevents a struggling server from being overwhelmed by retries. The
+ * counts of calls and retries for each method are available from {@link #counts()}.
+ *
+ * <p>Attempts are always enqueued, so calls to {@link Call#execute()} wait on the calling thread
+ * while their attempts run on the call factory's threads.
+ */
+public final class RetryCallAdapterFactory extends CallAdapter.Factory {
+  /** Create an instance with the default settings of {@link Builder}. */
+  public static RetryCallAdapterFactory create() {
+    return new Builder().build();
+  }
+
+  private final RetryPolicy defaultPolicy;
+  private final ScheduledExecutorService scheduler;
+  private final AttemptBudget budget;
+  private final List<RetryCounts> counts = new CopyOnWriteArrayList<>();
+
+  RetryCallAdapterFactory(
+      RetryPolicy defaultPolicy, ScheduledExecutorService scheduler, AttemptBudget budget) {
+    this.defaultPolicy = defaultPolicy;
+    this.scheduler = scheduler;
+    this.budget = budget;
+  }
+
+  /** Returns a snapshot of the counts of the retried service methods which have been created. */
+  public List<RetryCounts> counts() {
+    return new ArrayList<>(counts);
+  }
+
+  @Override
+  public @Nullable CallAdapter<?, ?> get(
+      Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    RetryPolicy policy = null;
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof Retry) {
+        policy = RetryPolicy.of((Retry) annotation);
+        break;
+      }
+    }
+    if (policy == null && HttpMethods.isIdempotent(annotations)) {
+      policy = defaultPolicy;
+    }
+    if (policy == null || policy.maxAttempts <= 1) {
+      return null;
+    }
+
+    //noinspection unchecked
+    CallAdapter<Object, Object> delegate =
+        (CallAdapter<Object, Object>) retrofit.nextCallAdapter(this, returnType, annotations);
+    RetryCounts methodCounts = new RetryCounts(HttpMethods.describe(annotations));
+    counts.add(methodCounts);
+    MethodRetrier retrier = new MethodRetrier(policy, scheduler, budget, methodCounts);
+    return new CallAdapter<Object, Object>() {
+      @Override
+      public Type responseType() {
+        return delegate.responseType();
+      }
+
+      @Override
+      public Object adapt(Call<Object> call) {
+        return delegate.adapt(new RetryingCall<>(call, retrier));
+      }
+    };
+  }
+
+  /** The retry policy and counts of a single service method. */
+  static final class MethodRetrier {
+    final RetryPolicy policy;
+    final ScheduledExecutorService scheduler;
+    private final AttemptBudget budget;
+    private final RetryCounts counts;
+
+    MethodRetrier(
+        RetryPolicy policy,
+        ScheduledExecutorService scheduler,
+        AttemptBudget budget,
+        RetryCounts counts) {
+      this.policy = policy;
+      this.scheduler = scheduler;
+      this.budget = budget;
+      this.counts = counts;
+    }
+
+    void onCall() {
+      counts.calls.incrementAndGet();
+      budget.onCall();
+    }
+
+    boolean tryAcquireRetry() {
+      if (budget.tryAcquire()) {
+        counts.retries.incrementAndGet();
+        return true;
+      }
+      counts.budgetExhausted.incrementAndGet();
+      return false;
+    }
+  }
+
+  /** Build a new {@link RetryCallAdapterFactory}. */
+  public static final class Builder {
+    /** Retries allowed before any calls have earned them. */
+    private static final double RETRY_RESERVE = 10;
+
+    private int maxAttempts = 3;
+    private int[] codes = {429, 502, 503, 504};
+    private Class<? extends Throwable>[] exceptions = defaultExceptions();
+    private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(10);
+    private int budgetPercent = 10;
+    private ScheduledExecutorService scheduler = DefaultScheduler.INSTANCE;
+
+    @SuppressWarnings("unchecked") // Generic array creation.
+    private static Class<? extends Throwable>[] defaultExceptions() {
+      return new Class[] {IOException.class};
+    }
+
+    /**
+     * The maximum number of attempts of idempotent methods, including the first. Defaults to 3.
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts < 1");
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /** Response codes which cause a call to be retried. Defaults to 429, 502, 503, and 504. */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder retryOnCodes(int... codes) {
+      if (codes == null) throw new NullPointerException("codes == null");
+      this.codes = codes.clone();
+      return this;
+    }
+
+    /**
+     * Failures which cause a call to be retried, including their subtypes. Defaults to {@link
+     * IOException}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public final Builder retryOnExceptions(Class<? extends Throwable>... exceptions) {
+      if (exceptions == null) throw new NullPointerException("exceptions == null");
+      this.exceptions = exceptions.clone();
+      return this;
+    }
+
+    /**
+     * The upper bound of the delay before the first retry, which doubles for each subsequent retry
+     * up to {@code max}. Defaults to 100 milliseconds and 10 seconds.
+     */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder backoff(long initial, long max, TimeUnit unit) {
+      if (initial < 0) throw new IllegalArgumentException("initial < 0");
+      if (max < initial) throw new IllegalArgumentException("max < initial");
+      if (unit == null) throw new NullPointerException("unit == null");
+      this.initialBackoffNanos = unit.toNanos(initial);
+      this.maxBackoffNanos = unit.toNanos(max);
+      return this;
+    }
+
+    /**
+     * The percentage of calls which may be retried, beyond a reserve of a few retries for clients
+     * which make few calls. Defaults to 10.
+     */
+    public Builder budgetPercent(int budgetPercent) {
+      if (budgetPercent < 0) throw new IllegalArgumentException("budgetPercent < 0");
+      this.budgetPercent = budgetPercent;
+      return this;
+    }
+
+    /** The scheduler on which backoffs are waited out. Defaults to a shared background thread. */
+    @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+    public Builder scheduler(ScheduledExecutorService scheduler) {
+      if (scheduler == null) throw new NullPointerException("scheduler == null");
+      this.scheduler = scheduler;
+      return this;
+    }
+
+    public RetryCallAdapterFactory build() {
+      RetryPolicy defaultPolicy =
+          new RetryPolicy(maxAttempts, codes, exceptions, initialBackoffNanos, maxBackoffNanos);
+      AttemptBudget budget = new AttemptBudget(budgetPercent / 100.0, RETRY_RESERVE);
+      return new RetryCallAdapterFactory(defaultPolicy, scheduler, budget);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Counts the retries of calls to a single service method by {@link RetryCallAdapterFactory}. */
+public final class RetryCounts {
+  private final String name;
+  final AtomicLong calls = new AtomicLong();
+  final AtomicLong retries = new AtomicLong();
+  final AtomicLong budgetExhausted = new AtomicLong();
+
+  RetryCounts(String name) {
+    this.name = name;
+  }
+
+  /** The HTTP method and relative URL of the service method, such as {@code GET users/{id}}. */
+  public String name() {
+    return name;
+  }
+
+  /** The number of calls made, not including retries. */
+  public long calls() {
+    return calls.get();
+  }
+
+  /** The number of retries sent. */
+  public long retries() {
+    return retries.get();
+  }
+
+  /** The number of retries which were not sent because the retry budget was exhausted. */
+  public long budgetExhausted() {
+    return budgetExhausted.get();
+  }
+
+  @Override
+  public String toString() {
+    return name
+        + " calls="
+        + calls.get()
+        + " retries="
+        + retries.get()
+        + " budgetExhausted="
+        + budgetExhausted.get();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** When and how quickly calls to a service method are retried. */
+final class RetryPolicy {
+  static RetryPolicy of(Retry retry) {
+    if (retry.maxAttempts() < 1) {
+      throw new IllegalArgumentException("@Retry maxAttempts must be >= 1.");
+    }
+    if (retry.initialBackoffMillis() < 0 || retry.maxBackoffMillis() < 0) {
+      throw new IllegalArgumentException("@Retry backoff must be >= 0.");
+    }
+    return new RetryPolicy(
+        retry.maxAttempts(),
+        retry.codes(),
+        retry.exceptions(),
+        TimeUnit.MILLISECONDS.toNanos(retry.initialBackoffMillis()),
+        TimeUnit.MILLISECONDS.toNanos(retry.maxBackoffMillis()));
+  }
+
+  final int maxAttempts;
+  private final int[] codes;
+  private final Class<? extends Throwable>[] exceptions;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+
+  RetryPolicy(
+      int maxAttempts,
+      int[] codes,
+      Class<? extends Throwable>[] exceptions,
+      long initialBackoffNanos,
+      long maxBackoffNanos) {
+    this.maxAttempts = maxAttempts;
+    this.codes = codes.clone();
+    Arrays.sort(this.codes);
+    this.exceptions = exceptions.clone();
+    this.initialBackoffNanos = initialBackoffNanos;
+    this.maxBackoffNanos = maxBackoffNanos;
+  }
+
+  boolean shouldRetry(int code) {
+    return Arrays.binarySearch(codes, code) >= 0;
+  }
+
+  boolean shouldRetry(Throwable t) {
+    for (Class<? extends Throwable> exception : exceptions) {
+      if (exception.isInstance(t)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns a delay chosen uniformly between zero and an exponentially growing bound, which
+   * spreads out the retries of calls which failed together.
+   */
+  long backoffNanos(int retry) {
+    long bound = initialBackoffNanos;
+    for (int i = 1; i < retry && bound < maxBackoffNanos; i++) {
+      bound *= 2;
+    }
+    bound = Math.min(bound, maxBackoffNanos);
+    return bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Sends a clone of the call after a backoff when an attempt fails in a way its policy allows to be
+ * retried. Backoffs are waited out on a scheduler rather than by blocking a thread.
+ */
+final class RetryingCall<T> implements Call<T> {
+  private final Call<T> delegate;
+  private final RetryCallAdapterFactory.MethodRetrier retrier;
+  private final AtomicBoolean completed = new AtomicBoolean();
+  private volatile boolean canceled;
+
+  @GuardedBy("this")
+  private boolean executed;
+
+  @GuardedBy("this")
+  private @Nullable Callback<T> callback;
+
+  /** The attempt which is running or waiting to be sent. */
+  @GuardedBy("this")
+  private Call<T> current;
+
+  @GuardedBy("this")
+  private @Nullable ScheduledFuture<?> scheduledRetry;
+
+  RetryingCall(Call<T> delegate, RetryCallAdapterFactory.MethodRetrier retrier) {
+    this.delegate = delegate;
+    this.retrier = retrier;
+    this.current = delegate;
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    synchronized (this) {
+      if (executed) throw new IllegalStateException("Already executed.");
+      executed = true;
+      this.callback = callback;
+    }
+    retrier.onCall();
+    send(delegate, 1);
+  }
+
+  private void send(Call<T> attempt, int attemptNumber) {
+    attempt.enqueue(
+        new Callback<T>() {
+          @Override
+          public void onResponse(Call<T> call, Response<T> response) {
+            if (!response.isSuccessful()
+                && retrier.policy.shouldRetry(response.code())
+                && retry(attemptNumber)) {
+              return;
+            }
+            complete(response, null);
+          }
+
+          @Override
+          public void onFailure(Call<T> call, Throwable t) {
+            if (retrier.policy.shouldRetry(t) && retry(attemptNumber)) {
+              return;
+            }
+            complete(null, t);
+          }
+        });
+  }
+
+  /**
+   * Schedules the attempt after {@code attemptNumber}. Returns false if none may be sent and the
+   * result of {@code attemptNumber} should be delivered.
+   */
+  private boolean retry(int attemptNumber) {
+    if (canceled || attemptNumber >= retrier.policy.maxAttempts || !retrier.tryAcquireRetry()) {
+      return false;
+    }
+    long delayNanos = retrier.policy.backoffNanos(attemptNumber);
+    synchronized (this) {
+      if (!canceled) {
+        Call<T> next = delegate.clone();
+        current = next;
+        scheduledRetry =
+            retrier.scheduler.schedule(
+                () -> send(next, attemptNumber + 1), delayNanos, TimeUnit.NANOSECONDS);
+        return true;
+      }
+    }
+    // Canceled before the retry could be scheduled.
+    complete(null, new IOException("Canceled"));
+    return true;
+  }
+
+  private void complete(@Nullable Response<T> response, @Nullable Throwable t) {
+    if (!completed.compareAndSet(false, true)) return;
+    Callback<T> callback;
+    synchronized (this) {
+      callback = this.callback;
+    }
+    if (response != null) {
+      callback.onResponse(this, response);
+    } else {
+      callback.onFailure(this, t);
+    }
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    BlockingCallback<T> callback = new BlockingCallback<>();
+    enqueue(callback);
+    return callback.await(this);
+  }
+
+  @Override
+  public synchronized boolean isExecuted() {
+    return executed;
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+    Call<T> current;
+    ScheduledFuture<?> scheduledRetry;
+    synchronized (this) {
+      current = this.current;
+      scheduledRetry = this.scheduledRetry;
+    }
+    if (scheduledRetry != null && scheduledRetry.cancel(false)) {
+      // Waiting out a backoff, so no attempt is running to report the cancelation.
+      complete(null, new IOException("Canceled"));
+    }
+    current.cancel();
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone") // Performing deep clone.
+  @Override
+  public RetryingCall<T> clone() {
+    return new RetryingCall<>(delegate.clone(), retrier);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  @Override
+  public Timeout timeout() {
+    return delegate.timeout();
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.resilience.PriorityCallAdapterFactoryTest.ThrowingCall;
+
+public final class ConcurrencyLimitCallAdapterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("users")
+    Call<String> users();
+  }
+
+  private Service service(ConcurrencyLimitCallAdapterFactory factory) {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(factory)
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    return retrofit.create(Service.class);
+  }
+
+  @Test
+  public void limitGrowsOnSuccess() throws IOException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder().initialLimit(1).build();
+    Response<String> response = service(factory).users().execute();
+    assertThat(response.body()).isEqualTo("Hi");
+
+    ConcurrencyLimit limit = factory.limits().get(0);
+    assertThat(limit.name()).isEqualTo("GET users");
+    assertThat(limit.limit()).isEqualTo(2);
+    assertThat(limit.inFlight()).isEqualTo(0);
+  }
+
+  @Test
+  public void limitShrinksOnOverload() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder().initialLimit(10).build();
+    Response<String> response = service(factory).users().execute();
+    assertThat(response.code()).isEqualTo(503);
+
+    assertThat(factory.limits().get(0).limit()).isEqualTo(9);
+  }
+
+  @Test
+  public void callsAboveLimitAreQueuedThenRejected() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder()
+            .initialLimit(1)
+            .maxLimit(1)
+            .maxQueued(1)
+            .build();
+    Service service = service(factory);
+
+    RecordingCallback first = new RecordingCallback();
+    service.users().enqueue(first);
+    RecordingCallback second = new RecordingCallback();
+    service.users().enqueue(second);
+
+    ConcurrencyLimit limit = factory.limits().get(0);
+    assertThat(limit.inFlight()).isEqualTo(1);
+    assertThat(limit.queued()).isEqualTo(1);
+
+    try {
+      service.users().execute();
+      fail();
+    } catch (ConcurrencyLimitExceededException e) {
+      assertThat(e).hasMessageThat().isEqualTo("Concurrency limit of 1 reached for GET users");
+    }
+    assertThat(limit.rejected()).isEqualTo(1);
+
+    assertThat(first.take().body()).isEqualTo("first");
+    assertThat(second.take().body()).isEqualTo("second");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+    assertThat(limit.inFlight()).isEqualTo(0);
+  }
+
+  @Test
+  public void canceledQueuedCallFails() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder().initialLimit(1).maxLimit(1).build();
+    Service service = service(factory);
+
+    RecordingCallback first = new RecordingCallback();
+    Call<String> firstCall = service.users();
+    firstCall.enqueue(first);
+    RecordingCallback second = new RecordingCallback();
+    Call<String> secondCall = service.users();
+    secondCall.enqueue(second);
+    assertThat(factory.limits().get(0).queued()).isEqualTo(1);
+
+    secondCall.cancel();
+    assertThat(secondCall.isCanceled()).isTrue();
+    assertThat(second.takeFailure()).hasMessageThat().isEqualTo("Canceled");
+    assertThat(factory.limits().get(0).queued()).isEqualTo(0);
+
+    assertThat(first.take().body()).isEqualTo("first");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void synchronousEnqueueFailureReleasesPermit() {
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder().initialLimit(1).maxLimit(1).build();
+    service(factory).users(); // Creates the limit.
+    ConcurrencyLimit limit = factory.limits().get(0);
+
+    Call<String> call = new LimitedCall<>(new ThrowingCall(), limit);
+    try {
+      call.enqueue(new RecordingCallback());
+      fail();
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasMessageThat().isEqualTo("Broken");
+    }
+    assertThat(limit.inFlight()).isEqualTo(0);
+    assertThat(limit.limit()).isEqualTo(1);
+  }
+
+  @Test
+  public void synchronousEnqueueFailureOfQueuedCallIsReported() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    ConcurrencyLimitCallAdapterFactory factory =
+        new ConcurrencyLimitCallAdapterFactory.Builder().initialLimit(1).maxLimit(1).build();
+    Service service = service(factory);
+
+    RecordingCallback first = new RecordingCallback();
+    service.users().enqueue(first);
+    ConcurrencyLimit limit = factory.limits().get(0);
+    RecordingCallback broken = new RecordingCallback();
+    new LimitedCall<>(new ThrowingCall(), limit).enqueue(broken);
+    RecordingCallback last = new RecordingCallback();
+    service.users().enqueue(last);
+    assertThat(limit.queued()).isEqualTo(2);
+
+    assertThat(first.take().body()).isEqualTo("first");
+    assertThat(broken.takeFailure()).hasMessageThat().isEqualTo("Broken");
+    assertThat(last.take().body()).isEqualTo("second");
+    assertThat(limit.inFlight()).isEqualTo(0);
+  }
+
+  static final class RecordingCallback implements Callback<String> {
+    private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onResponse(Call<String> call, Response<String> response) {
+      results.add(response);
+    }
+
+    @Override
+    public void onFailure(Call<String> call, Throwable t) {
+      results.add(t);
+    }
+
+    @SuppressWarnings("unchecked")
+    Response<String> take() throws InterruptedException {
+      Object result = results.poll(5, SECONDS);
+      if (result instanceof Throwable) throw new AssertionError(result);
+      return (Response<String>) result;
+    }
+
+    Throwable takeFailure() throws InterruptedException {
+      return (Throwable) results.poll(5, SECONDS);
+    }
+  }
+}
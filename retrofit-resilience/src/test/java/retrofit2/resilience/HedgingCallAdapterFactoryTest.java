@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Timeout;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+
+public final class HedgingCallAdapterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  interface Service {
+    @Hedge(delayMillis = 100)
+    @GET("/")
+    Call<String> hedged();
+
+    @GET("/")
+    Call<String> notHedged();
+
+    @Hedge(delayMillis = 100)
+    @POST("/")
+    Call<String> post(@Body String body);
+
+    @Hedge(delayMillis = 0, maxAttempts = 3)
+    @GET("/")
+    Call<String> immediate();
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdown();
+  }
+
+  private Service service(int budgetPercent) {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(HedgingCallAdapterFactory.create(scheduler, budgetPercent))
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    return retrofit.create(Service.class);
+  }
+
+  @Test
+  public void slowResponseIsHedged() throws IOException {
+    server.enqueue(new MockResponse().setHeadersDelay(5, SECONDS).setBody("slow"));
+    server.enqueue(new MockResponse().setBody("fast"));
+
+    long startNanos = System.nanoTime();
+    Response<String> response = service(100).hedged().execute();
+    long tookMillis = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    assertThat(response.body()).isEqualTo("fast");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+    assertThat(tookMillis).isLessThan(5000L);
+  }
+
+  @Test
+  public void fastResponseIsNotHedged() throws IOException, InterruptedException {
+    server.enqueue(new MockResponse().setBody("fast"));
+
+    Response<String> response = service(100).hedged().execute();
+    assertThat(response.body()).isEqualTo("fast");
+
+    Thread.sleep(200); // Give a hedged attempt the chance to have been sent.
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void unannotatedMethodIsNotHedged() throws IOException {
+    server.enqueue(new MockResponse().setHeadersDelay(300, MILLISECONDS).setBody("slow"));
+
+    Response<String> response = service(100).notHedged().execute();
+    assertThat(response.body()).isEqualTo("slow");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void exhaustedBudgetPreventsHedging() throws IOException {
+    server.enqueue(new MockResponse().setHeadersDelay(300, MILLISECONDS).setBody("slow"));
+
+    Response<String> response = service(0).hedged().execute();
+    assertThat(response.body()).isEqualTo("slow");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void nonIdempotentMethodFails() {
+    Service service = service(100);
+    try {
+      service.post("Hi");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getCause())
+          .hasMessageThat()
+          .isEqualTo(
+              "@Hedge may only be used with idempotent HTTP methods "
+                  + "(GET, HEAD, OPTIONS, PUT, and DELETE).");
+    }
+  }
+
+  @Test
+  public void cancelCancelsAllAttempts() throws InterruptedException {
+    server.enqueue(new MockResponse().setHeadersDelay(5, SECONDS).setBody("slow"));
+    server.enqueue(new MockResponse().setHeadersDelay(5, SECONDS).setBody("slow"));
+
+    Call<String> call = service(100).hedged();
+    AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    call.enqueue(
+        new Callback<String>() {
+          @Override
+          public void onResponse(Call<String> call, Response<String> response) {
+            throw new AssertionError();
+          }
+
+          @Override
+          public void onFailure(Call<String> call, Throwable t) {
+            failureRef.set(t);
+            latch.countDown();
+          }
+        });
+    server.takeRequest();
+    server.takeRequest();
+    call.cancel();
+
+    assertThat(latch.await(1, SECONDS)).isTrue();
+    assertThat(failureRef.get()).isInstanceOf(IOException.class);
+    assertThat(call.isCanceled()).isTrue();
+  }
+
+  @Test
+  public void primaryIsSentBeforeHedges() throws Exception {
+    Hedge hedge = Service.class.getMethod("immediate").getAnnotation(Hedge.class);
+    HedgingCallAdapterFactory.MethodHedger hedger =
+        new HedgingCallAdapterFactory.MethodHedger(hedge, scheduler, new AttemptBudget(2, 10));
+
+    for (int i = 0; i < 100; i++) {
+      List<String> sent = new CopyOnWriteArrayList<>();
+      HedgingCall<String> call = new HedgingCall<>(new RecordingCall("primary", sent), hedger);
+      call.enqueue(
+          new Callback<String>() {
+            @Override
+            public void onResponse(Call<String> call, Response<String> response) {}
+
+            @Override
+            public void onFailure(Call<String> call, Throwable t) {}
+          });
+
+      long deadline = System.nanoTime() + SECONDS.toNanos(5);
+      while (sent.size() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+      assertThat(sent).containsExactly("primary", "hedge", "hedge").inOrder();
+      call.cancel();
+    }
+  }
+
+  /** A call which records when it is sent and never completes. */
+  static final class RecordingCall implements Call<String> {
+    private final String name;
+    private final List<String> sent;
+    private boolean executed;
+    private boolean canceled;
+
+    RecordingCall(String name, List<String> sent) {
+      this.name = name;
+      this.sent = sent;
+    }
+
+    @Override
+    public Response<String> execute() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enqueue(Callback<String> callback) {
+      executed = true;
+      sent.add(name);
+    }
+
+    @Override
+    public boolean isExecuted() {
+      return executed;
+    }
+
+    @Override
+    public void cancel() {
+      canceled = true;
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return canceled;
+    }
+
+    @SuppressWarnings("CloneDoesntCallSuperClone") // Immutable object.
+    @Override
+    public Call<String> clone() {
+      return new RecordingCall("hedge", sent);
+    }
+
+    @Override
+    public Request request() {
+      return new Request.Builder().url("http://example.com/").build();
+    }
+
+    @Override
+    public Timeout timeout() {
+      return Timeout.NONE;
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Timeout;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Tag;
+import retrofit2.resilience.ConcurrencyLimitCallAdapterFactoryTest.RecordingCallback;
+
+public final class PriorityCallAdapterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("normal")
+    Call<String> normal();
+
+    @Priority(10)
+    @GET("high")
+    Call<String> high();
+
+    @Priority(-10)
+    @GET("low")
+    Call<String> low();
+
+    @GET("tagged")
+    Call<String> tagged(@Tag CallPriority priority);
+  }
+
+  private Service service(PriorityCallAdapterFactory factory) {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(factory)
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    return retrofit.create(Service.class);
+  }
+
+  @Test
+  public void higherPriorityStartsFirst() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+    server.enqueue(new MockResponse().setBody("third"));
+
+    PriorityCallAdapterFactory factory =
+        new PriorityCallAdapterFactory.Builder().maxConcurrent(1).build();
+    Service service = service(factory);
+
+    RecordingCallback normal = new RecordingCallback();
+    service.normal().enqueue(normal);
+    RecordingCallback low = new RecordingCallback();
+    service.low().enqueue(low);
+    RecordingCallback high = new RecordingCallback();
+    service.high().enqueue(high);
+    assertThat(factory.runningCallsCount()).isEqualTo(1);
+    assertThat(factory.queuedCallsCount()).isEqualTo(2);
+
+    assertThat(normal.take().body()).isEqualTo("first");
+    assertThat(high.take().body()).isEqualTo("second");
+    assertThat(low.take().body()).isEqualTo("third");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/normal");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/high");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/low");
+    assertThat(factory.runningCallsCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void tagOverridesMethodPriority() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+    server.enqueue(new MockResponse().setBody("third"));
+
+    PriorityCallAdapterFactory factory =
+        new PriorityCallAdapterFactory.Builder().maxConcurrent(1).build();
+    Service service = service(factory);
+
+    RecordingCallback normal = new RecordingCallback();
+    service.normal().enqueue(normal);
+    RecordingCallback high = new RecordingCallback();
+    service.high().enqueue(high);
+    RecordingCallback tagged = new RecordingCallback();
+    service.tagged(CallPriority.of(20)).enqueue(tagged);
+
+    assertThat(normal.take().body()).isEqualTo("first");
+    assertThat(tagged.take().body()).isEqualTo("second");
+    assertThat(high.take().body()).isEqualTo("third");
+  }
+
+  @Test
+  public void waitingCallsAge() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+    server.enqueue(new MockResponse().setBody("third"));
+
+    PriorityCallAdapterFactory factory =
+        new PriorityCallAdapterFactory.Builder()
+            .maxConcurrent(1)
+            .agingInterval(1, MILLISECONDS)
+            .build();
+    Service service = service(factory);
+
+    RecordingCallback normal = new RecordingCallback();
+    service.normal().enqueue(normal);
+    RecordingCallback low = new RecordingCallback();
+    service.low().enqueue(low);
+    Thread.sleep(50); // Long enough for the low priority call to age past the high priority one.
+    RecordingCallback high = new RecordingCallback();
+    service.high().enqueue(high);
+
+    assertThat(normal.take().body()).isEqualTo("first");
+    assertThat(low.take().body()).isEqualTo("second");
+    assertThat(high.take().body()).isEqualTo("third");
+  }
+
+  @Test
+  public void canceledQueuedCallFails() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+
+    PriorityCallAdapterFactory factory =
+        new PriorityCallAdapterFactory.Builder().maxConcurrent(1).build();
+    Service service = service(factory);
+
+    RecordingCallback first = new RecordingCallback();
+    service.normal().enqueue(first);
+    RecordingCallback second = new RecordingCallback();
+    Call<String> secondCall = service.high();
+    secondCall.enqueue(second);
+    assertThat(factory.queuedCallsCount()).isEqualTo(1);
+
+    secondCall.cancel();
+    assertThat(secondCall.isCanceled()).isTrue();
+    assertThat(second.takeFailure()).hasMessageThat().isEqualTo("Canceled");
+    assertThat(factory.queuedCallsCount()).isEqualTo(0);
+
+    assertThat(first.take().body()).isEqualTo("first");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void synchronousCallsAreNotQueued() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    PriorityCallAdapterFactory factory =
+        new PriorityCallAdapterFactory.Builder().maxConcurrent(1).build();
+    Service service = service(factory);
+
+    RecordingCallback first = new RecordingCallback();
+    service.normal().enqueue(first);
+    assertThat(factory.runningCallsCount()).isEqualTo(1);
+    // Would wait behind the first call if it were enqueued.
+    assertThat(service.low().execute().body()).isNotNull();
+    assertThat(factory.queuedCallsCount()).isEqualTo(0);
+    assertThat(first.take().body()).isNotNull();
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void synchronousEnqueueFailureReleasesSlot() {
+    PriorityDispatcher dispatcher = new PriorityDispatcher(1, SECONDS.toNanos(1));
+    Call<String> call = new PrioritizedCall<>(new ThrowingCall(), dispatcher, 0);
+    try {
+      call.enqueue(new RecordingCallback());
+      fail();
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasMessageThat().isEqualTo("Broken");
+    }
+    assertThat(dispatcher.running()).isEqualTo(0);
+  }
+
+  @Test
+  public void synchronousEnqueueFailureOfQueuedCallIsReported() throws Exception {
+    server.enqueue(new MockResponse().setHeadersDelay(500, MILLISECONDS).setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    Service service =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(new ToStringConverterFactory())
+            .build()
+            .create(Service.class);
+    PriorityDispatcher dispatcher = new PriorityDispatcher(1, SECONDS.toNanos(1));
+
+    RecordingCallback first = new RecordingCallback();
+    new PrioritizedCall<>(service.normal(), dispatcher, 0).enqueue(first);
+    RecordingCallback broken = new RecordingCallback();
+    new PrioritizedCall<>(new ThrowingCall(), dispatcher, 0).enqueue(broken);
+    RecordingCallback last = new RecordingCallback();
+    new PrioritizedCall<>(service.normal(), dispatcher, 0).enqueue(last);
+    assertThat(dispatcher.queued()).isEqualTo(2);
+
+    assertThat(first.take().body()).isEqualTo("first");
+    assertThat(broken.takeFailure()).hasMessageThat().isEqualTo("Broken");
+    assertThat(last.take().body()).isEqualTo("second");
+    assertThat(dispatcher.running()).isEqualTo(0);
+  }
+
+  /** A call which throws when it is enqueued. */
+  static final class ThrowingCall implements Call<String> {
+    private boolean executed;
+
+    @Override
+    public Response<String> execute() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enqueue(Callback<String> callback) {
+      executed = true;
+      throw new IllegalStateException("Broken");
+    }
+
+    @Override
+    public boolean isExecuted() {
+      return executed;
+    }
+
+    @Override
+    public void cancel() {}
+
+    @Override
+    public boolean isCanceled() {
+      return false;
+    }
+
+    @SuppressWarnings("CloneDoesntCallSuperClone") // Stateless object.
+    @Override
+    public Call<String> clone() {
+      return new ThrowingCall();
+    }
+
+    @Override
+    public Request request() {
+      return new Request.Builder().url("http://example.com/").build();
+    }
+
+    @Override
+    public Timeout timeout() {
+      return Timeout.NONE;
+    }
+  }
+}
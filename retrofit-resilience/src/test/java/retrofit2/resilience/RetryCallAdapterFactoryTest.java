@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.resilience;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+
+public final class RetryCallAdapterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Call<String> get();
+
+    @POST("/")
+    Call<String> post(@Body String body);
+
+    @Retry(maxAttempts = 2, initialBackoffMillis = 0)
+    @POST("/")
+    Call<String> retriedPost(@Body String body);
+  }
+
+  private Service service(RetryCallAdapterFactory factory) {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(factory)
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    return retrofit.create(Service.class);
+  }
+
+  private static RetryCallAdapterFactory.Builder noBackoff() {
+    return new RetryCallAdapterFactory.Builder().backoff(0, 0, MILLISECONDS);
+  }
+
+  @Test
+  public void retryableCodeIsRetried() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setResponseCode(502));
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    RetryCallAdapterFactory factory = noBackoff().build();
+    Response<String> response = service(factory).get().execute();
+    assertThat(response.body()).isEqualTo("Hi");
+    assertThat(server.getRequestCount()).isEqualTo(3);
+
+    RetryCounts counts = factory.counts().get(0);
+    assertThat(counts.name()).isEqualTo("GET /");
+    assertThat(counts.calls()).isEqualTo(1);
+    assertThat(counts.retries()).isEqualTo(2);
+  }
+
+  @Test
+  public void nonRetryableCodeIsNotRetried() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(404));
+
+    Response<String> response = service(noBackoff().build()).get().execute();
+    assertThat(response.code()).isEqualTo(404);
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void failureIsRetried() throws IOException {
+    server.enqueue(new MockResponse().setSocketPolicy(DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    Response<String> response = service(noBackoff().build()).get().execute();
+    assertThat(response.body()).isEqualTo("Hi");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void lastAttemptIsReturned() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setResponseCode(503).setBody("Busy"));
+
+    Response<String> response = service(noBackoff().maxAttempts(2).build()).get().execute();
+    assertThat(response.code()).isEqualTo(503);
+    assertThat(response.errorBody().string()).isEqualTo("Busy");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void nonIdempotentMethodIsNotRetried() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+
+    Response<String> response = service(noBackoff().build()).post("Hi").execute();
+    assertThat(response.code()).isEqualTo(503);
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void annotatedNonIdempotentMethodIsRetried() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    Response<String> response = service(noBackoff().build()).retriedPost("Hi").execute();
+    assertThat(response.body()).isEqualTo("Hi");
+    assertThat(server.getRequestCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void exhaustedBudgetStopsRetries() throws IOException {
+    for (int i = 0; i < 12; i++) {
+      server.enqueue(new MockResponse().setResponseCode(503));
+    }
+
+    RetryCallAdapterFactory factory = noBackoff().maxAttempts(20).budgetPercent(0).build();
+    Response<String> response = service(factory).get().execute();
+    assertThat(response.code()).isEqualTo(503);
+
+    // Only the reserve of 10 retries was available.
+    assertThat(server.getRequestCount()).isEqualTo(11);
+    RetryCounts counts = factory.counts().get(0);
+    assertThat(counts.retries()).isEqualTo(10);
+    assertThat(counts.budgetExhausted()).isEqualTo(1);
+  }
+
+  @Test
+  public void cancelDuringBackoff() throws InterruptedException {
+    server.enqueue(new MockResponse().setResponseCode(503));
+
+    RetryCallAdapterFactory factory =
+        new RetryCallAdapterFactory.Builder().backoff(60, 60, SECONDS).build();
+    Call<String> call = service(factory).get();
+    AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    call.enqueue(
+        new Callback<String>() {
+          @Override
+          public void onResponse(Call<String> call, Response<String> response) {
+            throw new AssertionError();
+          }
+
+          @Override
+          public void onFailure(Call<String> call, Throwable t) {
+            failureRef.set(t);
+            latch.countDown();
+          }
+        });
+    server.takeRequest();
+    while (factory.counts().get(0).retries() == 0) {
+      Thread.sleep(10);
+    }
+    call.cancel();
+
+    assertThat(latch.await(1, SECONDS)).isTrue();
+    assertThat(failureRef.get()).hasMessageThat().isEqualTo("Canceled");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+
+/**
+ * Lazily reads the events of a response body. Each call to {@link #hasNext} reads only as far as
+ * the end of the next event. I/O failures are thrown as {@link ServerSentEventException}.
+ */
+final class EventIterator<T> implements Iterator<ServerSentEvent<T>>, Closeable {
+  private final ResponseBody body;
+  private final ServerSentEventReader reader;
+  private final @Nullable Converter<ResponseBody, T> dataConverter;
+  private @Nullable ServerSentEvent<T> next;
+  private boolean exhausted;
+
+  /** A null {@code dataConverter} decodes data as a UTF-8 string. */
+  EventIterator(ResponseBody body, @Nullable Converter<ResponseBody, T> dataConverter) {
+    this.body = body;
+    this.reader = new ServerSentEventReader(body.source());
+    this.dataConverter = dataConverter;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next != null) return true;
+    if (exhausted) return false;
+    try {
+      if (!reader.next()) {
+        exhausted = true;
+        body.close();
+        return false;
+      }
+    } catch (IOException e) {
+      exhausted = true;
+      body.close();
+      throw new ServerSentEventException(e, false);
+    }
+    T data;
+    try {
+      data = decode();
+    } catch (IOException e) {
+      exhausted = true;
+      body.close();
+      throw new ServerSentEventException(e, true);
+    }
+    next = new ServerSentEvent<>(reader.lastEventId, reader.type, data, reader.retryMillis);
+    return true;
+  }
+
+  @SuppressWarnings("unchecked") // Strings are decoded when there is no converter.
+  private T decode() throws IOException {
+    if (dataConverter == null) {
+      return (T) reader.data.readUtf8();
+    }
+    ResponseBody data = ResponseBody.create(null, reader.data.size(), reader.data);
+    T value = dataConverter.convert(data);
+    reader.data.clear(); // In case the converter did not consume it all.
+    return value;
+  }
+
+  @Override
+  public ServerSentEvent<T> next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    ServerSentEvent<T> event = next;
+    next = null;
+    return event;
+  }
+
+  @Override
+  public void close() {
+    exhausted = true;
+    body.close();
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+/**
+ * A connection to a {@code text/event-stream} endpoint which delivers events to a {@link Listener}
+ * and reconnects when the connection is lost. Return this type from service methods when using
+ * {@link ServerSentEventCallAdapterFactory}.
+ *
+ * <pre><code>
+ * &#64;GET("prices")
+ * EventStream&lt;Price&gt; prices();
+ * </code></pre>
+ *
+ * <p>Reconnection sends the {@linkplain ServerSentEvent#id() last event ID} in the {@code
+ * Last-Event-ID} header after waiting for the reconnection time set by the stream.
+ */
+public interface EventStream<T> {
+  /**
+   * Connect and deliver events to {@code listener}. Callbacks are invoked on the HTTP client's
+   * threads, one at a time.
+   *
+   * @throws IllegalStateException if this stream has already been started.
+   */
+  void start(Listener<T> listener);
+
+  /** Disconnect and stop reconnecting. The listener is not notified. */
+  void cancel();
+
+  boolean isCanceled();
+
+  interface Listener<T> {
+    void onEvent(EventStream<T> stream, ServerSentEvent<T> event);
+
+    /** The server responded with 204 to indicate there are no more events. */
+    void onClosed(EventStream<T> stream);
+
+    /**
+     * The stream failed in a way that reconnecting would not fix, such as a non-2xx response, a
+     * response which is not {@code text/event-stream}, or a failure to decode an event's data.
+     */
+    void onFailure(EventStream<T> stream, Throwable t);
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+final class ReconnectingEventStream<T> implements EventStream<T>, okhttp3.Callback {
+  private final okhttp3.Call.Factory callFactory;
+  private final Request request;
+  private final Converter<ResponseBody, Iterator<ServerSentEvent<T>>> converter;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile boolean canceled;
+
+  @GuardedBy("this")
+  private @Nullable okhttp3.Call rawCall;
+
+  @GuardedBy("this")
+  private @Nullable Listener<T> listener;
+
+  // Only accessed by the single connection which is active at a time.
+  private @Nullable String lastEventId;
+  private long retryMillis;
+
+  ReconnectingEventStream(
+      okhttp3.Call.Factory callFactory,
+      Request request,
+      Converter<ResponseBody, Iterator<ServerSentEvent<T>>> converter,
+      ScheduledExecutorService scheduler,
+      long defaultRetryMillis) {
+    this.callFactory = callFactory;
+    this.request = request;
+    this.converter = converter;
+    this.scheduler = scheduler;
+    this.retryMillis = defaultRetryMillis;
+  }
+
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  @Override
+  public void start(Listener<T> listener) {
+    if (listener == null) throw new NullPointerException("listener == null");
+    synchronized (this) {
+      if (this.listener != null) throw new IllegalStateException("Already started.");
+      this.listener = listener;
+    }
+    connect();
+  }
+
+  private void connect() {
+    Request.Builder builder = request.newBuilder().header("Accept", "text/event-stream");
+    if (lastEventId != null) {
+      builder.header("Last-Event-ID", lastEventId);
+    }
+    okhttp3.Call call = callFactory.newCall(builder.build());
+    synchronized (this) {
+      rawCall = call;
+    }
+    if (canceled) {
+      call.cancel();
+    }
+    call.enqueue(this);
+  }
+
+  private synchronized Listener<T> listener() {
+    return listener;
+  }
+
+  @Override
+  public void onResponse(okhttp3.Call call, okhttp3.Response rawResponse) {
+    Listener<T> listener = listener();
+    ResponseBody body = rawResponse.body();
+    try {
+      if (rawResponse.code() == 204) {
+        listener.onClosed(this);
+        return;
+      }
+      if (!rawResponse.isSuccessful()) {
+        ResponseBody errorBody = ResponseBody.create(body.contentType(), body.bytes());
+        listener.onFailure(this, new HttpException(Response.error(errorBody, rawResponse)));
+        return;
+      }
+      MediaType contentType = body.contentType();
+      if (contentType == null
+          || !contentType.type().equals("text")
+          || !contentType.subtype().equals("event-stream")) {
+        listener.onFailure(
+            this, new IOException("Expected text/event-stream but was " + contentType));
+        return;
+      }
+
+      Iterator<ServerSentEvent<T>> events = converter.convert(body);
+      while (events.hasNext()) {
+        ServerSentEvent<T> event = events.next();
+        lastEventId = event.id();
+        if (event.retryMillis() != -1) {
+          retryMillis = event.retryMillis();
+        }
+        if (canceled) break;
+        listener.onEvent(this, event);
+      }
+    } catch (ServerSentEventException e) {
+      if (e.decoding) {
+        // Reconnecting would replay the same event.
+        if (!canceled) listener.onFailure(this, e.getCause());
+        return;
+      }
+      // The connection was lost. Reconnect below.
+    } catch (IOException e) {
+      // The connection was lost. Reconnect below.
+    } catch (RuntimeException e) {
+      if (!canceled) listener.onFailure(this, e);
+      return;
+    } finally {
+      body.close();
+    }
+    reconnect();
+  }
+
+  @Override
+  public void onFailure(okhttp3.Call call, IOException e) {
+    reconnect();
+  }
+
+  private void reconnect() {
+    if (canceled) return;
+    scheduler.schedule(this::connect, retryMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+
+    okhttp3.Call call;
+    synchronized (this) {
+      call = rawCall;
+    }
+    if (call != null) {
+      call.cancel();
+    }
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import javax.annotation.Nullable;
+
+/**
+ * An event received from a {@code text/event-stream} response, with its data decoded as {@code T}.
+ */
+public final class ServerSentEvent<T> {
+  private final @Nullable String id;
+  private final @Nullable String type;
+  private final T data;
+  private final long retryMillis;
+
+  ServerSentEvent(@Nullable String id, @Nullable String type, T data, long retryMillis) {
+    this.id = id;
+    this.type = type;
+    this.data = data;
+    this.retryMillis = retryMillis;
+  }
+
+  /**
+   * The last event ID set by the stream, which is sent as {@code Last-Event-ID} when reconnecting.
+   * This is inherited from earlier events when this event did not set one.
+   */
+  public @Nullable String id() {
+    return id;
+  }
+
+  /** The event type, or null for the default type of {@code message}. */
+  public @Nullable String type() {
+    return type;
+  }
+
+  /** The event's data decoded by the {@linkplain retrofit2.Converter converter} for {@code T}. */
+  public T data() {
+    return data;
+  }
+
+  /**
+   * The reconnection time most recently set by the stream in milliseconds, or -1 if it has not set
+   * one.
+   */
+  public long retryMillis() {
+    return retryMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "ServerSentEvent{id=" + id + ", type=" + type + ", data=" + data + '}';
+  }
+}
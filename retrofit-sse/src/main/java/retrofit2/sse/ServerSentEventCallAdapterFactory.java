@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain CallAdapter.Factory call adapter} for service methods which return {@link
+ * EventStream}. Events are parsed by {@link ServerSentEventConverterFactory}, which must also be
+ * added.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .addCallAdapterFactory(ServerSentEventCallAdapterFactory.create())
+ *     .addConverterFactory(ServerSentEventConverterFactory.create())
+ *     .addConverterFactory(MoshiConverterFactory.create())
+ *     .build();
+ * </code></pre>
+ */
+public final class ServerSentEventCallAdapterFactory extends CallAdapter.Factory {
+  /** The reconnection time used until a stream sets its own. */
+  private static final long DEFAULT_RETRY_MILLIS = 3_000;
+
+  /**
+   * Create an instance which waits out reconnection times on a shared background thread. Streams
+   * reconnect after 3 seconds unless the server sets a different time.
+   */
+  public static ServerSentEventCallAdapterFactory create() {
+    return new ServerSentEventCallAdapterFactory(
+        DefaultScheduler.INSTANCE, DEFAULT_RETRY_MILLIS);
+  }
+
+  /**
+   * Create an instance which waits out reconnection times on {@code scheduler}. Streams reconnect
+   * after {@code retry} unless the server sets a different time.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static ServerSentEventCallAdapterFactory create(
+      ScheduledExecutorService scheduler, long retry, TimeUnit unit) {
+    if (scheduler == null) throw new NullPointerException("scheduler == null");
+    if (unit == null) throw new NullPointerException("unit == null");
+    if (retry < 0) throw new IllegalArgumentException("retry < 0: " + retry);
+    return new ServerSentEventCallAdapterFactory(scheduler, unit.toMillis(retry));
+  }
+
+  private final ScheduledExecutorService scheduler;
+  private final long retryMillis;
+
+  private ServerSentEventCallAdapterFactory(ScheduledExecutorService scheduler, long retryMillis) {
+    this.scheduler = scheduler;
+    this.retryMillis = retryMillis;
+  }
+
+  @Override
+  public @Nullable CallAdapter<?, ?> get(
+      Type returnType, Annotation[] annotations, Retrofit retrofit) {
+    if (getRawType(returnType) != EventStream.class) {
+      return null;
+    }
+    if (!(returnType instanceof ParameterizedType)) {
+      throw new IllegalStateException(
+          "EventStream return type must be parameterized"
+              + " as EventStream<Foo> or EventStream<? extends Foo>");
+    }
+    Type dataType = getParameterUpperBound(0, (ParameterizedType) returnType);
+    Type responseType =
+        new SingleParameterizedType(
+            Iterator.class, new SingleParameterizedType(ServerSentEvent.class, dataType));
+    Converter<ResponseBody, Iterator<ServerSentEvent<Object>>> converter =
+        retrofit.responseBodyConverter(responseType, annotations);
+    return new EventStreamCallAdapter<>(
+        responseType, converter, retrofit.callFactory(), scheduler, retryMillis);
+  }
+
+  private static final class EventStreamCallAdapter<T>
+      implements CallAdapter<Iterator<ServerSentEvent<T>>, EventStream<T>> {
+    private final Type responseType;
+    private final Converter<ResponseBody, Iterator<ServerSentEvent<T>>> converter;
+    private final okhttp3.Call.Factory callFactory;
+    private final ScheduledExecutorService scheduler;
+    private final long retryMillis;
+
+    EventStreamCallAdapter(
+        Type responseType,
+        Converter<ResponseBody, Iterator<ServerSentEvent<T>>> converter,
+        okhttp3.Call.Factory callFactory,
+        ScheduledExecutorService scheduler,
+        long retryMillis) {
+      this.responseType = responseType;
+      this.converter = converter;
+      this.callFactory = callFactory;
+      this.scheduler = scheduler;
+      this.retryMillis = retryMillis;
+    }
+
+    @Override
+    public Type responseType() {
+      return responseType;
+    }
+
+    @Override
+    public EventStream<T> adapt(Call<Iterator<ServerSentEvent<T>>> call) {
+      // Each connection adds Last-Event-ID to the request so they are made without the Call.
+      return new ReconnectingEventStream<>(
+          callFactory, call.request(), converter, scheduler, retryMillis);
+    }
+  }
+
+  /** A lazily-created scheduler for factories which were not given one. */
+  private static final class DefaultScheduler {
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "Retrofit SSE Scheduler");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * A {@linkplain Converter.Factory converter} which parses {@code text/event-stream} response bodies
+ * into {@code Iterator<ServerSentEvent<T>>}. Events are read lazily as the iterator advances, so
+ * the body streams regardless of {@link retrofit2.http.Streaming @Streaming}.
+ *
+ * <p>The data of each event is decoded by the next converter for {@code T}, or as a UTF-8 string
+ * when {@code T} is {@link String}. An event which cannot be read or decoded is thrown from the
+ * iterator as a {@link ServerSentEventException}.
+ *
+ * <p>Kotlin's {@code Flow<ServerSentEvent<T>>} return type uses this converter. Use {@link
+ * ServerSentEventCallAdapterFactory} for callbacks with automatic reconnection.
+ */
+public final class ServerSentEventConverterFactory extends Converter.Factory {
+  public static ServerSentEventConverterFactory create() {
+    return new ServerSentEventConverterFactory();
+  }
+
+  private ServerSentEventConverterFactory() {}
+
+  @Override
+  public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+      Type type, Annotation[] annotations, Retrofit retrofit) {
+    if (getRawType(type) != Iterator.class || !(type instanceof ParameterizedType)) {
+      return null;
+    }
+    Type eventType = getParameterUpperBound(0, (ParameterizedType) type);
+    if (getRawType(eventType) != ServerSentEvent.class) {
+      return null;
+    }
+    if (!(eventType instanceof ParameterizedType)) {
+      throw new IllegalStateException(
+          "ServerSentEvent must be parameterized as ServerSentEvent<Foo>"
+              + " or ServerSentEvent<? extends Foo>");
+    }
+    Type dataType = getParameterUpperBound(0, (ParameterizedType) eventType);
+
+    Converter<ResponseBody, ?> dataConverter =
+        dataType == String.class
+            ? null
+            : retrofit.nextResponseBodyConverter(this, dataType, annotations);
+    return new EventsConverter<>(dataConverter);
+  }
+
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  private static final class EventsConverter<T>
+      implements Converter<ResponseBody, Iterator<ServerSentEvent<T>>> {
+    private final @Nullable Converter<ResponseBody, T> dataConverter;
+
+    EventsConverter(@Nullable Converter<ResponseBody, T> dataConverter) {
+      this.dataConverter = dataConverter;
+    }
+
+    @Override
+    public Iterator<ServerSentEvent<T>> convert(ResponseBody body) {
+      return new EventIterator<>(body, dataConverter);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.Options;
+
+/**
+ * Incrementally parses the events of a {@code text/event-stream}. Field names are matched against
+ * the source's bytes so only the values of {@code id}, {@code event}, and {@code retry} are decoded
+ * into strings. Data is copied into a buffer without decoding.
+ */
+final class ServerSentEventReader {
+  private static final Options OPTIONS =
+      Options.of(
+          /* 0 */ ByteString.encodeUtf8("\r\n"),
+          /* 1 */ ByteString.encodeUtf8("\r"),
+          /* 2 */ ByteString.encodeUtf8("\n"),
+          /* 3 */ ByteString.encodeUtf8("data: "),
+          /* 4 */ ByteString.encodeUtf8("data:"),
+          /* 5 */ ByteString.encodeUtf8("data\r\n"),
+          /* 6 */ ByteString.encodeUtf8("data\r"),
+          /* 7 */ ByteString.encodeUtf8("data\n"),
+          /* 8 */ ByteString.encodeUtf8("id: "),
+          /* 9 */ ByteString.encodeUtf8("id:"),
+          /* 10 */ ByteString.encodeUtf8("id\r\n"),
+          /* 11 */ ByteString.encodeUtf8("id\r"),
+          /* 12 */ ByteString.encodeUtf8("id\n"),
+          /* 13 */ ByteString.encodeUtf8("event: "),
+          /* 14 */ ByteString.encodeUtf8("event:"),
+          /* 15 */ ByteString.encodeUtf8("event\r\n"),
+          /* 16 */ ByteString.encodeUtf8("event\r"),
+          /* 17 */ ByteString.encodeUtf8("event\n"),
+          /* 18 */ ByteString.encodeUtf8("retry: "),
+          /* 19 */ ByteString.encodeUtf8("retry:"));
+
+  private static final ByteString CRLF = ByteString.encodeUtf8("\r\n");
+
+  private final BufferedSource source;
+
+  /** The data of the current event. Lines after the first are preceded by a line feed. */
+  final Buffer data = new Buffer();
+
+  private boolean hasData;
+  @Nullable String lastEventId;
+  @Nullable String type;
+  long retryMillis = -1;
+
+  ServerSentEventReader(BufferedSource source) {
+    this.source = source;
+  }
+
+  /**
+   * Reads until the next event is complete and populates {@link #data}, {@link #type}, and {@link
+   * #lastEventId}. Returns false if the stream ended first, discarding any incomplete event.
+   */
+  boolean next() throws IOException {
+    data.clear();
+    hasData = false;
+    type = null;
+
+    while (true) {
+      int option = source.select(OPTIONS);
+      switch (option) {
+        case 0:
+        case 1:
+        case 2:
+          if (hasData) return true;
+          type = null; // Events without data are not dispatched.
+          break;
+
+        case 3:
+        case 4:
+          appendDataLine();
+          if (!readLine(data)) return false;
+          break;
+
+        case 5:
+        case 6:
+        case 7:
+          appendDataLine();
+          break;
+
+        case 8:
+        case 9:
+          {
+            String id = readValue();
+            if (id == null) return false;
+            if (id.indexOf('\u0000') == -1) lastEventId = id;
+            break;
+          }
+
+        case 10:
+        case 11:
+        case 12:
+          lastEventId = "";
+          break;
+
+        case 13:
+        case 14:
+          {
+            String type = readValue();
+            if (type == null) return false;
+            this.type = type.isEmpty() ? null : type;
+            break;
+          }
+
+        case 15:
+        case 16:
+        case 17:
+          type = null;
+          break;
+
+        case 18:
+        case 19:
+          {
+            String retry = readValue();
+            if (retry == null) return false;
+            parseRetry(retry);
+            break;
+          }
+
+        default:
+          // A comment, a field which is not understood, or the end of the stream.
+          long lineEnd = source.indexOfElement(CRLF);
+          if (lineEnd == -1) return false;
+          source.skip(lineEnd);
+          skipLineEnd();
+          break;
+      }
+    }
+  }
+
+  private void appendDataLine() {
+    if (hasData) {
+      data.writeByte('\n');
+    }
+    hasData = true;
+  }
+
+  /** Moves the rest of the line into {@code sink}. Returns false if the stream ended first. */
+  private boolean readLine(Buffer sink) throws IOException {
+    long lineEnd = source.indexOfElement(CRLF);
+    if (lineEnd == -1) return false;
+    source.readFully(sink, lineEnd);
+    skipLineEnd();
+    return true;
+  }
+
+  private @Nullable String readValue() throws IOException {
+    long lineEnd = source.indexOfElement(CRLF);
+    if (lineEnd == -1) return null;
+    String value = source.readUtf8(lineEnd);
+    skipLineEnd();
+    return value;
+  }
+
+  /** Consumes a line ending of {@code \r\n}, {@code \r}, or {@code \n}. */
+  private void skipLineEnd() throws IOException {
+    if (source.readByte() == '\r' && source.request(1) && source.getBuffer().getByte(0) == '\n') {
+      source.skip(1);
+    }
+  }
+
+  private void parseRetry(String value) {
+    if (value.isEmpty()) return;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') return; // Ignored unless only digits.
+    }
+    try {
+      retryMillis = Long.parseLong(value);
+    } catch (NumberFormatException ignored) {
+      // Too large to represent.
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/** A parameterized type with a single type argument such as {@code Iterator<String>}. */
+final class SingleParameterizedType implements ParameterizedType {
+  private final Class<?> rawType;
+  private final Type typeArgument;
+
+  SingleParameterizedType(Class<?> rawType, Type typeArgument) {
+    this.rawType = rawType;
+    this.typeArgument = typeArgument;
+  }
+
+  @Override
+  public Type[] getActualTypeArguments() {
+    return new Type[] {typeArgument};
+  }
+
+  @Override
+  public Type getRawType() {
+    return rawType;
+  }
+
+  @Override
+  public @Nullable Type getOwnerType() {
+    return null;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (!(other instanceof ParameterizedType)) return false;
+    ParameterizedType that = (ParameterizedType) other;
+    return rawType.equals(that.getRawType())
+        && that.getOwnerType() == null
+        && Arrays.equals(getActualTypeArguments(), that.getActualTypeArguments());
+  }
+
+  @Override
+  public int hashCode() {
+    // Matches the JDK's implementation for a type without an owner.
+    return Arrays.hashCode(getActualTypeArguments()) ^ rawType.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    // Type.getTypeName() is not available before Android API 26.
+    String argument =
+        typeArgument instanceof Class
+            ? ((Class<?>) typeArgument).getName()
+            : typeArgument.toString();
+    return rawType.getName() + '<' + argument + '>';
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Retrofit;
+import retrofit2.converter.moshi.MoshiConverterFactory;
+import retrofit2.http.GET;
+
+public final class EventStreamTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    EventStream<String> events();
+
+    @GET("/")
+    EventStream<Map<String, Object>> jsonEvents();
+  }
+
+  private final RecordingListener<String> listener = new RecordingListener<>();
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(ServerSentEventCallAdapterFactory.create())
+            .addConverterFactory(ServerSentEventConverterFactory.create())
+            .addConverterFactory(MoshiConverterFactory.create())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void eventsThenClosed() throws InterruptedException {
+    server.enqueue(eventStream("data: one\n\ndata: two\n\n"));
+    server.enqueue(new MockResponse().setResponseCode(204));
+
+    service.events().start(listener);
+
+    assertThat(listener.take()).isEqualTo("one");
+    assertThat(listener.take()).isEqualTo("two");
+    assertThat(listener.take()).isEqualTo("closed");
+    assertThat(server.takeRequest().getHeader("Accept")).isEqualTo("text/event-stream");
+  }
+
+  @Test
+  public void reconnectSendsLastEventId() throws InterruptedException {
+    server.enqueue(eventStream("retry: 10\nid: 1\ndata: one\n\n"));
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+    server.enqueue(eventStream("id: 2\ndata: two\n\n"));
+    server.enqueue(new MockResponse().setResponseCode(204));
+
+    service.events().start(listener);
+
+    assertThat(listener.take()).isEqualTo("one");
+    assertThat(listener.take()).isEqualTo("two");
+    assertThat(listener.take()).isEqualTo("closed");
+
+    RecordedRequest first = server.takeRequest();
+    assertThat(first.getHeader("Last-Event-ID")).isNull();
+    server.takeRequest(); // Disconnected.
+    assertThat(server.takeRequest().getHeader("Last-Event-ID")).isEqualTo("1");
+    assertThat(server.takeRequest().getHeader("Last-Event-ID")).isEqualTo("2");
+  }
+
+  @Test
+  public void httpErrorFails() throws InterruptedException {
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("Nope"));
+
+    service.events().start(listener);
+
+    assertThat(listener.take()).isEqualTo("failure: HTTP 404 Client Error");
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void wrongContentTypeFails() throws InterruptedException {
+    server.enqueue(new MockResponse().setHeader("Content-Type", "text/plain").setBody("Hi"));
+
+    service.events().start(listener);
+
+    assertThat(listener.take())
+        .isEqualTo("failure: Expected text/event-stream but was text/plain");
+  }
+
+  @Test
+  public void malformedDataFailsWithoutReconnecting() throws InterruptedException {
+    server.enqueue(
+        eventStream("retry: 10\nid: 1\ndata: {\"a\":1}\n\nid: 2\ndata: {\"a\":}\n\n"));
+    server.enqueue(eventStream("id: 2\ndata: {\"a\":}\n\n"));
+
+    RecordingListener<Map<String, Object>> listener = new RecordingListener<>();
+    service.jsonEvents().start(listener);
+
+    assertThat(listener.take()).isEqualTo("{a=1.0}");
+    assertThat(listener.take()).startsWith("failure: ");
+    assertThat(listener.events.poll(500, MILLISECONDS)).isNull();
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void cancelStopsReconnecting() throws InterruptedException {
+    server.enqueue(eventStream("retry: 10\ndata: one\n\n"));
+    server.enqueue(eventStream("data: two\n\n"));
+
+    EventStream<String> stream = service.events();
+    RecordingListener<String> cancelingListener =
+        new RecordingListener<String>() {
+          @Override
+          public void onEvent(EventStream<String> stream, ServerSentEvent<String> event) {
+            stream.cancel();
+            super.onEvent(stream, event);
+          }
+        };
+    stream.start(cancelingListener);
+
+    assertThat(cancelingListener.take()).isEqualTo("one");
+    assertTrue(stream.isCanceled());
+    assertThat(cancelingListener.events.poll(500, MILLISECONDS)).isNull();
+    assertThat(server.getRequestCount()).isEqualTo(1);
+  }
+
+  private static MockResponse eventStream(String body) {
+    return new MockResponse().setHeader("Content-Type", "text/event-stream").setBody(body);
+  }
+
+  static class RecordingListener<T> implements EventStream.Listener<T> {
+    final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onEvent(EventStream<T> stream, ServerSentEvent<T> event) {
+      events.add(String.valueOf(event.data()));
+    }
+
+    @Override
+    public void onClosed(EventStream<T> stream) {
+      events.add("closed");
+    }
+
+    @Override
+    public void onFailure(EventStream<T> stream, Throwable t) {
+      events.add("failure: " + t.getMessage());
+    }
+
+    String take() throws InterruptedException {
+      String event = events.poll(5, SECONDS);
+      if (event == null) throw new AssertionError("Timed out waiting for event");
+      return event;
+    }
+  }
+}
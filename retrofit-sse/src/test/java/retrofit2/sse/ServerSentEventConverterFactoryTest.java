@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.sse;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+
+public final class ServerSentEventConverterFactoryTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Call<Iterator<ServerSentEvent<String>>> strings();
+
+    @GET("/")
+    Call<Iterator<ServerSentEvent<Integer>>> integers();
+
+    @GET("/")
+    Call<Iterator<ServerSentEvent>> raw();
+  }
+
+  private Service service;
+
+  @Before
+  public void setUp() {
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(ServerSentEventConverterFactory.create())
+            .addConverterFactory(new IntegerConverterFactory())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void events() throws IOException {
+    server.enqueue(
+        new MockResponse()
+            .setBody(
+                ""
+                    + "data: one\n"
+                    + "\n"
+                    + "event: update\n"
+                    + "id: 2\n"
+                    + "data: two\n"
+                    + "data:  three\n"
+                    + "\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+
+    ServerSentEvent<String> first = events.next();
+    assertThat(first.data()).isEqualTo("one");
+    assertThat(first.type()).isNull();
+    assertThat(first.id()).isNull();
+
+    ServerSentEvent<String> second = events.next();
+    assertThat(second.data()).isEqualTo("two\n three");
+    assertThat(second.type()).isEqualTo("update");
+    assertThat(second.id()).isEqualTo("2");
+
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void commentsAndUnknownFieldsIgnored() throws IOException {
+    server.enqueue(
+        new MockResponse()
+            .setBody(": comment\n" + "unknown: value\n" + "database: no\n" + "data: one\n\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+    assertThat(events.next().data()).isEqualTo("one");
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void lineEndings() throws IOException {
+    server.enqueue(new MockResponse().setBody("data: one\r\n\r\ndata: two\r\rdata: three\n\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+    assertThat(events.next().data()).isEqualTo("one");
+    assertThat(events.next().data()).isEqualTo("two");
+    assertThat(events.next().data()).isEqualTo("three");
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void idRetainedUntilReplaced() throws IOException {
+    server.enqueue(
+        new MockResponse()
+            .setBody(
+                ""
+                    + "id: 1\ndata: one\n\n"
+                    + "data: two\n\n"
+                    + "id\ndata: three\n\n"
+                    + "id: a\u0000b\ndata: four\n\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+    assertThat(events.next().id()).isEqualTo("1");
+    assertThat(events.next().id()).isEqualTo("1");
+    assertThat(events.next().id()).isEqualTo("");
+    assertThat(events.next().id()).isEqualTo(""); // IDs containing NUL are ignored.
+  }
+
+  @Test
+  public void retry() throws IOException {
+    server.enqueue(
+        new MockResponse()
+            .setBody("data: one\n\n" + "retry: 500\ndata: two\n\n" + "retry: 1s\ndata: three\n\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+    assertThat(events.next().retryMillis()).isEqualTo(-1);
+    assertThat(events.next().retryMillis()).isEqualTo(500);
+    assertThat(events.next().retryMillis()).isEqualTo(500); // Values which are not digits ignored.
+  }
+
+  @Test
+  public void eventsWithoutDataAreNotDispatched() throws IOException {
+    server.enqueue(new MockResponse().setBody("event: empty\n\ndata: one\n\n"));
+
+    ServerSentEvent<String> event = service.strings().execute().body().next();
+    assertThat(event.data()).isEqualTo("one");
+    assertThat(event.type()).isNull();
+  }
+
+  @Test
+  public void incompleteEventDiscarded() throws IOException {
+    server.enqueue(new MockResponse().setBody("data: one\n\ndata: two\n"));
+
+    Iterator<ServerSentEvent<String>> events = service.strings().execute().body();
+    assertThat(events.next().data()).isEqualTo("one");
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void dataDecodedByNextConverter() throws IOException {
+    server.enqueue(new MockResponse().setBody("data: 1\n\ndata: 2\n\n"));
+
+    Iterator<ServerSentEvent<Integer>> events = service.integers().execute().body();
+    assertThat(events.next().data()).isEqualTo(1);
+    assertThat(events.next().data()).isEqualTo(2);
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void dataDecodingFailureThrows() throws IOException {
+    server.enqueue(new MockResponse().setBody("data: 1\n\ndata: two\n\n"));
+
+    Iterator<ServerSentEvent<Integer>> events = service.integers().execute().body();
+    assertThat(events.next().data()).isEqualTo(1);
+    try {
+      events.hasNext();
+      fail();
+    } catch (ServerSentEventException e) {
+      assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("Not an integer: two");
+    }
+    assertFalse(events.hasNext());
+  }
+
+  @Test
+  public void rawEventTypeThrows() {
+    try {
+      service.raw();
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e)
+          .hasCauseThat()
+          .hasMessageThat()
+          .isEqualTo(
+              "ServerSentEvent must be parameterized as ServerSentEvent<Foo>"
+                  + " or ServerSentEvent<? extends Foo>");
+    }
+  }
+
+  static final class IntegerConverterFactory extends Converter.Factory {
+    @Override
+    public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+        Type type, Annotation[] annotations, Retrofit retrofit) {
+      if (type != Integer.class) return null;
+      return (Converter<ResponseBody, Integer>)
+          value -> {
+            String string = value.string();
+            try {
+              return Integer.parseInt(string);
+            } catch (NumberFormatException e) {
+              throw new IOException("Not an integer: " + string);
+            }
+          };
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+
+public final class CallScopeTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/{path}")
+    Call<String> get(@Path("path") String path);
+  }
+
+  private Service service;
+
+  @Before
+  public void setUp() {
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            switch (request.getPath()) {
+              case "/missing":
+                return new MockResponse().setResponseCode(404).setBody("Nope");
+              case "/disconnect":
+                return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+              case "/hang":
+                return new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE);
+              default:
+                return new MockResponse().setBody("Hi " + request.getPath().substring(1));
+            }
+          }
+        });
+
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void negativeTimeoutThrows() {
+    try {
+      CallScope.shutdownOnFailure(-1, SECONDS);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("timeout < 0: -1");
+    }
+  }
+
+  @Test
+  public void nullCallThrows() {
+    try (CallScope scope = CallScope.collectAll(10, SECONDS)) {
+      scope.fork(null);
+      fail();
+    } catch (NullPointerException e) {
+      assertThat(e).hasMessageThat().isEqualTo("call == null");
+    }
+  }
+
+  @Test
+  public void joinWaitsForEveryCall() throws Exception {
+    try (CallScope scope = CallScope.shutdownOnFailure(10, SECONDS)) {
+      CallScope.Fork<String> a = scope.fork(service.get("a"));
+      CallScope.Fork<String> b = scope.fork(service.get("b"));
+      scope.join();
+
+      assertThat(a.response().body()).isEqualTo("Hi a");
+      assertThat(a.failure()).isNull();
+      assertThat(b.response().body()).isEqualTo("Hi b");
+      assertThat(b.failure()).isNull();
+    }
+  }
+
+  @Test
+  public void responseBeforeJoinThrows() {
+    try (CallScope scope = CallScope.collectAll(10, SECONDS)) {
+      CallScope.Fork<String> fork = scope.fork(service.get("hang"));
+      try {
+        fork.response();
+        fail();
+      } catch (IllegalStateException e) {
+        assertThat(e).hasMessageThat().isEqualTo("Call has not completed");
+      }
+    }
+  }
+
+  @Test
+  public void firstFailureCancelsOtherCalls() throws Exception {
+    try (CallScope scope = CallScope.shutdownOnFailure(30, SECONDS)) {
+      CallScope.Fork<String> hang = scope.fork(service.get("hang"));
+      CallScope.Fork<String> missing = scope.fork(service.get("missing"));
+
+      long start = System.nanoTime();
+      try {
+        scope.join();
+        fail();
+      } catch (HttpException e) {
+        assertThat(e.code()).isEqualTo(404);
+        assertThat(missing.failure()).isSameInstanceAs(e);
+      }
+      assertThat(System.nanoTime() - start).isLessThan(SECONDS.toNanos(10));
+
+      assertThat(missing.response().code()).isEqualTo(404);
+      assertThat(hang.failure()).isInstanceOf(IOException.class);
+    }
+  }
+
+  @Test
+  public void forkAfterFailureIsCanceled() throws Exception {
+    try (CallScope scope = CallScope.shutdownOnFailure(10, SECONDS)) {
+      scope.fork(service.get("missing"));
+      try {
+        scope.join();
+        fail();
+      } catch (HttpException expected) {
+      }
+
+      Call<String> call = service.get("a");
+      CallScope.Fork<String> fork = scope.fork(call);
+      try {
+        scope.join();
+        fail();
+      } catch (HttpException expected) {
+      }
+      assertThat(call.isCanceled()).isTrue();
+      assertThat(fork.failure()).isInstanceOf(IOException.class);
+    }
+  }
+
+  @Test
+  public void collectAllRecordsEveryOutcome() throws Exception {
+    try (CallScope scope = CallScope.collectAll(10, SECONDS)) {
+      CallScope.Fork<String> ok = scope.fork(service.get("a"));
+      CallScope.Fork<String> missing = scope.fork(service.get("missing"));
+      CallScope.Fork<String> disconnect = scope.fork(service.get("disconnect"));
+      scope.join();
+
+      assertThat(ok.response().body()).isEqualTo("Hi a");
+      assertThat(missing.response().code()).isEqualTo(404);
+      assertThat(missing.failure()).isInstanceOf(HttpException.class);
+      assertThat(disconnect.failure()).isInstanceOf(IOException.class);
+      try {
+        disconnect.response();
+        fail();
+      } catch (IllegalStateException e) {
+        assertThat(e).hasMessageThat().isEqualTo("Call failed without a response");
+        assertThat(e).hasCauseThat().isSameInstanceAs(disconnect.failure());
+      }
+    }
+  }
+
+  @Test
+  public void callsShareDeadline() throws Exception {
+    try (CallScope scope = CallScope.shutdownOnFailure(500, MILLISECONDS)) {
+      CallScope.Fork<String> hang = scope.fork(service.get("hang"));
+
+      long start = System.nanoTime();
+      try {
+        scope.join();
+        fail();
+      } catch (IOException e) {
+        assertThat(hang.failure()).isSameInstanceAs(e);
+      }
+      assertThat(System.nanoTime() - start).isLessThan(SECONDS.toNanos(10));
+    }
+  }
+
+  @Test
+  public void scopeCannotExtendCurrentDeadline() {
+    try (Deadline.Scope ignored = Deadline.withTimeout(1, SECONDS);
+        CallScope scope = CallScope.collectAll(60, SECONDS)) {
+      assertThat(scope.deadline().remaining(MILLISECONDS)).isAtMost(1000L);
+    }
+  }
+
+  @Test
+  public void closeCancelsRunningCalls() throws Exception {
+    CallScope.Fork<String> hang;
+    try (CallScope scope = CallScope.collectAll(30, SECONDS)) {
+      hang = scope.fork(service.get("hang"));
+      server.takeRequest();
+    }
+    assertThat(hang.failure()).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void forkAfterCloseThrows() {
+    CallScope scope = CallScope.collectAll(10, SECONDS);
+    scope.close();
+    try {
+      scope.fork(service.get("a"));
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessageThat().isEqualTo("closed");
+    }
+  }
+}
@@ -16,12 +16,16 @@
 package retrofit2;
 
 import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST;
+import static okhttp3.mockwebserver.SocketPolicy.NO_RESPONSE;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Before;
@@ -41,6 +45,7 @@ public final class CompletableFutureTest {
     CompletableFuture<Response<String>> response();
   }
 
+  private final OkHttpClient client = new OkHttpClient();
   private Service service;
 
   @Before
@@ -48,6 +53,7 @@ public final class CompletableFutureTest {
     Retrofit retrofit =
         new Retrofit.Builder()
             .baseUrl(server.url("/"))
+            .client(client)
             .addConverterFactory(new ToStringConverterFactory())
             .build();
     service = retrofit.create(Service.class);
@@ -121,4 +127,45 @@ public final class CompletableFutureTest {
       assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
     }
   }
+
+  @Test
+  public void cancelFutureCancelsCall() throws Exception {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    CompletableFuture<String> future = service.body();
+    server.takeRequest();
+    assertThat(future.cancel(false)).isTrue();
+
+    long deadline = System.nanoTime() + SECONDS.toNanos(10);
+    while (client.dispatcher().runningCallsCount() > 0) {
+      if (System.nanoTime() > deadline) throw new AssertionError("Call was not canceled");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void cancelCallCancelsFuture() throws Exception {
+    server.enqueue(new MockResponse().setSocketPolicy(NO_RESPONSE));
+
+    CompletableFuture<Response<String>> future = service.response();
+    server.takeRequest();
+    client.dispatcher().cancelAll();
+
+    try {
+      future.get(10, SECONDS);
+      fail();
+    } catch (CancellationException expected) {
+    }
+    assertThat(future.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void completesOnDeliveringThread() throws Exception {
+    CompletableFuture<String> thread =
+        service.body().thenApply(body -> Thread.currentThread().getName());
+    // Enqueued after the stage is added so that it runs when the future is completed.
+    server.enqueue(new MockResponse().setBody("Hi"));
+
+    assertThat(thread.get(10, SECONDS)).startsWith("OkHttp ");
+  }
 }
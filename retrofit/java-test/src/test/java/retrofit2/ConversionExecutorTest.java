@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.http.GET;
+
+public final class ConversionExecutorTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Call<String> plain();
+
+    @GET("/")
+    @ConversionExecutor("other")
+    Call<String> annotated();
+
+    @GET("/")
+    CompletableFuture<String> future();
+  }
+
+  interface UnknownExecutor {
+    @GET("/")
+    @ConversionExecutor("missing")
+    Call<String> method();
+  }
+
+  /** Records the name of the thread which converts each body. */
+  private final BlockingQueue<String> conversionThreads = new LinkedBlockingQueue<>();
+
+  private final Converter.Factory recordingConverterFactory =
+      new Converter.Factory() {
+        @Override
+        public Converter<ResponseBody, ?> responseBodyConverter(
+            Type type, Annotation[] annotations, Retrofit retrofit) {
+          return body -> {
+            conversionThreads.add(Thread.currentThread().getName());
+            return body.string();
+          };
+        }
+      };
+
+  private final ExecutorService conversionExecutor =
+      Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "conversion"));
+  private final ExecutorService otherExecutor =
+      Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "other"));
+
+  @After
+  public void tearDown() {
+    conversionExecutor.shutdown();
+    otherExecutor.shutdown();
+  }
+
+  private Retrofit.Builder builder() {
+    return new Retrofit.Builder()
+        .baseUrl(server.url("/"))
+        .addConverterFactory(recordingConverterFactory)
+        .conversionExecutor(conversionExecutor)
+        .conversionExecutor("other", otherExecutor);
+  }
+
+  @Test
+  public void conversionExecutorNullThrows() {
+    try {
+      new Retrofit.Builder().conversionExecutor(null);
+      fail();
+    } catch (NullPointerException e) {
+      assertThat(e).hasMessageThat().isEqualTo("executor == null");
+    }
+    try {
+      new Retrofit.Builder().conversionExecutor(null, conversionExecutor);
+      fail();
+    } catch (NullPointerException e) {
+      assertThat(e).hasMessageThat().isEqualTo("name == null");
+    }
+  }
+
+  @Test
+  public void conversionExecutorPropagated() {
+    Retrofit retrofit = builder().build();
+    assertThat(retrofit.conversionExecutor()).isSameInstanceAs(conversionExecutor);
+    assertThat(retrofit.newBuilder().build().conversionExecutor())
+        .isSameInstanceAs(conversionExecutor);
+    assertThat(retrofit.withBaseUrl("http://example.com/").conversionExecutor())
+        .isSameInstanceAs(conversionExecutor);
+  }
+
+  @Test
+  public void enqueueConvertsOnConversionExecutor() throws InterruptedException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    Service service = builder().build().create(Service.class);
+
+    BlockingQueue<Response<String>> responses = new LinkedBlockingQueue<>();
+    service
+        .plain()
+        .enqueue(
+            new Callback<String>() {
+              @Override
+              public void onResponse(Call<String> call, Response<String> response) {
+                responses.add(response);
+              }
+
+              @Override
+              public void onFailure(Call<String> call, Throwable t) {
+                throw new AssertionError(t);
+              }
+            });
+
+    assertThat(responses.poll(5, SECONDS).body()).isEqualTo("Hi");
+    assertThat(conversionThreads.poll()).isEqualTo("conversion");
+  }
+
+  @Test
+  public void executeConvertsOnCallingThread() throws IOException {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    Service service = builder().build().create(Service.class);
+
+    assertThat(service.plain().execute().body()).isEqualTo("Hi");
+    assertThat(conversionThreads.poll()).isEqualTo(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void completableFutureConvertsOnConversionExecutor() throws Exception {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    Service service = builder().build().create(Service.class);
+
+    assertThat(service.future().get(5, SECONDS)).isEqualTo("Hi");
+    assertThat(conversionThreads.poll()).isEqualTo("conversion");
+  }
+
+  @Test
+  public void annotationSelectsNamedExecutor() throws Exception {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    Service service = builder().build().create(Service.class);
+
+    CompletableFuture<String> future = new CompletableFuture<>();
+    service
+        .annotated()
+        .enqueue(
+            new Callback<String>() {
+              @Override
+              public void onResponse(Call<String> call, Response<String> response) {
+                future.complete(response.body());
+              }
+
+              @Override
+              public void onFailure(Call<String> call, Throwable t) {
+                future.completeExceptionally(t);
+              }
+            });
+
+    assertThat(future.get(5, SECONDS)).isEqualTo("Hi");
+    assertThat(conversionThreads.poll()).isEqualTo("other");
+  }
+
+  @Test
+  public void annotationWithUnknownNameThrows() {
+    Retrofit retrofit = builder().build();
+    try {
+      retrofit.create(UnknownExecutor.class).method();
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e)
+          .hasMessageThat()
+          .isEqualTo(
+              "No conversion executor named \"missing\" was registered with the Retrofit.Builder."
+                  + "\n    for method UnknownExecutor.method");
+    }
+  }
+
+  @Test
+  public void rejectedExecutionFailsCall() throws Exception {
+    server.enqueue(new MockResponse().setBody("Hi"));
+    conversionExecutor.shutdown();
+    Service service = builder().build().create(Service.class);
+
+    try {
+      service.future().get(5, SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(RejectedExecutionException.class);
+    }
+    assertThat(conversionThreads).isEmpty();
+  }
+}
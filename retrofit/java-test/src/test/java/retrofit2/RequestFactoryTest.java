@@ -41,6 +41,7 @@ import okio.Buffer;
 import org.junit.Ignore;
 import org.junit.Test;
 import retrofit2.helpers.NullObjectConverterFactory;
+import retrofit2.helpers.ToStringConverterFactory;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.Field;
@@ -2985,6 +2986,28 @@ public final class RequestFactoryTest {
     assertThat(request.body()).isNull();
   }
 
+  @Test
+  public void headerParamDoesNotModifyStaticHeaders() throws IOException {
+    class Example {
+      @GET("/foo/bar/") //
+      @Headers("ping: pong") //
+      Call<ResponseBody> method(@Header("kit") String kit) {
+        return null;
+      }
+    }
+    Retrofit retrofit = new Retrofit.Builder().baseUrl("http://example.com/").build();
+    RequestFactory requestFactory =
+        RequestFactory.parseAnnotations(
+            retrofit, Example.class, TestingUtils.onlyMethod(Example.class));
+
+    Request one = requestFactory.create(null, new Object[] {"kat"});
+    Request two = requestFactory.create(null, new Object[] {null});
+    Request three = requestFactory.create(null, new Object[] {"-kat"});
+    assertThat(one.headers().values("kit")).containsExactly("kat");
+    assertThat(two.headers().names()).containsExactly("ping");
+    assertThat(three.headers().values("kit")).containsExactly("-kat");
+  }
+
   @Test
   public void headerParamAllowingUnsafeNonAsciiValues() {
     class Example {
@@ -3357,6 +3380,73 @@ public final class RequestFactoryTest {
     assertThat(request.tag(List.class)).isSameInstanceAs(strings);
   }
 
+  @Test
+  public void constantRequestIsReusedWithPerCallTags() throws IOException {
+    class Example {
+      @Headers("X-Foo: bar")
+      @POST("/foo/bar/")
+      Call<ResponseBody> method(@Tag String tag) {
+        return null;
+      }
+    }
+
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl("http://example.com/")
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    RequestFactory requestFactory =
+        RequestFactory.parseAnnotations(
+            retrofit, Example.class, TestingUtils.onlyMethod(Example.class));
+
+    Request one = requestFactory.create(null, new Object[] {"one"});
+    Request two = requestFactory.create(null, new Object[] {"two"});
+    assertThat(one).isNotSameInstanceAs(two);
+    assertThat(one.url()).isSameInstanceAs(two.url());
+    assertThat(one.headers()).isSameInstanceAs(two.headers());
+    assertThat(one.body()).isSameInstanceAs(two.body());
+    assertThat(one.url().toString()).isEqualTo("http://example.com/foo/bar/");
+    assertThat(one.header("X-Foo")).isEqualTo("bar");
+    assertBody(one.body(), "");
+
+    assertThat(one.tag(String.class)).isEqualTo("one");
+    assertThat(two.tag(String.class)).isEqualTo("two");
+    assertThat(one.tag(Invocation.class).arguments()).containsExactly("one");
+    assertThat(two.tag(Invocation.class).arguments()).containsExactly("two");
+  }
+
+  @Test
+  public void constantRequestIsReusedForDerivedBaseUrl() throws IOException {
+    class Example {
+      @GET("foo/bar/")
+      Call<ResponseBody> method(@Tag String tag) {
+        return null;
+      }
+    }
+
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl("http://example.com/")
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    RequestFactory requestFactory =
+        RequestFactory.parseAnnotations(
+            retrofit, Example.class, TestingUtils.onlyMethod(Example.class));
+    HttpUrl derived = HttpUrl.get("http://example.org/api/");
+
+    Request one = requestFactory.create(derived, null, new Object[] {"one"});
+    Request two = requestFactory.create(derived, null, new Object[] {"two"});
+    assertThat(one.url()).isSameInstanceAs(two.url());
+    assertThat(one.url().toString()).isEqualTo("http://example.org/api/foo/bar/");
+    assertThat(one.tag(String.class)).isEqualTo("one");
+    assertThat(two.tag(String.class)).isEqualTo("two");
+
+    Request original = requestFactory.create(null, new Object[] {"three"});
+    assertThat(original.url().toString()).isEqualTo("http://example.com/foo/bar/");
+    Request three = requestFactory.create(derived, null, new Object[] {"four"});
+    assertThat(three.url()).isSameInstanceAs(one.url());
+  }
+
   @Test
   public void tagDuplicateFails() {
     class Example {
@@ -60,6 +60,7 @@ import retrofit2.helpers.ToStringConverterFactory;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.POST;
+import retrofit2.http.Path;
 import retrofit2.http.Query;
 
 public final class RetrofitTest {
@@ -109,6 +110,75 @@ public final class RetrofitTest {
 
   interface ExtendingTypeParam extends TypeParam<String> {}
 
+  interface StringParameterized {
+    @GET("{path}")
+    Call<String> method(@Path("path") String path);
+  }
+
+  interface StringConstant {
+    @GET("constant")
+    Call<String> method();
+  }
+
+  interface CachedMethods {
+    @GET("one")
+    Call<String> one();
+
+    @GET("two")
+    Call<String> two();
+
+    @GET("three")
+    Call<String> three(@Query("q") String q);
+  }
+
+  @Retention(RUNTIME)
+  @interface Qualifier {}
+
+  @Qualifier
+  static final class CountingConverterFactory extends Converter.Factory {
+    private final AtomicInteger lookups;
+    private final boolean cacheable;
+
+    CountingConverterFactory(AtomicInteger lookups, boolean cacheable) {
+      this.lookups = lookups;
+      this.cacheable = cacheable;
+    }
+
+    @Override
+    public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+        Type type, Annotation[] annotations, Retrofit retrofit) {
+      lookups.incrementAndGet();
+      return value -> value.string();
+    }
+
+    @Override
+    public boolean isCacheable() {
+      return cacheable;
+    }
+  }
+
+  static final class CountingCallAdapterFactory extends CallAdapter.Factory {
+    private final AtomicInteger lookups;
+    private final boolean cacheable;
+
+    CountingCallAdapterFactory(AtomicInteger lookups, boolean cacheable) {
+      this.lookups = lookups;
+      this.cacheable = cacheable;
+    }
+
+    @Override
+    public @Nullable CallAdapter<?, ?> get(
+        Type returnType, Annotation[] annotations, Retrofit retrofit) {
+      lookups.incrementAndGet();
+      return null;
+    }
+
+    @Override
+    public boolean isCacheable() {
+      return cacheable;
+    }
+  }
+
   interface StringService {
     @GET("/")
     String get();
@@ -289,6 +359,169 @@ public final class RetrofitTest {
     assertEquals(0, retrofit.newBuilder().converterFactories().size());
   }
 
+  @Test
+  public void withBaseUrlSharesServiceMethods() throws IOException, InterruptedException {
+    AtomicInteger adapterLookups = new AtomicInteger();
+    CallAdapter.Factory countingFactory =
+        new CallAdapter.Factory() {
+          @Override
+          public @Nullable CallAdapter<?, ?> get(
+              Type returnType, Annotation[] annotations, Retrofit retrofit) {
+            adapterLookups.incrementAndGet();
+            return null;
+          }
+        };
+    Retrofit one =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/one/"))
+            .addCallAdapterFactory(countingFactory)
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    Retrofit two = one.withBaseUrl(server.url("/two/"));
+    assertEquals(server.url("/two/"), two.baseUrl());
+    assertSame(one.callFactory(), two.callFactory());
+    assertEquals(one.converterFactories(), two.converterFactories());
+    assertEquals(one.callAdapterFactories(), two.callAdapterFactories());
+
+    server.enqueue(new MockResponse().setBody("Hi"));
+    server.enqueue(new MockResponse().setBody("Hi"));
+    server.enqueue(new MockResponse().setBody("Hi"));
+    one.create(StringParameterized.class).method("a").execute();
+    two.create(StringParameterized.class).method("b").execute();
+    one.withBaseUrl(server.url("/three/")).create(StringParameterized.class).method("c").execute();
+
+    assertThat(server.takeRequest().getPath()).isEqualTo("/one/a");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/two/b");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/three/c");
+    assertThat(adapterLookups.get()).isEqualTo(1);
+
+    Retrofit four = one.newBuilder().baseUrl(server.url("/four/")).build();
+    server.enqueue(new MockResponse().setBody("Hi"));
+    four.create(StringParameterized.class).method("d").execute();
+    assertThat(server.takeRequest().getPath()).isEqualTo("/four/d");
+    assertThat(adapterLookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void withBaseUrlConstantRequest() throws IOException, InterruptedException {
+    Retrofit one =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/one/"))
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    Retrofit two = one.withBaseUrl(server.url("/two/"));
+
+    server.enqueue(new MockResponse().setBody("Hi"));
+    server.enqueue(new MockResponse().setBody("Hi"));
+    one.create(StringConstant.class).method().execute();
+    two.create(StringConstant.class).method().execute();
+
+    assertThat(server.takeRequest().getPath()).isEqualTo("/one/constant");
+    assertThat(server.takeRequest().getPath()).isEqualTo("/two/constant");
+  }
+
+  @Test
+  public void cacheableFactoryResultsAreSharedBetweenMethods() {
+    AtomicInteger converterLookups = new AtomicInteger();
+    AtomicInteger adapterLookups = new AtomicInteger();
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(new CountingCallAdapterFactory(adapterLookups, true))
+            .addConverterFactory(new CountingConverterFactory(converterLookups, true))
+            .build();
+    CachedMethods service = retrofit.create(CachedMethods.class);
+    service.one();
+    service.two();
+    service.three("a");
+    service.three("b");
+
+    assertThat(converterLookups.get()).isEqualTo(1);
+    assertThat(adapterLookups.get()).isEqualTo(1);
+    assertSame(
+        retrofit.responseBodyConverter(String.class, new Annotation[0]),
+        retrofit.responseBodyConverter(String.class, new Annotation[0]));
+  }
+
+  @Test
+  public void nonCacheableFactoryResultsAreNotShared() {
+    AtomicInteger converterLookups = new AtomicInteger();
+    AtomicInteger adapterLookups = new AtomicInteger();
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addCallAdapterFactory(new CountingCallAdapterFactory(adapterLookups, false))
+            .addConverterFactory(new CountingConverterFactory(converterLookups, false))
+            .build();
+    CachedMethods service = retrofit.create(CachedMethods.class);
+    service.one();
+    service.two();
+
+    assertThat(converterLookups.get()).isEqualTo(2);
+    assertThat(adapterLookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void cacheableFactoryDelegatingToNonCacheableIsNotShared() {
+    AtomicInteger converterLookups = new AtomicInteger();
+    Converter.Factory delegating =
+        new Converter.Factory() {
+          @Override
+          public @Nullable Converter<ResponseBody, ?> responseBodyConverter(
+              Type type, Annotation[] annotations, Retrofit retrofit) {
+            return retrofit.nextResponseBodyConverter(this, type, annotations);
+          }
+
+          @Override
+          public boolean isCacheable() {
+            return true;
+          }
+        };
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(delegating)
+            .addConverterFactory(new CountingConverterFactory(converterLookups, false))
+            .build();
+    CachedMethods service = retrofit.create(CachedMethods.class);
+    service.one();
+    service.two();
+
+    assertThat(converterLookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void cacheKeyIncludesOtherAnnotationsAndComparesTypes() throws NoSuchMethodException {
+    AtomicInteger converterLookups = new AtomicInteger();
+    Retrofit retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .addConverterFactory(new CountingConverterFactory(converterLookups, true))
+            .build();
+    Annotation qualifier = CountingConverterFactory.class.getAnnotation(Qualifier.class);
+    retrofit.responseBodyConverter(String.class, new Annotation[] {qualifier});
+    retrofit.responseBodyConverter(String.class, new Annotation[] {qualifier});
+    retrofit.responseBodyConverter(String.class, new Annotation[0]);
+    // Equal types from different implementations share a converter.
+    retrofit.responseBodyConverter(
+        CachedMethods.class.getMethod("one").getGenericReturnType(), new Annotation[0]);
+    retrofit.responseBodyConverter(
+        new Utils.ParameterizedTypeImpl(null, Call.class, String.class), new Annotation[0]);
+
+    assertThat(converterLookups.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void withBaseUrlMustEndInSlash() {
+    Retrofit retrofit = new Retrofit.Builder().baseUrl(server.url("/")).build();
+    try {
+      retrofit.withBaseUrl("http://example.com/api");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("baseUrl must end in /: http://example.com/api");
+    }
+  }
+
   @Test
   public void responseTypeCannotBeRetrofitResponse() {
     Retrofit retrofit = new Retrofit.Builder().baseUrl(server.url("/")).build();
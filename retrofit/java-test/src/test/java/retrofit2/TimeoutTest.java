@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import retrofit2.helpers.ToStringConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Timeout;
+
+public final class TimeoutTest {
+  @Rule public final MockWebServer server = new MockWebServer();
+
+  interface Service {
+    @GET("/")
+    Call<String> plain();
+
+    @GET("/")
+    @Timeout(call = 5, unit = SECONDS)
+    Call<String> callTimeout();
+
+    @GET("/")
+    @Timeout(read = 100)
+    Call<String> readTimeout();
+  }
+
+  interface NegativeTimeout {
+    @GET("/")
+    @Timeout(call = -1)
+    Call<String> method();
+  }
+
+  private Retrofit retrofit;
+  private Service service;
+
+  @Before
+  public void setUp() {
+    retrofit =
+        new Retrofit.Builder()
+            .baseUrl(server.url("/"))
+            .client(new OkHttpClient.Builder().callTimeout(30, SECONDS).build())
+            .addConverterFactory(new ToStringConverterFactory())
+            .build();
+    service = retrofit.create(Service.class);
+  }
+
+  @Test
+  public void noAnnotationUsesClientTimeout() {
+    assertThat(service.plain().timeout().timeoutNanos()).isEqualTo(SECONDS.toNanos(30));
+  }
+
+  @Test
+  public void callTimeoutOverridesClientTimeout() {
+    assertThat(service.callTimeout().timeout().timeoutNanos()).isEqualTo(SECONDS.toNanos(5));
+  }
+
+  @Test
+  public void readTimeout() throws IOException {
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+
+    long start = System.nanoTime();
+    try {
+      service.readTimeout().execute();
+      fail();
+    } catch (InterruptedIOException expected) {
+    }
+    assertThat(System.nanoTime() - start).isLessThan(SECONDS.toNanos(10));
+  }
+
+  @Test
+  public void negativeTimeoutThrows() {
+    NegativeTimeout negative = retrofit.create(NegativeTimeout.class);
+    try {
+      negative.method();
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e)
+          .hasMessageThat()
+          .isEqualTo(
+              "@Timeout values must not be negative.\n"
+                  + "    for method NegativeTimeout.method");
+    }
+  }
+
+  @Test
+  public void deadlineShortensTimeout() throws IOException {
+    server.enqueue(new MockResponse());
+
+    Call<String> call;
+    try (Deadline.Scope ignored = Deadline.withTimeout(1, SECONDS)) {
+      call = service.callTimeout();
+    }
+    assertThat(call.timeout().timeoutNanos()).isEqualTo(SECONDS.toNanos(5));
+
+    call.execute();
+    long timeoutNanos = call.timeout().timeoutNanos();
+    assertThat(timeoutNanos).isGreaterThan(0L);
+    assertThat(timeoutNanos).isAtMost(SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void deadlineDoesNotExtendTimeout() throws IOException {
+    server.enqueue(new MockResponse());
+
+    try (Deadline.Scope ignored = Deadline.withTimeout(60, SECONDS)) {
+      Call<String> call = service.callTimeout();
+      call.execute();
+      assertThat(call.timeout().timeoutNanos()).isEqualTo(SECONDS.toNanos(5));
+    }
+  }
+
+  @Test
+  public void expiredDeadlineFailsWithoutRequest() throws IOException, InterruptedException {
+    try (Deadline.Scope ignored = Deadline.withTimeout(0, MILLISECONDS)) {
+      service.plain().execute();
+      fail();
+    } catch (InterruptedIOException e) {
+      assertThat(e).hasMessageThat().isEqualTo("deadline exceeded");
+    }
+    assertThat(server.getRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void expiredDeadlineFailsEnqueue() throws InterruptedException {
+    Call<String> call;
+    try (Deadline.Scope ignored = Deadline.withTimeout(0, MILLISECONDS)) {
+      call = service.plain();
+    }
+
+    final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    call.enqueue(
+        new Callback<String>() {
+          @Override
+          public void onResponse(Call<String> call, Response<String> response) {
+            throw new AssertionError();
+          }
+
+          @Override
+          public void onFailure(Call<String> call, Throwable t) {
+            failureRef.set(t);
+            latch.countDown();
+          }
+        });
+    assertTrue(latch.await(10, SECONDS));
+
+    assertThat(failureRef.get()).isInstanceOf(InterruptedIOException.class);
+    assertThat(failureRef.get()).hasMessageThat().isEqualTo("deadline exceeded");
+    assertThat(server.getRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void expiredDeadlineDoesNotBreakRequest() throws IOException {
+    try (Deadline.Scope ignored = Deadline.withTimeout(0, MILLISECONDS)) {
+      Call<String> call = service.plain();
+      assertThat(call.request().url()).isEqualTo(server.url("/"));
+      try {
+        call.execute();
+        fail();
+      } catch (InterruptedIOException e) {
+        assertThat(e).hasMessageThat().isEqualTo("deadline exceeded");
+      }
+      assertThat(call.request().url()).isEqualTo(server.url("/"));
+    }
+  }
+
+  @Test
+  public void cloneKeepsDeadlineOnAnotherThread() throws Exception {
+    Call<String> call;
+    try (Deadline.Scope ignored = Deadline.withTimeout(0, MILLISECONDS)) {
+      call = service.plain();
+    }
+
+    final Call<String> clone = call.clone();
+    final AtomicReference<Throwable> failureRef = new AtomicReference<>();
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                clone.execute();
+              } catch (Throwable t) {
+                failureRef.set(t);
+              }
+            });
+    thread.start();
+    thread.join();
+
+    assertThat(failureRef.get()).isInstanceOf(InterruptedIOException.class);
+    assertThat(failureRef.get()).hasMessageThat().isEqualTo("deadline exceeded");
+    assertThat(server.getRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void currentDeadlineShortensCallDeadline() throws IOException {
+    Call<String> call;
+    try (Deadline.Scope ignored = Deadline.withTimeout(60, SECONDS)) {
+      call = service.plain();
+    }
+
+    try (Deadline.Scope ignored = Deadline.withTimeout(0, MILLISECONDS)) {
+      call.execute();
+      fail();
+    } catch (InterruptedIOException e) {
+      assertThat(e).hasMessageThat().isEqualTo("deadline exceeded");
+    }
+    assertThat(server.getRequestCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void nestedScopeCannotExtendDeadline() {
+    try (Deadline.Scope outer = Deadline.withTimeout(1, SECONDS)) {
+      Deadline deadline = Deadline.current();
+      try (Deadline.Scope inner = Deadline.withTimeout(60, SECONDS)) {
+        assertThat(Deadline.current()).isSameInstanceAs(deadline);
+      }
+      assertThat(Deadline.current()).isSameInstanceAs(deadline);
+    }
+    assertThat(Deadline.current()).isNull();
+  }
+
+  @Test
+  public void nestedScopeShortensDeadline() {
+    try (Deadline.Scope outer = Deadline.withTimeout(60, SECONDS)) {
+      Deadline deadline = Deadline.current();
+      try (Deadline.Scope inner = Deadline.withTimeout(1, SECONDS)) {
+        assertThat(Deadline.current().remaining(SECONDS)).isAtMost(1L);
+      }
+      assertThat(Deadline.current()).isSameInstanceAs(deadline);
+    }
+  }
+}
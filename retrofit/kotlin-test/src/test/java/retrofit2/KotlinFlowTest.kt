@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2
+
+import com.google.common.truth.Truth.assertThat
+import java.io.Closeable
+import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Type
+import java.util.concurrent.TimeUnit.SECONDS
+import java.util.concurrent.atomic.AtomicInteger
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.onEach
+import kotlinx.coroutines.flow.single
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import okhttp3.OkHttpClient
+import okhttp3.ResponseBody
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Rule
+import org.junit.Test
+import retrofit2.helpers.ToStringConverterFactory
+import retrofit2.http.GET
+
+class KotlinFlowTest {
+  @get:Rule val server = MockWebServer()
+
+  interface Service {
+    @GET("/") fun lines(): Flow<String>
+
+    @GET("/") fun response(): Flow<Response<String>>
+  }
+
+  private val linesConverterFactory = LinesConverterFactory()
+  private val retrofit =
+    Retrofit.Builder()
+      .baseUrl(server.url("/"))
+      .addConverterFactory(linesConverterFactory)
+      .addConverterFactory(ToStringConverterFactory())
+      .build()
+  private val service = retrofit.create(Service::class.java)
+
+  @Test
+  fun elements() {
+    server.enqueue(MockResponse().setBody("one\ntwo\nthree\n"))
+
+    val lines = runBlocking { service.lines().toList() }
+    assertThat(lines).containsExactly("one", "two", "three").inOrder()
+  }
+
+  @Test
+  fun slowCollectorSuspendsReading() {
+    server.enqueue(MockResponse().setBody((1..10).joinToString("") { "$it\n" }))
+
+    var readBeforeFirstResumed = 0
+    val lines = runBlocking {
+      service
+        .lines()
+        .onEach {
+          if (it == "1") {
+            Thread.sleep(200) // Give the reader time to run ahead if it is able to.
+            readBeforeFirstResumed = linesConverterFactory.read.get()
+          }
+        }
+        .toList()
+    }
+    assertThat(lines).hasSize(10)
+    // The first element and at most one more which is waiting to be handed over.
+    assertThat(readBeforeFirstResumed).isAtMost(2)
+  }
+
+  @Test
+  fun requestSentOnEachCollection() {
+    server.enqueue(MockResponse().setBody("one\n"))
+    server.enqueue(MockResponse().setBody("two\n"))
+
+    val flow = service.lines()
+    assertThat(server.requestCount).isEqualTo(0)
+
+    assertThat(runBlocking { flow.toList() }).containsExactly("one")
+    assertThat(runBlocking { flow.toList() }).containsExactly("two")
+    assertThat(server.requestCount).isEqualTo(2)
+  }
+
+  @Test
+  fun elements404() {
+    server.enqueue(MockResponse().setResponseCode(404))
+
+    try {
+      runBlocking { service.lines().toList() }
+      fail()
+    } catch (e: HttpException) {
+      assertThat(e.code()).isEqualTo(404)
+    }
+  }
+
+  @Test
+  fun elementsNoContent() {
+    server.enqueue(MockResponse().setResponseCode(204))
+
+    val lines = runBlocking { service.lines().toList() }
+    assertThat(lines).isEmpty()
+  }
+
+  @Test
+  fun response() {
+    server.enqueue(MockResponse().setResponseCode(404).setBody("Nope"))
+
+    val response = runBlocking { service.response().single() }
+    assertThat(response.code()).isEqualTo(404)
+    assertThat(response.errorBody()!!.string()).isEqualTo("Nope")
+  }
+
+  @Test
+  fun cancelingCollectorCancelsCall() {
+    lateinit var call: okhttp3.Call
+    val okHttpClient = OkHttpClient()
+    val service =
+      retrofit
+        .newBuilder()
+        .callFactory {
+          val newCall = okHttpClient.newCall(it)
+          call = newCall
+          newCall
+        }
+        .build()
+        .create(Service::class.java)
+
+    // The second line is held back so that reading it blocks until the call is canceled.
+    server.enqueue(MockResponse().setBody("one\ntwo\n").throttleBody(4, 10, SECONDS))
+
+    val first = runBlocking { service.lines().first() }
+    assertThat(first).isEqualTo("one")
+    assertTrue(call.isCanceled())
+  }
+
+  /** Lazily decodes `Iterator<String>` as the lines of the body. */
+  class LinesConverterFactory : Converter.Factory() {
+    val read = AtomicInteger()
+
+    override fun responseBodyConverter(
+      type: Type,
+      annotations: Array<Annotation>,
+      retrofit: Retrofit,
+    ): Converter<ResponseBody, *>? {
+      if (getRawType(type) != Iterator::class.java) return null
+      if (getParameterUpperBound(0, type as ParameterizedType) != String::class.java) return null
+      return Converter<ResponseBody, Iterator<String>> { LinesIterator(it, read) }
+    }
+  }
+
+  private class LinesIterator(
+    private val body: ResponseBody,
+    private val read: AtomicInteger,
+  ) : Iterator<String>, Closeable {
+    override fun hasNext() = !body.source().exhausted()
+
+    override fun next(): String {
+      val line = body.source().readUtf8LineStrict()
+      read.incrementAndGet()
+      return line
+    }
+
+    override fun close() = body.close()
+  }
+}
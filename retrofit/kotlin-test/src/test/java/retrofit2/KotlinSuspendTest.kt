@@ -19,13 +19,16 @@ import com.google.common.truth.Truth.assertThat
 import java.io.IOException
 import java.lang.reflect.ParameterizedType
 import java.lang.reflect.Type
+import java.util.concurrent.Executors
 import kotlin.coroutines.CoroutineContext
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.GlobalScope
 import kotlinx.coroutines.async
+import kotlinx.coroutines.asCoroutineDispatcher
 import kotlinx.coroutines.runBlocking
 import kotlinx.coroutines.withContext
 import okhttp3.OkHttpClient
+import okhttp3.ResponseBody
 import okhttp3.mockwebserver.MockResponse
 import okhttp3.mockwebserver.MockWebServer
 import okhttp3.mockwebserver.SocketPolicy.DISCONNECT_AFTER_REQUEST
@@ -268,6 +271,94 @@ class KotlinSuspendTest {
     assertTrue(call.isCanceled())
   }
 
+  @Test
+  fun conversionDispatcher() {
+    val executor = Executors.newSingleThreadExecutor { Thread(it, "conversion") }
+    var convertingThread: String? = null
+    val converterFactory =
+      object : Converter.Factory() {
+        override fun responseBodyConverter(
+          type: Type,
+          annotations: Array<Annotation>,
+          retrofit: Retrofit,
+        ): Converter<ResponseBody, *> {
+          return Converter<ResponseBody, String> {
+            convertingThread = Thread.currentThread().name
+            it.string()
+          }
+        }
+      }
+    val retrofit =
+      Retrofit.Builder()
+        .baseUrl(server.url("/"))
+        .conversionDispatcher(executor.asCoroutineDispatcher())
+        .addConverterFactory(converterFactory)
+        .build()
+    val example = retrofit.create(Service::class.java)
+
+    server.enqueue(MockResponse().setBody("Hi"))
+    server.enqueue(MockResponse().setResponseCode(404))
+
+    try {
+      assertThat(runBlocking { example.body() }).isEqualTo("Hi")
+      assertThat(convertingThread).isEqualTo("conversion")
+
+      val response = runBlocking { example.response() }
+      assertThat(response.code()).isEqualTo(404)
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  fun conversionExecutor() {
+    val executor = Executors.newSingleThreadExecutor { Thread(it, "conversion") }
+    var convertingThread: String? = null
+    val converterFactory =
+      object : Converter.Factory() {
+        override fun responseBodyConverter(
+          type: Type,
+          annotations: Array<Annotation>,
+          retrofit: Retrofit,
+        ): Converter<ResponseBody, *> {
+          return Converter<ResponseBody, String> {
+            convertingThread = Thread.currentThread().name
+            it.string()
+          }
+        }
+      }
+    val retrofit =
+      Retrofit.Builder()
+        .baseUrl(server.url("/"))
+        .conversionExecutor(executor)
+        .addConverterFactory(converterFactory)
+        .build()
+    val example = retrofit.create(Service::class.java)
+
+    server.enqueue(MockResponse().setBody("Hi"))
+
+    try {
+      assertThat(runBlocking { example.body() }).isEqualTo("Hi")
+      assertThat(convertingThread).isEqualTo("conversion")
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  fun conversionDispatcherSharedByNewBuilder() {
+    val dispatcher = Executors.newSingleThreadExecutor().asCoroutineDispatcher()
+    try {
+      val retrofit =
+        Retrofit.Builder().baseUrl(server.url("/")).conversionDispatcher(dispatcher).build()
+      assertThat(retrofit.newBuilder().build().conversionDispatcher).isSameInstanceAs(dispatcher)
+      assertThat(retrofit.withBaseUrl(server.url("/other/")).conversionDispatcher)
+        .isSameInstanceAs(dispatcher)
+    } finally {
+      dispatcher.close()
+    }
+  }
+
   @Test
   fun doesNotUseCallbackExecutor() {
     val retrofit =
@@ -55,6 +55,11 @@ final class BuiltInConverters extends Converter.Factory {
     return null;
   }
 
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
   static final class VoidResponseBodyConverter implements Converter<ResponseBody, Void> {
     static final VoidResponseBodyConverter INSTANCE = new VoidResponseBodyConverter();
 
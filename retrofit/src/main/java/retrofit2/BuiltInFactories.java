@@ -15,19 +15,36 @@
  */
 package retrofit2;
 
-import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 import android.annotation.TargetApi;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
 import javax.annotation.Nullable;
 
 class BuiltInFactories {
+  /** True when kotlinx.coroutines is present to support {@code Flow} return types. */
+  private static final boolean hasKotlinFlow = hasClass("kotlinx.coroutines.flow.Flow");
+
+  private static boolean hasClass(String name) {
+    try {
+      Class.forName(name, false, BuiltInFactories.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError ignored) {
+      return false;
+    }
+  }
+
   List<? extends CallAdapter.Factory> createDefaultCallAdapterFactories(
       @Nullable Executor callbackExecutor) {
-    return singletonList(new DefaultCallAdapterFactory(callbackExecutor));
+    List<CallAdapter.Factory> factories = new ArrayList<>(2);
+    if (hasKotlinFlow) {
+      factories.add(new FlowCallAdapterFactory());
+    }
+    factories.add(new DefaultCallAdapterFactory(callbackExecutor));
+    return factories;
   }
 
   List<? extends Converter.Factory> createDefaultConverterFactories() {
@@ -39,9 +56,10 @@ class BuiltInFactories {
     @Override
     List<? extends CallAdapter.Factory> createDefaultCallAdapterFactories(
         @Nullable Executor callbackExecutor) {
-      return asList(
-          new CompletableFutureCallAdapterFactory(),
-          new DefaultCallAdapterFactory(callbackExecutor));
+      List<CallAdapter.Factory> factories = new ArrayList<>(3);
+      factories.add(new CompletableFutureCallAdapterFactory());
+      factories.addAll(super.createDefaultCallAdapterFactories(callbackExecutor));
+      return factories;
     }
 
     @Override
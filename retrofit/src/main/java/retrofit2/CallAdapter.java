@@ -68,6 +68,21 @@ public interface CallAdapter<R, T> {
     public abstract @Nullable CallAdapter<?, ?> get(
         Type returnType, Annotation[] annotations, Retrofit retrofit);
 
+    /**
+     * Returns true if the call adapters created by this factory may be reused by Retrofit for
+     * every method with an equal return type and annotations. Retrofit then calls this factory
+     * once for each such type instead of once per method.
+     *
+     * <p>Cacheable factories must return thread-safe call adapters, and their results (including
+     * returning null) must depend only on the return type, on the values of annotations other than
+     * those in {@link retrofit2.http}, and on which {@link retrofit2.http} annotations are present.
+     * Call adapters obtained from the {@link Retrofit} instance, such as with {@link
+     * Retrofit#nextCallAdapter}, are accounted for automatically.
+     */
+    public boolean isCacheable() {
+      return false;
+    }
+
     /**
      * Extract the upper bound of the generic parameter at {@code index} from {@code type}. For
      * example, index 1 of {@code Map<String, ? extends Runnable>} returns {@code Runnable}.
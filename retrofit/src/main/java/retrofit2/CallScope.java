@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+/**
+ * Executes calls in parallel and waits for all of them within a shared deadline. Each {@linkplain
+ * #fork forked} call is executed on its own thread, which is a virtual thread on Java 21 and newer,
+ * so there is no thread pool to size.
+ *
+ * <pre><code>
+ * try (CallScope scope = CallScope.shutdownOnFailure(2, SECONDS)) {
+ *   CallScope.Fork&lt;User&gt; user = scope.fork(service.user(id));
+ *   CallScope.Fork&lt;List&lt;Repo&gt;&gt; repos = scope.fork(service.repos(id));
+ *   scope.join();
+ *   return new Profile(user.response().body(), repos.response().body());
+ * }
+ * </code></pre>
+ *
+ * <p>Every call is executed with the same {@link Deadline}: the earlier of the scope's timeout and
+ * the deadline which was current when the scope was created. A scope created with {@link
+ * #shutdownOnFailure} cancels the remaining calls once one fails and {@link #join()} throws that
+ * failure. A scope created with {@link #collectAll} lets every call finish and records the outcome
+ * of each in its {@link Fork}. A call fails when it throws or when its response is not {@linkplain
+ * Response#isSuccessful() successful}, in which case its failure is an {@link HttpException}.
+ *
+ * <p>Closing the scope cancels any calls which are still running and waits for their threads to
+ * finish, so no call outlives the scope.
+ */
+public final class CallScope implements Closeable {
+  /**
+   * Create a scope whose calls must complete within {@code timeout}. The first call to fail cancels
+   * the others and is thrown by {@link #join()}.
+   */
+  public static CallScope shutdownOnFailure(long timeout, TimeUnit unit) {
+    return create(timeout, unit, true);
+  }
+
+  /**
+   * Create a scope whose calls must complete within {@code timeout}. Failed calls do not affect the
+   * others, and their failures are available from {@link Fork#failure()}.
+   */
+  public static CallScope collectAll(long timeout, TimeUnit unit) {
+    return create(timeout, unit, false);
+  }
+
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  private static CallScope create(long timeout, TimeUnit unit, boolean shutdownOnFailure) {
+    if (timeout < 0) throw new IllegalArgumentException("timeout < 0: " + timeout);
+    Objects.requireNonNull(unit, "unit == null");
+    return new CallScope(Deadline.withinCurrent(timeout, unit), shutdownOnFailure);
+  }
+
+  private final Deadline deadline;
+  private final boolean shutdownOnFailure;
+  private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+  private final List<Fork<?>> forks = new ArrayList<>(); // Guarded by this.
+  private boolean closed; // Guarded by this.
+
+  private CallScope(Deadline deadline, boolean shutdownOnFailure) {
+    this.deadline = deadline;
+    this.shutdownOnFailure = shutdownOnFailure;
+  }
+
+  /** Returns the deadline shared by the calls of this scope. */
+  public Deadline deadline() {
+    return deadline;
+  }
+
+  /** Start executing {@code call} on a new thread. */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public synchronized <T> Fork<T> fork(Call<T> call) {
+    Objects.requireNonNull(call, "call == null");
+    if (closed) throw new IllegalStateException("closed");
+    if (firstFailure.get() != null) {
+      call.cancel(); // Fail immediately without sending a request.
+    }
+
+    Fork<T> fork = new Fork<>(call);
+    forks.add(fork);
+    fork.thread = ThreadSupport.start(() -> execute(fork), "Retrofit CallScope");
+    return fork;
+  }
+
+  private <T> void execute(Fork<T> fork) {
+    try (Deadline.Scope ignored = deadline.attach()) {
+      Response<T> response = fork.call.execute();
+      if (!response.isSuccessful()) {
+        failed(fork, new HttpException(response));
+      }
+      fork.response = response;
+    } catch (Throwable t) {
+      failed(fork, t);
+    }
+  }
+
+  private void failed(Fork<?> fork, Throwable t) {
+    fork.failure = t;
+    if (shutdownOnFailure && firstFailure.compareAndSet(null, t)) {
+      cancelAll();
+    }
+  }
+
+  private void cancelAll() {
+    for (Fork<?> fork : forks()) {
+      fork.call.cancel();
+    }
+  }
+
+  private synchronized List<Fork<?>> forks() {
+    return new ArrayList<>(forks);
+  }
+
+  /**
+   * Wait for every call forked so far to complete. Calls which are still running when the deadline
+   * passes are canceled. For a scope created with {@link #shutdownOnFailure} this throws the first
+   * failure, if any.
+   */
+  public void join() throws IOException, InterruptedException {
+    try {
+      for (Fork<?> fork : forks()) {
+        Thread thread = fork.thread;
+        long remainingMillis = deadline.remaining(MILLISECONDS);
+        if (remainingMillis > 0) {
+          thread.join(remainingMillis);
+        }
+        if (thread.isAlive()) {
+          cancelAll();
+          thread.join();
+        }
+      }
+    } catch (InterruptedException e) {
+      cancelAll();
+      throw e;
+    }
+
+    Throwable failure = firstFailure.get();
+    if (failure == null) return;
+    if (failure instanceof IOException) throw (IOException) failure;
+    if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+    if (failure instanceof Error) throw (Error) failure;
+    throw new RuntimeException(failure);
+  }
+
+  /** Cancel any calls which are still running and wait for their threads to finish. */
+  @Override
+  public void close() {
+    List<Fork<?>> forks;
+    synchronized (this) {
+      if (closed) return;
+      closed = true;
+      forks = new ArrayList<>(this.forks);
+    }
+
+    boolean interrupted = false;
+    for (Fork<?> fork : forks) {
+      Thread thread = fork.thread;
+      if (thread.isAlive()) {
+        fork.call.cancel();
+      }
+      while (true) {
+        try {
+          thread.join();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** A call which was forked in a {@link CallScope}. */
+  public static final class Fork<T> {
+    final Call<T> call;
+    Thread thread; // Assigned while the scope is locked.
+    volatile @Nullable Response<T> response;
+    volatile @Nullable Throwable failure;
+
+    Fork(Call<T> call) {
+      this.call = call;
+    }
+
+    /**
+     * Returns the response of the call, including one which is not {@linkplain
+     * Response#isSuccessful() successful}.
+     *
+     * @throws IllegalStateException if the call has not completed or failed without a response.
+     */
+    public Response<T> response() {
+      Response<T> response = this.response;
+      if (response == null) {
+        Throwable failure = this.failure;
+        throw new IllegalStateException(
+            failure != null ? "Call failed without a response" : "Call has not completed",
+            failure);
+      }
+      return response;
+    }
+
+    /** Returns the reason the call failed, or null if it has not completed or succeeded. */
+    public @Nullable Throwable failure() {
+      return failure;
+    }
+  }
+}
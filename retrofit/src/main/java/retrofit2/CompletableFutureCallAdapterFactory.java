@@ -53,6 +53,11 @@ final class CompletableFutureCallAdapterFactory extends CallAdapter.Factory {
     return new ResponseCallAdapter<>(responseType);
   }
 
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
   @IgnoreJRERequirement
   private static final class BodyCallAdapter<R> implements CallAdapter<R, CompletableFuture<R>> {
     private final Type responseType;
@@ -92,7 +97,11 @@ final class CompletableFutureCallAdapterFactory extends CallAdapter.Factory {
 
       @Override
       public void onFailure(Call<R> call, Throwable t) {
-        future.completeExceptionally(t);
+        if (call.isCanceled()) {
+          future.cancel(false);
+        } else {
+          future.completeExceptionally(t);
+        }
       }
     }
   }
@@ -133,11 +142,20 @@ final class CompletableFutureCallAdapterFactory extends CallAdapter.Factory {
 
       @Override
       public void onFailure(Call<R> call, Throwable t) {
-        future.completeExceptionally(t);
+        if (call.isCanceled()) {
+          future.cancel(false);
+        } else {
+          future.completeExceptionally(t);
+        }
       }
     }
   }
 
+  /**
+   * Cancels the call when canceled. The callbacks above complete it directly on the thread which
+   * delivers the response and cancel it when the call is canceled, so cancelation is propagated in
+   * both directions without any additional thread hop.
+   */
   @IgnoreJRERequirement
   private static final class CallCancelCompletableFuture<T> extends CompletableFuture<T> {
     private final Call<?> call;
@@ -148,9 +166,8 @@ final class CompletableFutureCallAdapterFactory extends CallAdapter.Factory {
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
-      if (mayInterruptIfRunning) {
-        call.cancel();
-      }
+      // CompletableFuture ignores mayInterruptIfRunning, so the call is canceled either way.
+      call.cancel();
       return super.cancel(mayInterruptIfRunning);
     }
   }
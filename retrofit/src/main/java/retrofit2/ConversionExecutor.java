@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Convert the response body of this method on the executor registered under {@link #value()} with
+ * {@link Retrofit.Builder#conversionExecutor(String, java.util.concurrent.Executor)} instead of on
+ * the {@linkplain Retrofit#conversionExecutor() default conversion executor}.
+ *
+ * <pre><code>
+ * Retrofit retrofit = new Retrofit.Builder()
+ *     .baseUrl("https://example.com/")
+ *     .conversionExecutor(ForkJoinPool.commonPool())
+ *     .conversionExecutor("inline", Runnable::run)
+ *     .build();
+ *
+ * interface Service {
+ *   &#64;ConversionExecutor("inline") // Small enough to convert on the HTTP client's thread.
+ *   &#64;GET("user/{id}/token")
+ *   Call&lt;String&gt; getToken(@Path("id") long id);
+ * }
+ * </code></pre>
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface ConversionExecutor {
+  /** The name of an executor registered with the {@link Retrofit.Builder}. */
+  String value();
+}
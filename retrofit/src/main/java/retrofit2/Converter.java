@@ -80,6 +80,21 @@ public interface Converter<F, T> {
       return null;
     }
 
+    /**
+     * Returns true if the converters created by this factory may be reused by Retrofit for every
+     * method which needs a converter for an equal type and annotations. Retrofit then calls this
+     * factory once for each such type instead of once per method.
+     *
+     * <p>Cacheable factories must return thread-safe converters, and their results (including
+     * returning null) must depend only on the type, on the values of annotations other than those
+     * in {@link retrofit2.http}, and on which {@link retrofit2.http} annotations are present.
+     * Converters obtained from the {@link Retrofit} instance, such as with {@link
+     * Retrofit#nextResponseBodyConverter}, are accounted for automatically.
+     */
+    public boolean isCacheable() {
+      return false;
+    }
+
     /**
      * Extract the upper bound of the generic parameter at {@code index} from {@code type}. For
      * example, index 1 of {@code Map<String, ? extends Runnable>} returns {@code Runnable}.
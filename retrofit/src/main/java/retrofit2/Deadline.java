@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * A point in time by which the calls made on a thread must complete. A call created by a service
+ * method on a thread with a current deadline keeps that deadline, including in its {@linkplain
+ * Call#clone() clones}. When the call is executed or enqueued its {@linkplain
+ * okhttp3.Call#timeout() call timeout} is reduced to the time remaining, and it fails immediately
+ * with an {@link java.io.InterruptedIOException} if the deadline has passed. This stops work on
+ * behalf of a caller which has already given up.
+ *
+ * <pre><code>
+ * try (Deadline.Scope scope = Deadline.withTimeout(2, SECONDS)) {
+ *   User user = service.user(id).execute().body();
+ *   List&lt;Repo&gt; repos = service.repos(user.login).execute().body();
+ * }
+ * </code></pre>
+ *
+ * <p>Deadlines nest: a scope never extends the deadline of the scope which encloses it. A deadline
+ * is bound to a thread. Use {@link #current()} and {@link #attach()} to carry it to another thread.
+ * A call executed within a deadline other than the one it was created with uses the earlier of the
+ * two.
+ *
+ * <p>A call only fails fast once no time remains. A call started with a few milliseconds left is
+ * still sent, and is likely to time out rather than complete. Check {@link #remaining} before
+ * starting work which cannot finish in a short budget.
+ */
+public final class Deadline {
+  private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+  /** Returns the deadline of the calling thread, or null if it has none. */
+  public static @Nullable Deadline current() {
+    return current.get();
+  }
+
+  /**
+   * Make the earlier of {@code timeout} from now and the current deadline the current deadline of
+   * the calling thread until the returned scope is closed.
+   */
+  @SuppressWarnings("ConstantConditions") // Guarding public API nullability.
+  public static Scope withTimeout(long timeout, TimeUnit unit) {
+    if (timeout < 0) throw new IllegalArgumentException("timeout < 0: " + timeout);
+    Objects.requireNonNull(unit, "unit == null");
+    return new Deadline(System.nanoTime() + unit.toNanos(timeout)).attach();
+  }
+
+  /** Returns the earlier of {@code timeout} from now and the current deadline. */
+  static Deadline withinCurrent(long timeout, TimeUnit unit) {
+    Deadline deadline = new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    Deadline previous = current.get();
+    return previous != null && previous.nanoTime - deadline.nanoTime < 0 ? previous : deadline;
+  }
+
+  /** Returns the earlier of {@code deadline} and the current deadline, or null if there is none. */
+  static @Nullable Deadline withinCurrent(@Nullable Deadline deadline) {
+    Deadline previous = current.get();
+    if (deadline == null) return previous;
+    return previous != null && previous.nanoTime - deadline.nanoTime < 0 ? previous : deadline;
+  }
+
+  private final long nanoTime;
+
+  private Deadline(long nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  /** Returns the time remaining before this deadline, which is negative once it has passed. */
+  public long remaining(TimeUnit unit) {
+    return unit.convert(remainingNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  long remainingNanos() {
+    return nanoTime - System.nanoTime();
+  }
+
+  public boolean isExpired() {
+    return remainingNanos() <= 0;
+  }
+
+  /**
+   * Make the earlier of this and the current deadline the current deadline of the calling thread
+   * until the returned scope is closed.
+   */
+  public Scope attach() {
+    Deadline previous = current.get();
+    Deadline effective = previous != null && previous.nanoTime - nanoTime < 0 ? previous : this;
+    current.set(effective);
+    return new Scope(previous);
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline{remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms}";
+  }
+
+  /** Restores the previous deadline of the thread when closed. */
+  public static final class Scope implements Closeable {
+    private final @Nullable Deadline previous;
+
+    Scope(@Nullable Deadline previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      if (previous != null) {
+        current.set(previous);
+      } else {
+        current.remove();
+      }
+    }
+  }
+}
@@ -49,6 +49,9 @@ final class DefaultCallAdapterFactory extends CallAdapter.Factory {
             ? null
             : callbackExecutor;
 
+    if (executor == null) {
+      return new PassThroughCallAdapter(responseType);
+    }
     return new CallAdapter<Object, Call<?>>() {
       @Override
       public Type responseType() {
@@ -57,11 +60,38 @@ final class DefaultCallAdapterFactory extends CallAdapter.Factory {
 
       @Override
       public Call<Object> adapt(Call<Object> call) {
-        return executor == null ? call : new ExecutorCallbackCall<>(executor, call);
+        return new ExecutorCallbackCall<>(executor, call);
       }
     };
   }
 
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
+  /**
+   * Returns calls unchanged. Suspend functions whose adapter is this one need no {@link Call} at
+   * all and are executed directly by {@link HttpServiceMethod.SuspendDirect}.
+   */
+  static final class PassThroughCallAdapter implements CallAdapter<Object, Call<?>> {
+    private final Type responseType;
+
+    PassThroughCallAdapter(Type responseType) {
+      this.responseType = responseType;
+    }
+
+    @Override
+    public Type responseType() {
+      return responseType;
+    }
+
+    @Override
+    public Call<Object> adapt(Call<Object> call) {
+      return call;
+    }
+  }
+
   static final class ExecutorCallbackCall<T> implements Call<T> {
     final Executor callbackExecutor;
     final Call<T> delegate;
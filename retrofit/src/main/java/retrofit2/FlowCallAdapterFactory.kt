@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2
+
+import java.io.Closeable
+import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Type
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.buffer
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.launch
+
+/**
+ * Adapts `Flow<T>` and `Flow<Response<T>>` return types. Nothing is sent until the flow is
+ * collected, and each collection sends a new request.
+ *
+ * `Flow<T>` emits the elements of the response body as they are decoded. Its converter is created
+ * for `Iterator<T>` and is expected to decode lazily, reading only as far into the body as each
+ * call to `next()` requires. Elements are read on [Dispatchers.IO] at most one element ahead of
+ * the collector, so a slow collector suspends reading. A non-2xx response fails the flow with
+ * [HttpException].
+ *
+ * `Flow<Response<T>>` emits a single [Response] whose body is converted as a whole.
+ *
+ * Canceling the collector cancels the HTTP call, including while an element is being read.
+ */
+internal class FlowCallAdapterFactory : CallAdapter.Factory() {
+  override fun get(
+    returnType: Type,
+    annotations: Array<Annotation>,
+    retrofit: Retrofit,
+  ): CallAdapter<*, *>? {
+    if (getRawType(returnType) != Flow::class.java) {
+      return null
+    }
+    check(returnType is ParameterizedType) {
+      "Flow return type must be parameterized as Flow<Foo> or Flow<out Foo>"
+    }
+    val flowType = getParameterUpperBound(0, returnType)
+    if (getRawType(flowType) != Response::class.java) {
+      return ElementsCallAdapter<Any?>(flowType)
+    }
+    check(flowType is ParameterizedType) {
+      "Response must be parameterized as Response<Foo> or Response<out Foo>"
+    }
+    return ResponseCallAdapter<Any?>(getParameterUpperBound(0, flowType))
+  }
+
+  override fun isCacheable() = true
+
+  private class ElementsCallAdapter<T>(elementType: Type) :
+    CallAdapter<Iterator<T>, Flow<T>> {
+    private val responseType = Utils.ParameterizedTypeImpl(null, Iterator::class.java, elementType)
+
+    override fun responseType(): Type = responseType
+
+    override fun adapt(call: Call<Iterator<T>>): Flow<T> {
+      return flow {
+          val newCall = call.clone()
+          val response = newCall.awaitResponse()
+          if (!response.isSuccessful) throw HttpException(response)
+          val elements = response.body() ?: return@flow
+
+          coroutineScope {
+            var exhausted = false
+            // Reads block the thread rather than suspend so canceling the call is what stops them.
+            val canceler =
+              launch(start = CoroutineStart.UNDISPATCHED) {
+                try {
+                  awaitCancellation()
+                } finally {
+                  if (!exhausted) newCall.cancel()
+                }
+              }
+            try {
+              while (elements.hasNext()) {
+                emit(elements.next())
+              }
+              exhausted = true
+            } finally {
+              (elements as? Closeable)?.close()
+              canceler.cancel()
+            }
+          }
+        }
+        // Without a rendezvous buffer flowOn reads up to 64 elements ahead of the collector.
+        .buffer(Channel.RENDEZVOUS)
+        .flowOn(Dispatchers.IO)
+    }
+  }
+
+  private class ResponseCallAdapter<T>(private val responseType: Type) :
+    CallAdapter<T, Flow<Response<T>>> {
+    override fun responseType() = responseType
+
+    override fun adapt(call: Call<T>): Flow<Response<T>> {
+      return flow { emit(call.clone().awaitResponse()) }
+    }
+  }
+}
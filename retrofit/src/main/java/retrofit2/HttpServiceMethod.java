@@ -22,9 +22,13 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import kotlin.Unit;
 import kotlin.coroutines.Continuation;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
 
 /** Adapts an invocation of an interface method into an HTTP call. */
@@ -34,7 +38,7 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
    * speaks HTTP. This requires potentially-expensive reflection so it is best to build each service
    * method only once and reuse it.
    */
-  static <ResponseT, ReturnT> HttpServiceMethod<ResponseT, ReturnT> parseAnnotations(
+  static <ResponseT, ReturnT> ServiceMethod<ReturnT> parseAnnotations(
       Retrofit retrofit, Method method, RequestFactory requestFactory) {
     boolean isKotlinSuspendFunction = requestFactory.isKotlinSuspendFunction;
     boolean continuationWantsResponse = false;
@@ -96,24 +100,65 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
     Converter<ResponseBody, ResponseT> responseConverter =
         createResponseConverter(retrofit, method, responseType);
 
+    Executor conversionExecutor = retrofit.conversionExecutor;
+    Object conversionDispatcher = retrofit.conversionDispatcher;
+    ConversionExecutor conversionAnnotation = method.getAnnotation(ConversionExecutor.class);
+    if (conversionAnnotation != null) {
+      conversionExecutor = retrofit.conversionExecutors.get(conversionAnnotation.value());
+      if (conversionExecutor == null) {
+        throw methodError(
+            method,
+            "No conversion executor named \"%s\" was registered with the Retrofit.Builder.",
+            conversionAnnotation.value());
+      }
+      conversionDispatcher = null; // The method's executor takes precedence.
+    }
+
     okhttp3.Call.Factory callFactory = retrofit.callFactory;
+    if (requestFactory.readTimeoutNanos != 0 && callFactory instanceof OkHttpClient) {
+      // Read timeouts are a property of the client. A derived client shares the connection pool
+      // and dispatcher of the original.
+      callFactory =
+          ((OkHttpClient) callFactory)
+              .newBuilder()
+              .readTimeout(requestFactory.readTimeoutNanos, TimeUnit.NANOSECONDS)
+              .build();
+    }
     if (!isKotlinSuspendFunction) {
-      return new CallAdapted<>(requestFactory, callFactory, responseConverter, callAdapter);
+      return new CallAdapted<>(
+          requestFactory, callFactory, responseConverter, conversionExecutor, callAdapter);
+    } else if (callAdapter instanceof DefaultCallAdapterFactory.PassThroughCallAdapter) {
+      // Nothing decorates the Call so drive the OkHttp call from the coroutine directly.
+      if (conversionDispatcher == null && conversionExecutor != null) {
+        conversionDispatcher = KotlinExtensions.asConversionDispatcher(conversionExecutor);
+      }
+      //noinspection unchecked Kotlin compiler guarantees ReturnT to be Object.
+      return (ServiceMethod<ReturnT>)
+          new SuspendDirect<>(
+              requestFactory,
+              callFactory,
+              responseConverter,
+              conversionDispatcher,
+              continuationWantsResponse,
+              continuationBodyNullable,
+              continuationIsUnit);
     } else if (continuationWantsResponse) {
       //noinspection unchecked Kotlin compiler guarantees ReturnT to be Object.
-      return (HttpServiceMethod<ResponseT, ReturnT>)
+      return (ServiceMethod<ReturnT>)
           new SuspendForResponse<>(
               requestFactory,
               callFactory,
               responseConverter,
+              conversionExecutor,
               (CallAdapter<ResponseT, Call<ResponseT>>) callAdapter);
     } else {
       //noinspection unchecked Kotlin compiler guarantees ReturnT to be Object.
-      return (HttpServiceMethod<ResponseT, ReturnT>)
+      return (ServiceMethod<ReturnT>)
           new SuspendForBody<>(
               requestFactory,
               callFactory,
               responseConverter,
+              conversionExecutor,
               (CallAdapter<ResponseT, Call<ResponseT>>) callAdapter,
               continuationBodyNullable,
               continuationIsUnit);
@@ -143,20 +188,31 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
   private final RequestFactory requestFactory;
   private final okhttp3.Call.Factory callFactory;
   private final Converter<ResponseBody, ResponseT> responseConverter;
+  private final @Nullable Executor conversionExecutor;
 
   HttpServiceMethod(
       RequestFactory requestFactory,
       okhttp3.Call.Factory callFactory,
-      Converter<ResponseBody, ResponseT> responseConverter) {
+      Converter<ResponseBody, ResponseT> responseConverter,
+      @Nullable Executor conversionExecutor) {
     this.requestFactory = requestFactory;
     this.callFactory = callFactory;
     this.responseConverter = responseConverter;
+    this.conversionExecutor = conversionExecutor;
   }
 
   @Override
-  final @Nullable ReturnT invoke(Object instance, Object[] args) {
+  final @Nullable ReturnT invoke(HttpUrl baseUrl, Object instance, Object[] args) {
     Call<ResponseT> call =
-        new OkHttpCall<>(requestFactory, instance, args, callFactory, responseConverter);
+        new OkHttpCall<>(
+            requestFactory,
+            baseUrl,
+            instance,
+            args,
+            callFactory,
+            responseConverter,
+            conversionExecutor,
+            Deadline.current());
     return adapt(call, args);
   }
 
@@ -169,8 +225,9 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
         RequestFactory requestFactory,
         okhttp3.Call.Factory callFactory,
         Converter<ResponseBody, ResponseT> responseConverter,
+        @Nullable Executor conversionExecutor,
         CallAdapter<ResponseT, ReturnT> callAdapter) {
-      super(requestFactory, callFactory, responseConverter);
+      super(requestFactory, callFactory, responseConverter, conversionExecutor);
       this.callAdapter = callAdapter;
     }
 
@@ -187,8 +244,9 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
         RequestFactory requestFactory,
         okhttp3.Call.Factory callFactory,
         Converter<ResponseBody, ResponseT> responseConverter,
+        @Nullable Executor conversionExecutor,
         CallAdapter<ResponseT, Call<ResponseT>> callAdapter) {
-      super(requestFactory, callFactory, responseConverter);
+      super(requestFactory, callFactory, responseConverter, conversionExecutor);
       this.callAdapter = callAdapter;
     }
 
@@ -218,10 +276,11 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
         RequestFactory requestFactory,
         okhttp3.Call.Factory callFactory,
         Converter<ResponseBody, ResponseT> responseConverter,
+        @Nullable Executor conversionExecutor,
         CallAdapter<ResponseT, Call<ResponseT>> callAdapter,
         boolean isNullable,
         boolean isUnit) {
-      super(requestFactory, callFactory, responseConverter);
+      super(requestFactory, callFactory, responseConverter, conversionExecutor);
       this.callAdapter = callAdapter;
       this.isNullable = isNullable;
       this.isUnit = isUnit;
@@ -259,4 +318,62 @@ abstract class HttpServiceMethod<ResponseT, ReturnT> extends ServiceMethod<Retur
       }
     }
   }
+
+  /**
+   * Executes a suspend function without a {@link Call} or {@link Callback}. The OkHttp call is
+   * enqueued from the coroutine and canceled with it, and its response is converted either on the
+   * HTTP client's thread or on the configured conversion dispatcher.
+   */
+  static final class SuspendDirect<ResponseT> extends ServiceMethod<Object> {
+    private final RequestFactory requestFactory;
+    private final okhttp3.Call.Factory callFactory;
+    private final Converter<ResponseBody, ResponseT> responseConverter;
+    private final @Nullable Object conversionDispatcher;
+    private final boolean wantsResponse;
+    private final boolean isNullable;
+    private final boolean isUnit;
+
+    SuspendDirect(
+        RequestFactory requestFactory,
+        okhttp3.Call.Factory callFactory,
+        Converter<ResponseBody, ResponseT> responseConverter,
+        @Nullable Object conversionDispatcher,
+        boolean wantsResponse,
+        boolean isNullable,
+        boolean isUnit) {
+      this.requestFactory = requestFactory;
+      this.callFactory = callFactory;
+      this.responseConverter = responseConverter;
+      this.conversionDispatcher = conversionDispatcher;
+      this.wantsResponse = wantsResponse;
+      this.isNullable = isNullable;
+      this.isUnit = isUnit;
+    }
+
+    @Override
+    @Nullable
+    Object invoke(HttpUrl baseUrl, Object instance, Object[] args) {
+      //noinspection unchecked Checked by reflection inside RequestFactory.
+      Continuation<Object> continuation = (Continuation<Object>) args[args.length - 1];
+
+      // See SuspendForBody for explanation about this try/catch.
+      try {
+        okhttp3.Call call =
+            OkHttpCall.createRawCall(requestFactory, baseUrl, instance, args, callFactory);
+        OkHttpCall.applyDeadline(null, call);
+        return KotlinExtensions.awaitDirect(
+            call,
+            responseConverter,
+            conversionDispatcher,
+            wantsResponse,
+            isNullable,
+            isUnit,
+            continuation);
+      } catch (VirtualMachineError | ThreadDeath | LinkageError e) {
+        throw e;
+      } catch (Throwable e) {
+        return KotlinExtensions.suspendAndThrow(e, continuation);
+      }
+    }
+  }
 }
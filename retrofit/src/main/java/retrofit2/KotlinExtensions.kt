@@ -18,16 +18,36 @@
 
 package retrofit2
 
+import java.io.IOException
+import java.util.concurrent.Executor
 import kotlin.coroutines.intrinsics.COROUTINE_SUSPENDED
 import kotlin.coroutines.intrinsics.intercepted
 import kotlin.coroutines.intrinsics.suspendCoroutineUninterceptedOrReturn
 import kotlin.coroutines.resume
 import kotlin.coroutines.resumeWithException
+import kotlinx.coroutines.CancellableContinuation
+import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.asCoroutineDispatcher
 import kotlinx.coroutines.suspendCancellableCoroutine
+import okhttp3.ResponseBody
 
 inline fun <reified T : Any> Retrofit.create(): T = create(T::class.java)
 
+/**
+ * Convert the response bodies of suspend functions on [dispatcher] instead of on the HTTP client's
+ * thread. Use this when decoding is expensive enough to hold up the client's other calls.
+ *
+ * Only suspend functions whose `Call` is not decorated by a
+ * [call adapter][Retrofit.Builder.addCallAdapterFactory] are affected. For those functions this
+ * takes precedence over [Retrofit.Builder.conversionExecutor], but not over a method's
+ * [ConversionExecutor] annotation.
+ */
+fun Retrofit.Builder.conversionDispatcher(dispatcher: CoroutineDispatcher): Retrofit.Builder {
+  conversionDispatcher = dispatcher
+  return this
+}
+
 suspend fun <T : Any> Call<T>.await(): T {
   return suspendCancellableCoroutine { continuation ->
     continuation.invokeOnCancellation { cancel() }
@@ -106,6 +126,123 @@ suspend fun <T> Call<T>.awaitResponse(): Response<T> {
   }
 }
 
+/** Wraps a conversion executor for use by [awaitDirect]. */
+internal fun asConversionDispatcher(executor: Executor): Any = executor.asCoroutineDispatcher()
+
+/**
+ * Execute [call] and resume with its converted body, or with its [Response] when [wantsResponse].
+ * Unlike [await] there is no [Call] or [Callback], and canceling the coroutine cancels [call].
+ */
+internal suspend fun <T> awaitDirect(
+  call: okhttp3.Call,
+  responseConverter: Converter<ResponseBody, T>,
+  conversionDispatcher: Any?,
+  wantsResponse: Boolean,
+  isNullable: Boolean,
+  isUnit: Boolean,
+): Any? {
+  return suspendCancellableCoroutine { continuation ->
+    val callback =
+      DirectCallback(
+        continuation,
+        call,
+        responseConverter,
+        conversionDispatcher as CoroutineDispatcher?,
+        wantsResponse,
+        isNullable,
+        isUnit,
+      )
+    continuation.invokeOnCancellation(callback)
+    call.enqueue(callback)
+  }
+}
+
+/**
+ * A single object which receives the OkHttp response, converts it (possibly after hopping to the
+ * conversion dispatcher), and cancels the OkHttp call when the coroutine is canceled.
+ */
+private class DirectCallback<T>(
+  private val continuation: CancellableContinuation<Any?>,
+  private val call: okhttp3.Call,
+  private val responseConverter: Converter<ResponseBody, T>,
+  private val conversionDispatcher: CoroutineDispatcher?,
+  private val wantsResponse: Boolean,
+  private val isNullable: Boolean,
+  private val isUnit: Boolean,
+) : okhttp3.Callback, Runnable, (Throwable?) -> Unit {
+  /** Handed from [onResponse] to [run]. The dispatcher's hand-off makes it visible. */
+  private var rawResponse: okhttp3.Response? = null
+
+  override fun onResponse(call: okhttp3.Call, response: okhttp3.Response) {
+    val dispatcher = conversionDispatcher
+    if (dispatcher == null) {
+      complete(response)
+      return
+    }
+    rawResponse = response
+    try {
+      dispatcher.dispatch(continuation.context, this)
+    } catch (t: Throwable) {
+      Utils.throwIfFatal(t)
+      response.close()
+      continuation.resumeWithException(t)
+    }
+  }
+
+  override fun onFailure(call: okhttp3.Call, e: IOException) {
+    continuation.resumeWithException(e)
+  }
+
+  override fun run() {
+    val response = rawResponse!!
+    rawResponse = null
+    if (!continuation.isActive) {
+      response.close() // Canceled while waiting for the dispatcher.
+      return
+    }
+    complete(response)
+  }
+
+  /** Invoked when the coroutine is canceled. */
+  override fun invoke(cause: Throwable?) {
+    call.cancel()
+  }
+
+  private fun complete(rawResponse: okhttp3.Response) {
+    val response: Response<T>
+    try {
+      response = OkHttpCall.parseResponse(rawResponse, responseConverter)
+    } catch (t: Throwable) {
+      Utils.throwIfFatal(t)
+      continuation.resumeWithException(t)
+      return
+    }
+
+    if (wantsResponse) {
+      continuation.resume(response)
+    } else if (!response.isSuccessful) {
+      continuation.resumeWithException(HttpException(response))
+    } else if (isUnit) {
+      continuation.resume(Unit)
+    } else {
+      val body = response.body()
+      if (body == null && !isNullable) {
+        val invocation = rawResponse.request().tag(Invocation::class.java)!!
+        val service = invocation.service()
+        val method = invocation.method()
+        val e =
+          KotlinNullPointerException(
+            "Response from ${service.name}.${method.name}" +
+              " was null but response body type was declared as non-null"
+          )
+        continuation.resumeWithException(e)
+      } else {
+        continuation.resume(body)
+      }
+    }
+  }
+}
+
 /**
  * Force the calling coroutine to suspend before throwing [this].
  *
@@ -18,9 +18,14 @@ package retrofit2;
 import static retrofit2.Utils.throwIfFatal;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.ResponseBody;
@@ -32,10 +37,13 @@ import okio.Timeout;
 
 final class OkHttpCall<T> implements Call<T> {
   private final RequestFactory requestFactory;
+  private final HttpUrl baseUrl;
   private final Object instance;
   private final Object[] args;
   private final okhttp3.Call.Factory callFactory;
   private final Converter<ResponseBody, T> responseConverter;
+  private final @Nullable Executor conversionExecutor;
+  private final @Nullable Deadline deadline;
 
   private volatile boolean canceled;
 
@@ -50,21 +58,35 @@ final class OkHttpCall<T> implements Call<T> {
 
   OkHttpCall(
       RequestFactory requestFactory,
+      HttpUrl baseUrl,
       Object instance,
       Object[] args,
       okhttp3.Call.Factory callFactory,
-      Converter<ResponseBody, T> responseConverter) {
+      Converter<ResponseBody, T> responseConverter,
+      @Nullable Executor conversionExecutor,
+      @Nullable Deadline deadline) {
     this.requestFactory = requestFactory;
+    this.baseUrl = baseUrl;
     this.instance = instance;
     this.args = args;
     this.callFactory = callFactory;
     this.responseConverter = responseConverter;
+    this.conversionExecutor = conversionExecutor;
+    this.deadline = deadline;
   }
 
   @SuppressWarnings("CloneDoesntCallSuperClone") // We are a final type & this saves clearing state.
   @Override
   public OkHttpCall<T> clone() {
-    return new OkHttpCall<>(requestFactory, instance, args, callFactory, responseConverter);
+    return new OkHttpCall<>(
+        requestFactory,
+        baseUrl,
+        instance,
+        args,
+        callFactory,
+        responseConverter,
+        conversionExecutor,
+        deadline);
   }
 
   @Override
@@ -136,6 +158,13 @@ final class OkHttpCall<T> implements Call<T> {
           failure = creationFailure = t;
         }
       }
+      if (failure == null) {
+        try {
+          applyDeadline(deadline, call);
+        } catch (InterruptedIOException e) {
+          failure = e;
+        }
+      }
     }
 
     if (failure != null) {
@@ -151,6 +180,21 @@ final class OkHttpCall<T> implements Call<T> {
         new okhttp3.Callback() {
           @Override
           public void onResponse(okhttp3.Call call, okhttp3.Response rawResponse) {
+            Executor executor = conversionExecutor;
+            if (executor == null) {
+              convertAndDeliver(rawResponse);
+              return;
+            }
+            // Free the HTTP client's thread. The converter reads the body as it decodes.
+            try {
+              executor.execute(() -> convertAndDeliver(rawResponse));
+            } catch (RejectedExecutionException e) {
+              rawResponse.close();
+              callFailure(e);
+            }
+          }
+
+          private void convertAndDeliver(okhttp3.Response rawResponse) {
             Response<T> response;
             try {
               response = parseResponse(rawResponse);
@@ -198,6 +242,7 @@ final class OkHttpCall<T> implements Call<T> {
       executed = true;
 
       call = getRawCall();
+      applyDeadline(deadline, call);
     }
 
     if (canceled) {
@@ -208,14 +253,59 @@ final class OkHttpCall<T> implements Call<T> {
   }
 
   private okhttp3.Call createRawCall() throws IOException {
-    okhttp3.Call call = callFactory.newCall(requestFactory.create(instance, args));
+    return createRawCall(requestFactory, baseUrl, instance, args, callFactory);
+  }
+
+  static okhttp3.Call createRawCall(
+      RequestFactory requestFactory,
+      HttpUrl baseUrl,
+      Object instance,
+      Object[] args,
+      okhttp3.Call.Factory callFactory)
+      throws IOException {
+    okhttp3.Call call = callFactory.newCall(requestFactory.create(baseUrl, instance, args));
     if (call == null) {
       throw new NullPointerException("Call.Factory returned null.");
     }
+    applyTimeout(requestFactory, call);
     return call;
   }
 
+  /** Applies the method's {@code @Timeout}, which replaces the client's call timeout. */
+  private static void applyTimeout(RequestFactory requestFactory, okhttp3.Call call) {
+    if (requestFactory.callTimeoutNanos != 0) {
+      call.timeout().timeout(requestFactory.callTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Shortens the timeout of {@code call} to fit the earlier of {@code deadline} and the current
+   * {@link Deadline}. This is deferred until the call is executed or enqueued so that the time
+   * spent between creating a call and starting it counts against the deadline.
+   */
+  static void applyDeadline(@Nullable Deadline deadline, okhttp3.Call call)
+      throws InterruptedIOException {
+    Deadline effective = Deadline.withinCurrent(deadline);
+    if (effective == null) return;
+
+    long remainingNanos = effective.remainingNanos();
+    if (remainingNanos <= 0) {
+      throw new InterruptedIOException("deadline exceeded");
+    }
+    Timeout timeout = call.timeout();
+    long timeoutNanos = timeout.timeoutNanos();
+    if (timeoutNanos == 0 || remainingNanos < timeoutNanos) {
+      timeout.timeout(remainingNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
   Response<T> parseResponse(okhttp3.Response rawResponse) throws IOException {
+    return parseResponse(rawResponse, responseConverter);
+  }
+
+  static <T> Response<T> parseResponse(
+      okhttp3.Response rawResponse, Converter<ResponseBody, T> responseConverter)
+      throws IOException {
     ResponseBody rawBody = rawResponse.body();
 
     // Remove the body's source (the only stateful object) so we can pass the response along.
@@ -56,6 +56,11 @@ public final class OptionalConverterFactory extends Converter.Factory {
     return new OptionalConverter<>(delegate);
   }
 
+  @Override
+  public boolean isCacheable() {
+    return true;
+  }
+
   @IgnoreJRERequirement
   static final class OptionalConverter<T> implements Converter<ResponseBody, Optional<T>> {
     private final Converter<ResponseBody, T> delegate;
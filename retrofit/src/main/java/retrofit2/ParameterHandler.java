@@ -454,5 +454,9 @@ abstract class ParameterHandler<T> {
     void apply(RequestBuilder builder, @Nullable T value) {
       builder.addTag(cls, value);
     }
+
+    void apply(okhttp3.Request.Builder builder, @Nullable T value) {
+      builder.tag(cls, value);
+    }
   }
 }
@@ -56,7 +56,8 @@ final class RequestBuilder {
   private @Nullable HttpUrl.Builder urlBuilder;
 
   private final Request.Builder requestBuilder;
-  private final Headers.Builder headersBuilder;
+  private final @Nullable Headers headers;
+  private @Nullable Headers.Builder headersBuilder; // Lazily copied from headers on first add.
   private @Nullable MediaType contentType;
 
   private final boolean hasBody;
@@ -77,15 +78,10 @@ final class RequestBuilder {
     this.baseUrl = baseUrl;
     this.relativeUrl = relativeUrl;
     this.requestBuilder = new Request.Builder();
+    this.headers = headers;
     this.contentType = contentType;
     this.hasBody = hasBody;
 
-    if (headers != null) {
-      headersBuilder = headers.newBuilder();
-    } else {
-      headersBuilder = new Headers.Builder();
-    }
-
     if (isFormEncoded) {
       // Will be set to 'body' in 'build'.
       formBuilder = new FormBody.Builder();
@@ -108,14 +104,28 @@ final class RequestBuilder {
         throw new IllegalArgumentException("Malformed content type: " + value, e);
       }
     } else if (allowUnsafeNonAsciiValues) {
-      headersBuilder.addUnsafeNonAscii(name, value);
+      headersBuilder().addUnsafeNonAscii(name, value);
     } else {
-      headersBuilder.add(name, value);
+      headersBuilder().add(name, value);
     }
   }
 
   void addHeaders(Headers headers) {
-    headersBuilder.addAll(headers);
+    if (headers.size() == 0) return;
+    headersBuilder().addAll(headers);
+  }
+
+  /**
+   * Returns a builder seeded with the static headers. This is only created once a dynamic header
+   * is added so that requests without them can use the static {@link Headers} as-is.
+   */
+  private Headers.Builder headersBuilder() {
+    Headers.Builder headersBuilder = this.headersBuilder;
+    if (headersBuilder == null) {
+      headersBuilder = headers != null ? headers.newBuilder() : new Headers.Builder();
+      this.headersBuilder = headersBuilder;
+    }
+    return headersBuilder;
   }
 
   void addPathParam(String name, String value, boolean encoded) {
@@ -264,11 +274,17 @@ final class RequestBuilder {
       if (body != null) {
         body = new ContentTypeOverridingRequestBody(body, contentType);
       } else {
-        headersBuilder.add("Content-Type", contentType.toString());
+        headersBuilder().add("Content-Type", contentType.toString());
       }
     }
 
-    return requestBuilder.url(url).headers(headersBuilder.build()).method(method, body);
+    Headers.Builder headersBuilder = this.headersBuilder;
+    if (headersBuilder != null) {
+      requestBuilder.headers(headersBuilder.build());
+    } else if (headers != null) {
+      requestBuilder.headers(headers);
+    }
+    return requestBuilder.url(url).method(method, body);
   }
 
   private static class ContentTypeOverridingRequestBody extends RequestBody {
@@ -69,6 +69,7 @@ final class RequestFactory {
 
   private final Class<?> service;
   private final Method method;
+  /** The base URL of the instance which parsed this method, used by {@link #constantRequest}. */
   private final HttpUrl baseUrl;
   final String httpMethod;
   private final @Nullable String relativeUrl;
@@ -79,6 +80,26 @@ final class RequestFactory {
   private final boolean isMultipart;
   private final ParameterHandler<?>[] parameterHandlers;
   final boolean isKotlinSuspendFunction;
+  /** The {@link retrofit2.http.Timeout @Timeout} call timeout, or 0 for the call factory's. */
+  final long callTimeoutNanos;
+  /** The {@link retrofit2.http.Timeout @Timeout} read timeout, or 0 for the call factory's. */
+  final long readTimeoutNanos;
+
+  /** True if no parameter influences the URL, headers, or body of the request. */
+  private final boolean isConstant;
+
+  /**
+   * The request against {@link #baseUrl} built once at parse time when it is {@linkplain
+   * #isConstant constant}. Only the {@link Invocation} and any {@link Tag @Tag} values are added on
+   * each call.
+   */
+  private final @Nullable okhttp3.Request constantRequest;
+
+  /**
+   * The constant request against the base URL of the {@linkplain Retrofit#withBaseUrl(HttpUrl)
+   * derived instance} which most recently invoked this method.
+   */
+  private volatile @Nullable DerivedRequest derivedRequest;
 
   RequestFactory(Builder builder) {
     service = builder.service;
@@ -93,9 +114,70 @@ final class RequestFactory {
     isMultipart = builder.isMultipart;
     parameterHandlers = builder.parameterHandlers;
     isKotlinSuspendFunction = builder.isKotlinSuspendFunction;
+    callTimeoutNanos = builder.callTimeoutNanos;
+    readTimeoutNanos = builder.readTimeoutNanos;
+    isConstant = isConstant(parameterHandlers);
+    constantRequest = isConstant ? createConstantRequest(baseUrl) : null;
+  }
+
+  private static boolean isConstant(ParameterHandler<?>[] parameterHandlers) {
+    for (ParameterHandler<?> handler : parameterHandlers) {
+      // A null handler is the Continuation of a suspend function and does not affect the request.
+      if (handler != null && !(handler instanceof ParameterHandler.Tag)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private @Nullable okhttp3.Request createConstantRequest(HttpUrl baseUrl) {
+    try {
+      return newRequestBuilder(baseUrl).get().build();
+    } catch (IllegalArgumentException e) {
+      // Malformed URLs are reported on each invocation, the same as non-constant requests.
+      return null;
+    }
+  }
+
+  /**
+   * Returns the prebuilt request against {@code baseUrl}, or null if the request depends on its
+   * arguments or its URL is malformed.
+   */
+  private @Nullable okhttp3.Request constantRequest(HttpUrl baseUrl) {
+    if (!isConstant) return null;
+    if (baseUrl.equals(this.baseUrl)) return constantRequest;
+
+    DerivedRequest derived = derivedRequest;
+    if (derived != null && derived.baseUrl.equals(baseUrl)) return derived.request;
+    okhttp3.Request request = createConstantRequest(baseUrl);
+    if (request != null) {
+      derivedRequest = new DerivedRequest(baseUrl, request);
+    }
+    return request;
+  }
+
+  private RequestBuilder newRequestBuilder(HttpUrl baseUrl) {
+    return new RequestBuilder(
+        httpMethod,
+        baseUrl,
+        relativeUrl,
+        headers,
+        contentType,
+        hasBody,
+        isFormEncoded,
+        isMultipart);
   }
 
   okhttp3.Request create(@Nullable Object instance, Object[] args) throws IOException {
+    return create(baseUrl, instance, args);
+  }
+
+  /**
+   * Create a request against {@code baseUrl}, which differs from the base URL used for parsing when
+   * this method is shared by {@linkplain Retrofit#withBaseUrl(HttpUrl) derived instances}.
+   */
+  okhttp3.Request create(HttpUrl baseUrl, @Nullable Object instance, Object[] args)
+      throws IOException {
     @SuppressWarnings("unchecked") // It is an error to invoke a method with the wrong arg types.
     ParameterHandler<Object>[] handlers = (ParameterHandler<Object>[]) parameterHandlers;
 
@@ -109,34 +191,45 @@ final class RequestFactory {
               + ")");
     }
 
-    RequestBuilder requestBuilder =
-        new RequestBuilder(
-            httpMethod,
-            baseUrl,
-            relativeUrl,
-            headers,
-            contentType,
-            hasBody,
-            isFormEncoded,
-            isMultipart);
-
     if (isKotlinSuspendFunction) {
       // The Continuation is the last parameter and the handlers array contains null at that index.
       argumentCount--;
     }
 
     List<Object> argumentList = new ArrayList<>(argumentCount);
-    for (int p = 0; p < argumentCount; p++) {
-      argumentList.add(args[p]);
-      handlers[p].apply(requestBuilder, args[p]);
+    okhttp3.Request.Builder builder;
+    okhttp3.Request constantRequest = constantRequest(baseUrl);
+    if (constantRequest != null) {
+      // Every handler is a @Tag which can be applied without rebuilding the request.
+      builder = constantRequest.newBuilder();
+      for (int p = 0; p < argumentCount; p++) {
+        argumentList.add(args[p]);
+        ((ParameterHandler.Tag<Object>) handlers[p]).apply(builder, args[p]);
+      }
+    } else {
+      RequestBuilder requestBuilder = newRequestBuilder(baseUrl);
+      for (int p = 0; p < argumentCount; p++) {
+        argumentList.add(args[p]);
+        handlers[p].apply(requestBuilder, args[p]);
+      }
+      builder = requestBuilder.get();
     }
 
-    return requestBuilder
-        .get()
+    return builder
         .tag(Invocation.class, new Invocation(service, instance, method, argumentList, relativeUrl))
         .build();
   }
 
+  private static final class DerivedRequest {
+    final HttpUrl baseUrl;
+    final okhttp3.Request request;
+
+    DerivedRequest(HttpUrl baseUrl, okhttp3.Request request) {
+      this.baseUrl = baseUrl;
+      this.request = request;
+    }
+  }
+
   /**
    * Inspects the annotations on an interface method to construct a reusable service method. This
    * requires potentially-expensive reflection so it is best to build each service method only once
@@ -173,6 +266,8 @@ final class RequestFactory {
     @Nullable Set<String> relativeUrlParamNames;
     @Nullable ParameterHandler<?>[] parameterHandlers;
     boolean isKotlinSuspendFunction;
+    long callTimeoutNanos;
+    long readTimeoutNanos;
 
     Builder(Retrofit retrofit, Class<?> service, Method method) {
       this.retrofit = retrofit;
@@ -264,6 +359,13 @@ final class RequestFactory {
           throw methodError(method, "Only one encoding annotation is allowed.");
         }
         isFormEncoded = true;
+      } else if (annotation instanceof retrofit2.http.Timeout) {
+        retrofit2.http.Timeout timeout = (retrofit2.http.Timeout) annotation;
+        if (timeout.call() < 0 || timeout.read() < 0) {
+          throw methodError(method, "@Timeout values must not be negative.");
+        }
+        callTimeoutNanos = timeout.unit().toNanos(timeout.call());
+        readTimeoutNanos = timeout.unit().toNanos(timeout.read());
       }
     }
 
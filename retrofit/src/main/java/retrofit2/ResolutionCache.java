@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Converters and call adapters which were resolved by chains of {@linkplain
+ * Converter.Factory#isCacheable() cacheable} factories, so that methods with equal types and
+ * annotations share them.
+ *
+ * <p>A resolution is only cacheable if every factory it consulted is cacheable, including those
+ * consulted by nested resolutions which a delegating factory makes through {@link Retrofit}. The
+ * innermost resolution in progress on each thread is tracked so that a nested resolution which was
+ * not cacheable prevents its callers from being cached too.
+ */
+final class ResolutionCache {
+  static final int CALL_ADAPTER = 0;
+  static final int REQUEST_BODY_CONVERTER = 1;
+  static final int RESPONSE_BODY_CONVERTER = 2;
+  static final int STRING_CONVERTER = 3;
+
+  private static final Object[] NO_ANNOTATIONS = new Object[0];
+
+  private final ConcurrentHashMap<Key, Object> cache = new ConcurrentHashMap<>();
+  private final ThreadLocal<Resolution> current = new ThreadLocal<>();
+
+  static Key key(
+      int kind,
+      @Nullable Object skipPast,
+      Type type,
+      Annotation[] annotations,
+      @Nullable Annotation[] methodAnnotations) {
+    return new Key(
+        kind,
+        skipPast,
+        type,
+        normalize(annotations),
+        methodAnnotations != null ? normalize(methodAnnotations) : NO_ANNOTATIONS);
+  }
+
+  /**
+   * Replaces Retrofit's own annotations with their types. Their values, such as paths and
+   * parameter names, differ between nearly every method but cacheable factories may not use them.
+   */
+  private static Object[] normalize(Annotation[] annotations) {
+    if (annotations.length == 0) return NO_ANNOTATIONS;
+    Object[] result = new Object[annotations.length];
+    for (int i = 0; i < annotations.length; i++) {
+      Annotation annotation = annotations[i];
+      Class<? extends Annotation> annotationType = annotation.annotationType();
+      result[i] =
+          annotationType.getName().startsWith("retrofit2.http.") ? annotationType : annotation;
+    }
+    return result;
+  }
+
+  @Nullable
+  Object get(Key key) {
+    return cache.get(key);
+  }
+
+  /** Begins a resolution on the calling thread. It must be passed to {@link #end}. */
+  Resolution begin() {
+    Resolution resolution = new Resolution(current.get());
+    current.set(resolution);
+    return resolution;
+  }
+
+  /**
+   * Ends {@code resolution}, caching {@code result} if it is non-null and the resolution was
+   * cacheable.
+   */
+  void end(Resolution resolution, Key key, @Nullable Object result) {
+    Resolution parent = resolution.parent;
+    if (parent != null) {
+      current.set(parent);
+      if (!resolution.cacheable) {
+        parent.cacheable = false;
+      }
+    } else {
+      current.remove();
+    }
+    if (result != null && resolution.cacheable) {
+      cache.put(key, result);
+    }
+  }
+
+  static final class Resolution {
+    final @Nullable Resolution parent;
+    boolean cacheable = true;
+
+    Resolution(@Nullable Resolution parent) {
+      this.parent = parent;
+    }
+  }
+
+  static final class Key {
+    private final int kind;
+    private final @Nullable Object skipPast;
+    private final Type type;
+    private final Object[] annotations;
+    private final Object[] methodAnnotations;
+    private final int hashCode;
+
+    Key(
+        int kind,
+        @Nullable Object skipPast,
+        Type type,
+        Object[] annotations,
+        Object[] methodAnnotations) {
+      this.kind = kind;
+      this.skipPast = skipPast;
+      this.type = type;
+      this.annotations = annotations;
+      this.methodAnnotations = methodAnnotations;
+      int result = kind;
+      result = 31 * result + System.identityHashCode(skipPast);
+      result = 31 * result + rawTypeHash(type);
+      result = 31 * result + Arrays.hashCode(annotations);
+      result = 31 * result + Arrays.hashCode(methodAnnotations);
+      this.hashCode = result;
+    }
+
+    /**
+     * Hashes only the raw type. {@link Type} implementations are not required to agree on hash
+     * codes, but they are compared with {@link Utils#equals(Type, Type)} which only needs them to
+     * implement the reflection interfaces.
+     */
+    private static int rawTypeHash(Type type) {
+      if (type instanceof Class<?>) return type.hashCode();
+      if (type instanceof ParameterizedType) {
+        return ((ParameterizedType) type).getRawType().hashCode();
+      }
+      return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key)) return false;
+      Key that = (Key) other;
+      return kind == that.kind
+          && skipPast == that.skipPast
+          && hashCode == that.hashCode
+          && Utils.equals(type, that.type)
+          && Arrays.equals(annotations, that.annotations)
+          && Arrays.equals(methodAnnotations, that.methodAnnotations);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
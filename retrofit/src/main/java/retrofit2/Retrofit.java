@@ -16,6 +16,7 @@
 package retrofit2;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
@@ -28,7 +29,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -73,9 +76,12 @@ public final class Retrofit {
    *   <li>{@code ServiceMethod} - annotations for the method have been fully parsed.</li>
    * </ol>
    * This map should only be accessed through {@link #loadServiceMethod} which contains the state
-   * transition logic.
+   * transition logic. It is shared with instances created by {@link #withBaseUrl(HttpUrl)}.
    */
-  private final ConcurrentHashMap<Method, Object> serviceMethodCache = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Method, Object> serviceMethodCache;
+
+  /** Converters and call adapters from cacheable factories, shared like the methods above. */
+  private final ResolutionCache resolutionCache;
 
   final okhttp3.Call.Factory callFactory;
   final HttpUrl baseUrl;
@@ -86,6 +92,18 @@ public final class Retrofit {
   final @Nullable Executor callbackExecutor;
   final boolean validateEagerly;
 
+  /**
+   * The {@code kotlinx.coroutines.CoroutineDispatcher} on which suspend functions convert response
+   * bodies, or null to convert on the HTTP client's thread. Typed as {@link Object} so that users
+   * without coroutines never load their classes.
+   */
+  final @Nullable Object conversionDispatcher;
+
+  /** The executor on which enqueued calls convert response bodies, or null for the HTTP thread. */
+  final @Nullable Executor conversionExecutor;
+  /** Executors selected by {@link ConversionExecutor @ConversionExecutor}, keyed by name. */
+  final Map<String, Executor> conversionExecutors;
+
   Retrofit(
       okhttp3.Call.Factory callFactory,
       HttpUrl baseUrl,
@@ -94,7 +112,12 @@ public final class Retrofit {
       List<CallAdapter.Factory> callAdapterFactories,
       int defaultCallAdapterFactoriesSize,
       @Nullable Executor callbackExecutor,
-      boolean validateEagerly) {
+      boolean validateEagerly,
+      @Nullable Object conversionDispatcher,
+      @Nullable Executor conversionExecutor,
+      Map<String, Executor> conversionExecutors,
+      ConcurrentHashMap<Method, Object> serviceMethodCache,
+      ResolutionCache resolutionCache) {
     this.callFactory = callFactory;
     this.baseUrl = baseUrl;
     this.converterFactories = converterFactories; // Copy+unmodifiable at call site.
@@ -103,6 +126,11 @@ public final class Retrofit {
     this.defaultCallAdapterFactoriesSize = defaultCallAdapterFactoriesSize;
     this.callbackExecutor = callbackExecutor;
     this.validateEagerly = validateEagerly;
+    this.conversionDispatcher = conversionDispatcher;
+    this.conversionExecutor = conversionExecutor;
+    this.conversionExecutors = conversionExecutors; // Copy+unmodifiable at call site.
+    this.serviceMethodCache = serviceMethodCache;
+    this.resolutionCache = resolutionCache;
   }
 
   /**
@@ -174,7 +202,7 @@ public final class Retrofit {
                 Reflection reflection = Platform.reflection;
                 return reflection.isDefaultMethod(method)
                     ? reflection.invokeDefaultMethod(method, service, proxy, args)
-                    : loadServiceMethod(service, method).invoke(proxy, args);
+                    : loadServiceMethod(service, method).invoke(baseUrl, proxy, args);
               }
             });
   }
@@ -275,6 +303,55 @@ public final class Retrofit {
     return baseUrl;
   }
 
+  /**
+   * Returns an instance which is identical to this one except that it sends requests to {@code
+   * baseUrl}.
+   *
+   * <p>Unlike {@code newBuilder().baseUrl(baseUrl).build()}, the returned instance shares the
+   * service methods which this instance has parsed, and those it parses are shared back. Use this
+   * when many otherwise identical instances differ only by base URL, such as one per tenant, so
+   * that each method's annotations are parsed and its converters and call adapter are created only
+   * once.
+   *
+   * <p>Converters and call adapters are created by whichever instance first parses a method. Those
+   * which capture the {@link Retrofit} instance passed to their factory, such as to create another
+   * service, will continue to use that instance's base URL.
+   *
+   * @see Builder#baseUrl(HttpUrl)
+   */
+  public Retrofit withBaseUrl(HttpUrl baseUrl) {
+    Objects.requireNonNull(baseUrl, "baseUrl == null");
+    List<String> pathSegments = baseUrl.pathSegments();
+    if (!"".equals(pathSegments.get(pathSegments.size() - 1))) {
+      throw new IllegalArgumentException("baseUrl must end in /: " + baseUrl);
+    }
+    return new Retrofit(
+        callFactory,
+        baseUrl,
+        converterFactories,
+        defaultConverterFactoriesSize,
+        callAdapterFactories,
+        defaultCallAdapterFactoriesSize,
+        callbackExecutor,
+        validateEagerly,
+        conversionDispatcher,
+        conversionExecutor,
+        conversionExecutors,
+        serviceMethodCache,
+        resolutionCache);
+  }
+
+  /**
+   * Returns an instance which is identical to this one except that it sends requests to {@code
+   * baseUrl}.
+   *
+   * @see #withBaseUrl(HttpUrl)
+   */
+  public Retrofit withBaseUrl(String baseUrl) {
+    Objects.requireNonNull(baseUrl, "baseUrl == null");
+    return withBaseUrl(HttpUrl.get(baseUrl));
+  }
+
   /**
    * Returns a list of the factories tried when creating a {@linkplain #callAdapter(Type,
    * Annotation[])} call adapter}.
@@ -304,12 +381,29 @@ public final class Retrofit {
     Objects.requireNonNull(returnType, "returnType == null");
     Objects.requireNonNull(annotations, "annotations == null");
 
+    ResolutionCache.Key key =
+        ResolutionCache.key(ResolutionCache.CALL_ADAPTER, skipPast, returnType, annotations, null);
+    Object cached = resolutionCache.get(key);
+    if (cached != null) {
+      return (CallAdapter<?, ?>) cached;
+    }
+
     int start = callAdapterFactories.indexOf(skipPast) + 1;
-    for (int i = start, count = callAdapterFactories.size(); i < count; i++) {
-      CallAdapter<?, ?> adapter = callAdapterFactories.get(i).get(returnType, annotations, this);
-      if (adapter != null) {
-        return adapter;
+    CallAdapter<?, ?> adapter = null;
+    ResolutionCache.Resolution resolution = resolutionCache.begin();
+    try {
+      for (int i = start, count = callAdapterFactories.size(); i < count; i++) {
+        CallAdapter.Factory factory = callAdapterFactories.get(i);
+        if (!factory.isCacheable()) {
+          resolution.cacheable = false;
+        }
+        adapter = factory.get(returnType, annotations, this);
+        if (adapter != null) {
+          return adapter;
+        }
       }
+    } finally {
+      resolutionCache.end(resolution, key, adapter);
     }
 
     StringBuilder builder =
@@ -364,15 +458,37 @@ public final class Retrofit {
     Objects.requireNonNull(parameterAnnotations, "parameterAnnotations == null");
     Objects.requireNonNull(methodAnnotations, "methodAnnotations == null");
 
+    ResolutionCache.Key key =
+        ResolutionCache.key(
+            ResolutionCache.REQUEST_BODY_CONVERTER,
+            skipPast,
+            type,
+            parameterAnnotations,
+            methodAnnotations);
+    Object cached = resolutionCache.get(key);
+    if (cached != null) {
+      //noinspection unchecked
+      return (Converter<T, RequestBody>) cached;
+    }
+
     int start = converterFactories.indexOf(skipPast) + 1;
-    for (int i = start, count = converterFactories.size(); i < count; i++) {
-      Converter.Factory factory = converterFactories.get(i);
-      Converter<?, RequestBody> converter =
-          factory.requestBodyConverter(type, parameterAnnotations, methodAnnotations, this);
-      if (converter != null) {
-        //noinspection unchecked
-        return (Converter<T, RequestBody>) converter;
+    Converter<?, RequestBody> converter = null;
+    ResolutionCache.Resolution resolution = resolutionCache.begin();
+    try {
+      for (int i = start, count = converterFactories.size(); i < count; i++) {
+        Converter.Factory factory = converterFactories.get(i);
+        if (!factory.isCacheable()) {
+          resolution.cacheable = false;
+        }
+        converter =
+            factory.requestBodyConverter(type, parameterAnnotations, methodAnnotations, this);
+        if (converter != null) {
+          //noinspection unchecked
+          return (Converter<T, RequestBody>) converter;
+        }
       }
+    } finally {
+      resolutionCache.end(resolution, key, converter);
     }
 
     StringBuilder builder =
@@ -412,14 +528,32 @@ public final class Retrofit {
     Objects.requireNonNull(type, "type == null");
     Objects.requireNonNull(annotations, "annotations == null");
 
+    ResolutionCache.Key key =
+        ResolutionCache.key(
+            ResolutionCache.RESPONSE_BODY_CONVERTER, skipPast, type, annotations, null);
+    Object cached = resolutionCache.get(key);
+    if (cached != null) {
+      //noinspection unchecked
+      return (Converter<ResponseBody, T>) cached;
+    }
+
     int start = converterFactories.indexOf(skipPast) + 1;
-    for (int i = start, count = converterFactories.size(); i < count; i++) {
-      Converter<ResponseBody, ?> converter =
-          converterFactories.get(i).responseBodyConverter(type, annotations, this);
-      if (converter != null) {
-        //noinspection unchecked
-        return (Converter<ResponseBody, T>) converter;
+    Converter<ResponseBody, ?> converter = null;
+    ResolutionCache.Resolution resolution = resolutionCache.begin();
+    try {
+      for (int i = start, count = converterFactories.size(); i < count; i++) {
+        Converter.Factory factory = converterFactories.get(i);
+        if (!factory.isCacheable()) {
+          resolution.cacheable = false;
+        }
+        converter = factory.responseBodyConverter(type, annotations, this);
+        if (converter != null) {
+          //noinspection unchecked
+          return (Converter<ResponseBody, T>) converter;
+        }
       }
+    } finally {
+      resolutionCache.end(resolution, key, converter);
     }
 
     StringBuilder builder =
@@ -448,18 +582,36 @@ public final class Retrofit {
     Objects.requireNonNull(type, "type == null");
     Objects.requireNonNull(annotations, "annotations == null");
 
-    for (int i = 0, count = converterFactories.size(); i < count; i++) {
-      Converter<?, String> converter =
-          converterFactories.get(i).stringConverter(type, annotations, this);
-      if (converter != null) {
-        //noinspection unchecked
-        return (Converter<T, String>) converter;
-      }
+    ResolutionCache.Key key =
+        ResolutionCache.key(ResolutionCache.STRING_CONVERTER, null, type, annotations, null);
+    Object cached = resolutionCache.get(key);
+    if (cached != null) {
+      //noinspection unchecked
+      return (Converter<T, String>) cached;
     }
 
-    // Nothing matched. Resort to default converter which just calls toString().
-    //noinspection unchecked
-    return (Converter<T, String>) BuiltInConverters.ToStringConverter.INSTANCE;
+    Converter<?, String> converter = null;
+    ResolutionCache.Resolution resolution = resolutionCache.begin();
+    try {
+      for (int i = 0, count = converterFactories.size(); i < count; i++) {
+        Converter.Factory factory = converterFactories.get(i);
+        if (!factory.isCacheable()) {
+          resolution.cacheable = false;
+        }
+        converter = factory.stringConverter(type, annotations, this);
+        if (converter != null) {
+          //noinspection unchecked
+          return (Converter<T, String>) converter;
+        }
+      }
+
+      // Nothing matched. Resort to default converter which just calls toString().
+      converter = BuiltInConverters.ToStringConverter.INSTANCE;
+      //noinspection unchecked
+      return (Converter<T, String>) converter;
+    } finally {
+      resolutionCache.end(resolution, key, converter);
+    }
   }
 
   /**
@@ -470,6 +622,14 @@ public final class Retrofit {
     return callbackExecutor;
   }
 
+  /**
+   * The executor on which the response bodies of enqueued calls are converted. This may be {@code
+   * null}, in which case they are converted on the HTTP client's thread.
+   */
+  public @Nullable Executor conversionExecutor() {
+    return conversionExecutor;
+  }
+
   public Builder newBuilder() {
     return new Builder(this);
   }
@@ -487,6 +647,10 @@ public final class Retrofit {
     private final List<CallAdapter.Factory> callAdapterFactories = new ArrayList<>();
     private @Nullable Executor callbackExecutor;
     private boolean validateEagerly;
+    /** Set by the {@code conversionDispatcher} extension function in {@code KotlinExtensions}. */
+    @Nullable Object conversionDispatcher;
+    private @Nullable Executor conversionExecutor;
+    private final Map<String, Executor> conversionExecutors = new LinkedHashMap<>();
 
     public Builder() {}
 
@@ -513,6 +677,9 @@ public final class Retrofit {
 
       callbackExecutor = retrofit.callbackExecutor;
       validateEagerly = retrofit.validateEagerly;
+      conversionDispatcher = retrofit.conversionDispatcher;
+      conversionExecutor = retrofit.conversionExecutor;
+      conversionExecutors.putAll(retrofit.conversionExecutors);
     }
 
     /**
@@ -641,6 +808,35 @@ public final class Retrofit {
       return this;
     }
 
+    /**
+     * The executor on which response bodies are converted when a call is {@linkplain Call#enqueue
+     * enqueued}. By default conversion happens on the HTTP client's thread, where expensive
+     * decoding delays other responses. The converter still reads the body from the network as it
+     * decodes, so the body is not buffered in memory first.
+     *
+     * <p>This applies to the built-in {@link Call} and {@code CompletableFuture} adapters, to
+     * {@code suspend} functions, and to any {@linkplain #addCallAdapterFactory call adapter} which
+     * uses {@link Call#enqueue}. Calls which are {@linkplain Call#execute() executed} convert their
+     * body on the calling thread. Individual methods can choose a different executor with {@link
+     * ConversionExecutor @ConversionExecutor}.
+     */
+    public Builder conversionExecutor(Executor executor) {
+      this.conversionExecutor = Objects.requireNonNull(executor, "executor == null");
+      return this;
+    }
+
+    /**
+     * Register an executor which methods annotated with {@link ConversionExecutor
+     * @ConversionExecutor(name)} use to convert their response bodies instead of the {@linkplain
+     * #conversionExecutor(Executor) default}.
+     */
+    public Builder conversionExecutor(String name, Executor executor) {
+      Objects.requireNonNull(name, "name == null");
+      Objects.requireNonNull(executor, "executor == null");
+      conversionExecutors.put(name, executor);
+      return this;
+    }
+
     /** Returns a modifiable list of call adapter factories. */
     public List<CallAdapter.Factory> callAdapterFactories() {
       return this.callAdapterFactories;
@@ -710,7 +906,12 @@ public final class Retrofit {
           unmodifiableList(callAdapterFactories),
           defaultCallAdapterFactories.size(),
           callbackExecutor,
-          validateEagerly);
+          validateEagerly,
+          conversionDispatcher,
+          conversionExecutor,
+          unmodifiableMap(new LinkedHashMap<>(conversionExecutors)),
+          new ConcurrentHashMap<>(),
+          new ResolutionCache());
     }
   }
 }
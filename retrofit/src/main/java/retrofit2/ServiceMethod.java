@@ -20,6 +20,7 @@ import static retrofit2.Utils.methodError;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import javax.annotation.Nullable;
+import okhttp3.HttpUrl;
 
 abstract class ServiceMethod<T> {
   static <T> ServiceMethod<T> parseAnnotations(Retrofit retrofit, Class<?> service, Method method) {
@@ -39,5 +40,5 @@ abstract class ServiceMethod<T> {
     return HttpServiceMethod.parseAnnotations(retrofit, method, requestFactory);
   }
 
-  abstract @Nullable T invoke(Object instance, Object[] args);
+  abstract @Nullable T invoke(HttpUrl baseUrl, Object instance, Object[] args);
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.http;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Override the timeouts of the call factory for calls to this method.
+ *
+ * <pre><code>
+ * &#64;Timeout(call = 30, read = 10, unit = SECONDS)
+ * &#64;GET("reports/{id}")
+ * Call&lt;Report&gt; report(@Path("id") long id);
+ * </code></pre>
+ *
+ * A value of zero leaves the corresponding timeout of the call factory unchanged. An active
+ * {@linkplain retrofit2.Deadline deadline} may further shorten the call timeout.
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Timeout {
+  /**
+   * The timeout for the entire call: resolving DNS, connecting, writing the request body, server
+   * processing, and reading the response body. See {@link okhttp3.Call#timeout()}.
+   */
+  long call() default 0;
+
+  /**
+   * The maximum time between reads of the response. This is only applied when the call factory is
+   * an {@link okhttp3.OkHttpClient OkHttpClient}, by deriving a client for this method which shares
+   * its connection pool and dispatcher.
+   */
+  long read() default 0;
+
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2025 Square, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package retrofit2.internal;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+
+/**
+ * A request body whose content is an already-filled {@link Buffer}.
+ *
+ * <p>Unlike {@code RequestBody.create(buffer.readByteString())} the content is never copied into a
+ * contiguous array. Writing shares the buffer's segments with the sink and leaves the buffer
+ * intact, so the body may be written any number of times (e.g., when OkHttp retries a request).
+ *
+ * <p>The buffer must not be modified after it is handed to this type.
+ */
+public final class BufferRequestBody extends RequestBody {
+  private final @Nullable MediaType contentType;
+  private final Buffer buffer;
+
+  public BufferRequestBody(@Nullable MediaType contentType, Buffer buffer) {
+    this.contentType = contentType;
+    this.buffer = buffer;
+  }
+
+  @Override
+  public @Nullable MediaType contentType() {
+    return contentType;
+  }
+
+  @Override
+  public long contentLength() {
+    return buffer.size();
+  }
+
+  @Override
+  public void writeTo(BufferedSink sink) throws IOException {
+    buffer.copyTo(sink.getBuffer(), 0, buffer.size());
+    sink.emitCompleteSegments();
+  }
+}